@@ -17,11 +17,14 @@ import jakarta.interceptor.InvocationContext;
 
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * Aspect used to suspend dochia logic when running in dryRun mode.
  * The aspect will suppress all calls to the service and any reporting.
+ * When only estimating the number of tests, the test cases created by playbooks are counted without being executed,
+ * so their payloads are never generated.
  * As Quarkus does not support true AOP, to keep the code as clean as possible @DryRun was used to annotate
  * classes which are required to suspend their execution.
  */
@@ -33,7 +36,7 @@ public class DryRunAspect {
     /**
      * Holds number of tests executed per path + http method.
      */
-    private final Map<String, Integer> paths = new TreeMap<>();
+    private final Map<String, Integer> paths = new ConcurrentSkipListMap<>();
 
     @Inject
     FilterArguments filterArguments;
@@ -41,8 +44,6 @@ public class DryRunAspect {
     @Inject
     ReportingArguments reportingArguments;
 
-    private int counter;
-
     /**
      * Intercepts the startSession from the TestCaseListener.
      *
@@ -68,6 +69,15 @@ public class DryRunAspect {
         return HttpResponse.empty();
     }
 
+    /**
+     * Doesn't do anything.
+     *
+     * @return a completed future holding an empty HttpResponse
+     */
+    public Object dontInvokeServiceAsync() {
+        return CompletableFuture.completedFuture(HttpResponse.empty());
+    }
+
     /**
      * Prevents test files from being written.
      *
@@ -97,7 +107,8 @@ public class DryRunAspect {
         } else {
             logger.noFormat("\n");
             CommonUtils.setDochiaLogLevel("INFO");
-            logger.noFormat("Number of tests that will be run with this configuration: {}", paths.values().stream().reduce(0, Integer::sum));
+            String countMessage = filterArguments.isEstimate() ? "Estimated maximum number of tests that will be run with this configuration: {}" : "Number of tests that will be run with this configuration: {}";
+            logger.noFormat(countMessage, paths.values().stream().reduce(0, Integer::sum));
             paths.forEach((s, integer) -> logger.noFormat(AnsiUtils.boldYellow(" -> path {}: {} tests"), s, integer));
         }
         return null;
@@ -110,13 +121,25 @@ public class DryRunAspect {
      * @return nothing
      */
     public Object report(InvocationContext context) {
-        Object data = context.getParameters()[1];
+        this.countTest(context.getParameters()[1]);
+        return null;
+    }
 
+    /**
+     * Logic to be executed instead of TestCaseListener.executeTestCase() when only estimating the number of tests.
+     *
+     * @param context invocation context
+     * @return nothing
+     */
+    public Object estimate(InvocationContext context) {
+        this.countTest(context.getParameters()[4]);
+        return null;
+    }
+
+    private void countTest(Object data) {
         if (data instanceof PlaybookData playbookData) {
             paths.merge(playbookData.getPath() + "_" + playbookData.getMethod(), 1, Integer::sum);
         }
-        counter++;
-        return null;
     }
 
     /**
@@ -134,15 +157,18 @@ public class DryRunAspect {
 
         String methodName = context.getMethod().getName();
         return switch (methodName) {
+            case String s when s.startsWith("executeTestCase") && filterArguments.isEstimate() -> estimate(context);
             case String s when s.startsWith("report") -> report(context);
             case String s when s.startsWith("endSession") -> endSession();
             case String s when s.startsWith("startSession") -> startSession(context);
+            case String s when s.startsWith("callAsync") -> dontInvokeServiceAsync();
             case String s when s.startsWith("call") -> dontInvokeService();
-            case String s when s.startsWith("writeTestCase") -> dontWriteTestCase();
+            case String s when s.startsWith("writeTestCase") || s.startsWith("renumberTestCase") -> dontWriteTestCase();
             case String s when s.startsWith("getErrors") ||
                     s.startsWith("initReportingPath") ||
                     s.startsWith("renderFuzzingHeader") ||
-                    s.startsWith("notifySummaryObservers") -> 0;
+                    s.startsWith("notifySummaryObservers") ||
+                    s.startsWith("notifyPathCompleted") -> 0;
             default -> context.proceed();
         };
     }
@@ -27,6 +27,18 @@ public class ApiArguments {
             defaultValue = "10000")
     private int maxRequestsPerMinute = 10000;
 
+    @CommandLine.Option(
+            names = {"--max-requests-per-host"}, paramLabel = "<max>",
+            description = "Maximum number of requests to the same host that can be in flight at the same time. The actual limit adapts between 1 and this value based on response times and @|bold 429|@/@|bold 503|@ responses, and additional requests wait until a slot is freed. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "5")
+    private int maxRequestsPerHost = 5;
+
+    @CommandLine.Option(
+            names = {"--max-throttling-retries"}, paramLabel = "<max>",
+            description = "Maximum number of times a request throttled with @|bold 429|@, or with @|bold 503|@ and a @|bold Retry-After|@ header, is sent again. The number of replays is recorded in the test case report. New requests to the same host are paused until the time in the @|bold Retry-After|@ header passes, or for an increasing backoff when the header is missing. Set to 0 to report throttled responses as they are. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "3")
+    private int maxThrottlingRetries = 3;
+
     @CommandLine.Option(
             names = {"--connection-timeout"}, paramLabel = "<timeout>",
             description = "Time period in seconds within which a connection should be established with the server. Default: @|bold,underline ${DEFAULT-VALUE}|@",
@@ -45,6 +57,36 @@ public class ApiArguments {
             defaultValue = "10")
     private int readTimeout = 10;
 
+    @CommandLine.Option(
+            names = {"--max-idle-connections"}, paramLabel = "<max>",
+            description = "Maximum number of idle connections kept open in the connection pool, to be reused by later requests. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "10")
+    private int maxIdleConnections = 10;
+
+    @CommandLine.Option(
+            names = {"--connection-keep-alive"}, paramLabel = "<seconds>",
+            description = "Time in seconds an idle connection is kept open in the connection pool before being closed. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "900")
+    private int connectionKeepAlive = 900;
+
+    @CommandLine.Option(
+            names = {"--dns-cache-ttl"}, paramLabel = "<seconds>",
+            description = "Time in seconds the resolved addresses of a host are cached, so that new connections don't wait for DNS lookups. Set to 0 to resolve hosts for every new connection. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "60")
+    private int dnsCacheTtl = 60;
+
+    @CommandLine.Option(
+            names = {"--prewarm-connections"}, paramLabel = "<number>",
+            description = "Number of connections, or HTTP/2 streams, opened to the @|bold --server|@ before running the first playbook, by sending @|bold HEAD|@ requests to it. At most @|bold --max-requests-per-host|@ connections are prewarmed. This way the first tests don't pay for DNS lookups and TLS handshakes. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "0")
+    private int prewarmConnections;
+
+    @CommandLine.Option(
+            names = {"--max-response-body-size"}, paramLabel = "<bytes>",
+            description = "Maximum number of bytes kept from each response body. Longer bodies are still read until the end so that their length, words and lines are reported, but only the first bytes are kept for reporting and checks. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "10485760")
+    private long maxResponseBodySize = 10485760;
+
     @CommandLine.Option(
             names = {"--user-agent"}, paramLabel = "<user-agent>",
             description = "The user agent to be set in the User-Agent HTTP header. Default: @|bold,underline dochia/${app.version}|@")
@@ -111,9 +111,14 @@ public class FilterArguments {
 
     @CommandLine.Option(names = {"-d", "--dry-run"},
             description = "Simulate a possible run without actually invoking the service. This will print how many tests will actually be executed and with which Playbooks")
-    @Getter
     private boolean dryRun;
 
+    @CommandLine.Option(names = {"--estimate"},
+            description = "Dry run which only counts the tests created by each Playbook, without generating their payloads. This is much faster than @|bold --dry-run|@, " +
+                    "but the result is an upper bound as tests which would be skipped while running, for example because the field cannot be fuzzed, are also counted")
+    @Getter
+    private boolean estimate;
+
     @CommandLine.Option(names = {"--field-types", "--field-type"}, paramLabel = "<type>",
             description = "A comma separated list of OpenAPI data types to include. It only supports standard types: @|underline https://swagger.io/docs/specification/data-models/data-types|@", split = ",")
     private List<FieldType> fieldTypes;
@@ -191,6 +196,25 @@ public class FilterArguments {
     )
     private Mode mode;
 
+    @CommandLine.Option(names = {"--shard"}, paramLabel = "<index>/<total>",
+            description = "Run only one shard of the tests, so that a run can be split across multiple machines. " +
+                    "Tests are grouped by path, HTTP method and playbook and the groups are split into @|bold total|@ shards of similar size. " +
+                    "Example: @|bold --shard 3/8|@ runs the third of eight shards. All shards must be run with the same contract and arguments")
+    private String shard;
+
+    @Getter
+    private int shardIndex = 1;
+
+    @Getter
+    private int shardCount = 1;
+
+    @CommandLine.Option(names = {"--time-budget"}, paramLabel = "<seconds>",
+            description = "Run only the tests fitting in the given number of seconds. Tests are grouped by path, HTTP method and playbook " +
+                    "and the groups most likely to find errors per second are run first, based on the results of previous runs written in the same output folder. " +
+                    "Groups already started are allowed to finish once the budget is reached")
+    @Getter
+    private long timeBudgetInSec;
+
 
     private Map<String, List<String>> skipPathPlaybooks = new HashMap<>();
     private Map<String, Map<String, List<String>>> skipPlaybooksForExtensionMap = new HashMap<>();
@@ -654,6 +678,58 @@ public class FilterArguments {
         this.suppliedPlaybooks = List.copyOf(profileConfig.playbooks());
     }
 
+    /**
+     * Validates the shard supplied through {@code --shard}, which must be in the {@code index/total} format,
+     * where {@code index} is between 1 and {@code total}.
+     *
+     * @param spec the PicoCli command spec for error reporting
+     */
+    public void validateShard(CommandLine.Model.CommandSpec spec) {
+        if (shard == null) {
+            return;
+        }
+        String[] shardParts = shard.trim().split("/", -1);
+        try {
+            if (shardParts.length == 2) {
+                shardIndex = Integer.parseInt(shardParts[0].trim());
+                shardCount = Integer.parseInt(shardParts[1].trim());
+            }
+        } catch (NumberFormatException _) {
+            shardCount = 0;
+        }
+        if (shardParts.length != 2 || shardCount < 1 || shardIndex < 1 || shardIndex > shardCount) {
+            throw new CommandLine.ParameterException(spec.commandLine(),
+                    "Invalid value for option '--shard': '" + shard + "'. Expected <index>/<total> with index between 1 and total, for example 3/8");
+        }
+    }
+
+    /**
+     * Checks if the run must fit in the time budget supplied through {@code --time-budget}.
+     *
+     * @return true if a time budget was supplied, false otherwise
+     */
+    public boolean isTimeBudgetEnabled() {
+        return timeBudgetInSec > 0;
+    }
+
+    /**
+     * Checks if the service must not be invoked, either because of {@code --dry-run} or {@code --estimate}.
+     *
+     * @return true if this is a dry run, false otherwise
+     */
+    public boolean isDryRun() {
+        return dryRun || estimate;
+    }
+
+    /**
+     * Checks if only a shard of the tests must be run.
+     *
+     * @return true if the run is split in more than one shard, false otherwise
+     */
+    public boolean isShardingEnabled() {
+        return shardCount > 1;
+    }
+
     /**
      * Configures only one playbook to be run.
      *
@@ -666,6 +742,7 @@ public class FilterArguments {
         this.skipPaths = Collections.emptyList();
         this.httpMethods = HttpMethod.restMethods();
         this.dryRun = false;
+        this.estimate = false;
     }
 
     /**
@@ -58,6 +58,15 @@ public class ProcessingArguments {
             description = "When set to @|bold true|@, it will cache payload examples for same schema name instead of generating new ones for each occurrence. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private boolean cachePayloads = true;
 
+    @CommandLine.Option(names = {"--reuse-responses"}, negatable = true, defaultValue = "false", fallbackValue = "true",
+            description = "When set to @|bold true|@, requests identical to an earlier one, with the same method, url, headers and body, are not sent again and the earlier response is checked against the expectations of the current playbook. Responses are reused only until a request changes the state of the service. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private boolean reuseResponses;
+
+    @CommandLine.Option(names = {"--reuse-responses-max-size"}, paramLabel = "<bytes>",
+            description = "Maximum number of bytes used to keep the responses reused by @|bold --reuse-responses|@, based on the length of their bodies. The least recently used responses are discarded first. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "104857600")
+    private long reuseResponsesMaxSize = 104857600;
+
     @CommandLine.Option(names = {"--large-strings-size"}, paramLabel = "<size>",
             description = "The size of the strings used by the Playbooks sending large values like @|bold VeryLargeStringsPlaybook|@. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private int largeStringsSize = 40000;
@@ -128,6 +137,15 @@ public class ProcessingArguments {
             description = "When set to @|bold true|@, runs a minimal health check using the 'health-check' profile to verify API endpoints are reachable before full testing. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private boolean healthCheck;
 
+    @Setter
+    @CommandLine.Option(names = {"--parallel-paths"}, paramLabel = "<n>",
+            description = "The number of paths fuzzed in parallel. Paths sharing the same first segment (for example @|bold /pets|@ and @|bold /pets/{id}|@) are always run in sequence, in the usual order, so that resources created by parent paths are available to child paths. Default: @|bold,underline ${DEFAULT-VALUE}|@ which means paths are fuzzed one at a time")
+    private int parallelPaths = 1;
+
+    @Setter
+    @CommandLine.Option(names = {"--max-in-flight-tests"}, paramLabel = "<n>",
+            description = "The maximum number of test cases executed concurrently when iterating through request fields. Fuzzed payloads are generated on a separate pool of threads while requests are sent asynchronously, and results are still reported in the usual order. Default: @|bold,underline ${DEFAULT-VALUE}|@ which means test cases are executed one at a time")
+    private int maxInFlightTests = 1;
 
 
     /**
@@ -168,6 +186,24 @@ public class ProcessingArguments {
         return Optional.ofNullable(contentType).orElse("application/json");
     }
 
+    /**
+     * Checks if paths should be fuzzed in parallel i.e. {@code --parallel-paths} is greater than 1.
+     *
+     * @return true if paths should be fuzzed in parallel, false otherwise
+     */
+    public boolean isParallelPathsEnabled() {
+        return parallelPaths > 1;
+    }
+
+    /**
+     * Checks if test cases iterating through request fields should be executed concurrently i.e. {@code --max-in-flight-tests} is greater than 1.
+     *
+     * @return true if test cases should be executed concurrently, false otherwise
+     */
+    public boolean isConcurrentTestsEnabled() {
+        return maxInFlightTests > 1;
+    }
+
     /**
      * Returns if usage of request body examples is enabled. This applies for examples set at media-type level in the requestBody: element.
      *
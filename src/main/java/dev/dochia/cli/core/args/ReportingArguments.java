@@ -30,6 +30,23 @@ public class ReportingArguments {
             description = "Output the report inside the @|bold dochia-report|@ folder in a sub-folder with the current timestamp")
     private boolean timestampReports;
 
+    @CommandLine.Option(names = {"--resume"},
+            description = "Resume a previous run that was interrupted, using the progress journal from the output folder. Tests already completed are kept in the report and the remaining ones are run with the seed of the previous run. The same arguments as the interrupted run must be supplied")
+    private boolean resume;
+
+    @CommandLine.Option(names = {"--jfr"},
+            description = "Record the run with Java Flight Recorder in a @|bold dochia-recording.jfr|@ file inside the output folder. Besides the JVM events, the recording holds an event for each phase of each test case: payload mutation, request building, network round-trip, response parsing, result evaluation and report writing, tagged with the playbook, path and test id")
+    private boolean recordJfr;
+
+    @CommandLine.Option(names = {"--metrics"},
+            description = "Export metrics in the Prometheus text format in a @|bold dochia-metrics.prom|@ file inside the output folder, updated every @|bold --metrics-interval|@ seconds while running. " +
+                    "Metrics include the number of test cases for each playbook and result and the response time percentiles for each path, HTTP method, playbook and response code")
+    private boolean exportMetrics;
+
+    @CommandLine.Option(names = {"--metrics-interval"}, paramLabel = "<seconds>",
+            description = "How often metrics are exported when @|bold --metrics|@ is enabled. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int metricsInterval = 10;
+
     @CommandLine.Option(names = {"--output-format"}, paramLabel = "<format>",
             description = "A list report formats. Default: @|bold,underline ${DEFAULT-VALUE}|@. For example, the @|bold,underline HTML_ONLY|@ report format does not contain any Javascript. This is useful for large number of tests, as the page will render faster and also in CI environments due to Javascript content security policies", split = ",")
     private List<ReportFormat> reportFormat = List.of(ReportFormat.HTML_JS);
@@ -52,6 +69,7 @@ public class ReportingArguments {
 
     @CommandLine.Option(names = {"--max-response-time"}, paramLabel = "<ms>",
             description = "Sets a response time limit in milliseconds. If responses take longer than the provided value, they will get marked as @|bold error|@ with reason @|underline Response time exceeds max|@." +
+                    " Only the time spent by the server is checked i.e. time to first byte, excluding DNS lookup, connecting, TLS handshake and transfer times." +
                     " The response time limit check is triggered only if the test case is considered successful i.e. response matches Playbook expectations")
     private int maxResponseTime;
 
@@ -135,6 +153,19 @@ public class ReportingArguments {
     }
 
 
+    /**
+     * Validates that {@code --resume} is not used together with {@code --timestamp-reports},
+     * as each timestamped run writes its report in a new folder.
+     *
+     * @param spec the PicoCli command spec for error reporting
+     */
+    public void validateResume(CommandLine.Model.CommandSpec spec) {
+        if (resume && timestampReports) {
+            throw new CommandLine.ParameterException(spec.commandLine(),
+                    "--resume cannot be used together with --timestamp-reports");
+        }
+    }
+
     /**
      * Returns the maskedHeaders list or an empty collection if maskedHeaders is null;
      *
@@ -0,0 +1,97 @@
+package dev.dochia.cli.core.command;
+
+import dev.dochia.cli.core.report.ExecutionTimings;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Orders units of work, such as (path, HTTP method, playbook) combinations, by how many errors they are expected
+ * to find per unit of time, so that runs with a time budget spend it on the most valuable tests.
+ * <p>
+ * Error rates start from a built-in prior of {@value #PRIOR_ERROR_RATE} errors per test, weighted as
+ * {@value #PRIOR_TESTS} tests. The prior is refined using the results of each playbook across all paths in previous runs
+ * and then using the results of each individual unit.
+ */
+public abstract class BudgetPlanner {
+    static final double PRIOR_ERROR_RATE = 0.05;
+    static final long PRIOR_TESTS = 20;
+
+    private BudgetPlanner() {
+        //ntd
+    }
+
+    /**
+     * Computes the error rate of each playbook from the results of previous runs, starting from the built-in prior.
+     *
+     * @param previousTimings the timings and results recorded by previous runs
+     * @return the expected errors per test for each playbook recorded by previous runs
+     */
+    static Map<String, Double> errorRatePerPlaybook(Collection<ExecutionTimings.UnitTiming> previousTimings) {
+        return previousTimings.stream()
+                .collect(Collectors.groupingBy(ExecutionTimings.UnitTiming::playbook)).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> errorRate(
+                        entry.getValue().stream().mapToLong(ExecutionTimings.UnitTiming::errors).sum(),
+                        entry.getValue().stream().mapToLong(ExecutionTimings.UnitTiming::tests).sum(),
+                        PRIOR_ERROR_RATE)));
+    }
+
+    /**
+     * Computes the expected errors per test for a unit, refining the error rate of its playbook with the
+     * results of the unit in previous runs, if any.
+     *
+     * @param previousTiming    the timing and results of the unit in previous runs
+     * @param playbookErrorRate the expected errors per test of the playbook
+     * @return the expected errors per test for the unit
+     */
+    static double errorRate(Optional<ExecutionTimings.UnitTiming> previousTiming, double playbookErrorRate) {
+        return previousTiming
+                .map(timing -> errorRate(timing.errors(), timing.tests(), playbookErrorRate))
+                .orElse(playbookErrorRate);
+    }
+
+    private static double errorRate(long errors, long tests, double priorErrorRate) {
+        return (errors + PRIOR_TESTS * priorErrorRate) / (tests + PRIOR_TESTS);
+    }
+
+    /**
+     * Orders the given units by expected errors per unit of time, highest first. When units are expected to be
+     * equally valuable, such as when there are no previous runs, the first unit of each group is run before the
+     * second unit of any group, so that the budget is spread across groups. Remaining ties keep the original order.
+     *
+     * @param units     the units to order
+     * @param testCount the estimated number of tests of each unit
+     * @param weight    the expected duration of each unit
+     * @param errorRate the expected errors per test of each unit
+     * @param group     the group of each unit, typically its playbook
+     * @param <T>       the type of the units
+     * @return the units, ordered by expected errors per unit of time
+     */
+    static <T> List<T> rankByYield(List<T> units, ToLongFunction<T> testCount, ToLongFunction<T> weight,
+                                   ToDoubleFunction<T> errorRate, Function<T, ?> group) {
+        Map<Object, Integer> groupOccurrences = new HashMap<>();
+        int[] occurrence = new int[units.size()];
+        double[] yield = new double[units.size()];
+        for (int i = 0; i < units.size(); i++) {
+            T unit = units.get(i);
+            occurrence[i] = groupOccurrences.merge(group.apply(unit), 1, Integer::sum);
+            yield[i] = errorRate.applyAsDouble(unit) * ((double) testCount.applyAsLong(unit) / Math.max(1, weight.applyAsLong(unit)));
+        }
+
+        return IntStream.range(0, units.size()).boxed()
+                .sorted(Comparator.<Integer>comparingDouble(i -> yield[i]).reversed()
+                        .thenComparingInt(i -> occurrence[i])
+                        .thenComparingInt(i -> i))
+                .map(units::get)
+                .toList();
+    }
+}
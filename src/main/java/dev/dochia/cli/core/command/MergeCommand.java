@@ -0,0 +1,142 @@
+package dev.dochia.cli.core.command;
+
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import dev.dochia.cli.core.command.model.HelpFullOption;
+import dev.dochia.cli.core.model.TestCase;
+import dev.dochia.cli.core.report.TestCaseExporter;
+import dev.dochia.cli.core.report.TestCaseListener;
+import dev.dochia.cli.core.util.JsonUtils;
+import dev.dochia.cli.core.util.VersionProvider;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import io.quarkus.arc.Unremovable;
+import jakarta.inject.Inject;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Merges the reports of multiple dochia runs into a single report. This is typically used to combine
+ * the reports of runs split using {@code --shard}. Test cases are read one at a time from each report folder,
+ * renumbered and written to the output folder, while the summary, statistics and error buckets are recomputed
+ * for the merged test cases.
+ */
+@CommandLine.Command(
+        name = "merge",
+        mixinStandardHelpOptions = true,
+        usageHelpAutoWidth = true,
+        description = "Merge the reports of multiple dochia runs into a single report.",
+        exitCodeListHeading = "%n@|bold,underline Exit Codes:|@%n",
+        exitCodeList = {"@|bold  0|@:Successful program execution",
+                "@|bold 2|@:Usage error: user input for the command was incorrect",
+                "@|bold 1|@:Internal execution error: an exception occurred when executing command"},
+        footerHeading = "%n@|bold,underline Examples:|@%n",
+        footer = {"  Merge the reports of two shards into the default merged report folder:",
+                "    dochia merge shard-1/dochia-report shard-2/dochia-report",
+                "", "  Merge the reports of two shards into a custom folder:",
+                "    dochia merge shard-1/dochia-report shard-2/dochia-report --output dochia-report"},
+        versionProvider = VersionProvider.class)
+@Unremovable
+public class MergeCommand implements Runnable, CommandLine.IExitCodeGenerator {
+    private static final String TEST_CASES = "testCases";
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(MergeCommand.class);
+    private final TestCaseListener testCaseListener;
+
+    @CommandLine.Parameters(
+            description = "The report folders to merge. Tests are numbered in the order the folders are supplied", arity = "1..")
+    String[] reportFolders;
+
+    @CommandLine.Mixin
+    HelpFullOption helpFullOption;
+
+    @CommandLine.Option(names = {"-o", "--output"},
+            description = "The folder where the merged report will be written. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    String outputReportFolder = "dochia-report-merged";
+
+    @CommandLine.Spec
+    CommandLine.Model.CommandSpec spec;
+
+    private int exitCode = CommandLine.ExitCode.OK;
+
+    /**
+     * Constructs a new instance of the {@code MergeCommand} class.
+     *
+     * @param testCaseListener the test case listener used to record the merged test cases and write the report
+     */
+    @Inject
+    public MergeCommand(TestCaseListener testCaseListener) {
+        this.testCaseListener = testCaseListener;
+    }
+
+    @Override
+    public void run() {
+        Path outputPath = Paths.get(outputReportFolder).toAbsolutePath().normalize();
+        if (Arrays.stream(reportFolders).map(folder -> Paths.get(folder).toAbsolutePath().normalize()).anyMatch(outputPath::equals)) {
+            throw new CommandLine.ParameterException(spec.commandLine(),
+                    "The output folder must be different from the report folders being merged: " + outputReportFolder);
+        }
+
+        try {
+            testCaseListener.initReportingPath(outputReportFolder);
+        } catch (IOException e) {
+            logger.fatal("Unable to create the output folder {}: {}", outputReportFolder, e.getMessage());
+            logger.debug("Stacktrace:", e);
+            exitCode = CommandLine.ExitCode.SOFTWARE;
+            return;
+        }
+
+        for (String reportFolder : reportFolders) {
+            this.mergeReportFolder(Paths.get(reportFolder));
+        }
+        testCaseListener.endSession();
+    }
+
+    private void mergeReportFolder(Path reportFolder) {
+        Path summaryPath = reportFolder.resolve(TestCaseExporter.REPORT_JS);
+        int mergedTests = 0;
+
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(summaryPath, StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (!TEST_CASES.equals(reader.nextName())) {
+                    reader.skipValue();
+                    continue;
+                }
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    String testId = JsonParser.parseReader(reader).getAsJsonObject().get("id").getAsString();
+                    mergedTests += this.mergeTestCase(reportFolder, testId);
+                }
+                reader.endArray();
+            }
+            reader.endObject();
+            logger.complete("Merged {} tests from {}", mergedTests, reportFolder);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Unable to merge report folder {}: {}", reportFolder, e.toString());
+            logger.debug("Stacktrace:", e);
+            exitCode = CommandLine.ExitCode.SOFTWARE;
+        }
+    }
+
+    private int mergeTestCase(Path reportFolder, String testId) throws IOException {
+        Path testCasePath = reportFolder.resolve(testId.replace(" ", "") + ".json");
+        if (!Files.exists(testCasePath)) {
+            logger.warning("Test case file {} not found, skipping it", testCasePath);
+            return 0;
+        }
+        TestCase testCase = JsonUtils.GSON.fromJson(Files.readString(testCasePath), TestCase.class);
+        testCaseListener.recordTestCase(testCase);
+        return 1;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
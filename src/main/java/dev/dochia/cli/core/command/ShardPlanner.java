@@ -0,0 +1,119 @@
+package dev.dochia.cli.core.command;
+
+import dev.dochia.cli.core.model.PlaybookData;
+import dev.dochia.cli.core.playbook.api.FieldPlaybook;
+import dev.dochia.cli.core.playbook.api.HeaderPlaybook;
+import dev.dochia.cli.core.playbook.api.TestCasePlaybook;
+import dev.dochia.cli.core.util.AnnotationUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Splits units of work into balanced partitions.
+ * <p>
+ * Units are assigned using the longest-processing-time-first rule: they are sorted by their weight, heaviest first,
+ * and each one is given to the partition with the lowest total weight so far. Ties are broken by the original
+ * position of the units and the index of the partitions, so the same input always produces the same partitions.
+ * Within a partition, units keep their original order.
+ * </p>
+ */
+public abstract class ShardPlanner {
+
+    private ShardPlanner() {
+        //ntd
+    }
+
+    /**
+     * Splits the given units into {@code count} partitions balanced by the given weight.
+     *
+     * @param units  the units to split, in running order
+     * @param weight the function giving the weight of a unit
+     * @param count  the number of partitions
+     * @param <T>    the type of the units
+     * @return a list with {@code count} partitions, each holding units in their original order
+     */
+    public static <T> List<List<T>> partition(List<T> units, ToLongFunction<T> weight, int count) {
+        long[] loads = new long[count];
+        int[] assignments = new int[units.size()];
+        List<Integer> heaviestFirst = IntStream.range(0, units.size()).boxed()
+                .sorted(Comparator.comparingLong((Integer index) -> weight.applyAsLong(units.get(index))).reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .toList();
+
+        for (int unitIndex : heaviestFirst) {
+            int lightest = 0;
+            for (int partition = 1; partition < count; partition++) {
+                if (loads[partition] < loads[lightest]) {
+                    lightest = partition;
+                }
+            }
+            loads[lightest] += weight.applyAsLong(units.get(unitIndex));
+            assignments[unitIndex] = lightest;
+        }
+
+        List<List<T>> partitions = IntStream.range(0, count).<List<T>>mapToObj(_ -> new ArrayList<>()).toList();
+        for (int unitIndex = 0; unitIndex < units.size(); unitIndex++) {
+            partitions.get(assignments[unitIndex]).add(units.get(unitIndex));
+        }
+        return partitions;
+    }
+
+    /**
+     * Computes the weight of each unit based on how long it took to run in a previous run.
+     * Units without a previous duration are weighted by their estimated number of tests, multiplied by the average
+     * duration of a test in the units with a previous duration. When no unit has a previous duration,
+     * the estimated number of tests is used as is.
+     *
+     * @param units              the units to weigh
+     * @param estimatedTestCount the function giving the estimated number of tests of a unit
+     * @param previousDuration   the function giving the duration of a unit in a previous run, if known
+     * @param <T>                the type of the units
+     * @return the weight of each unit
+     */
+    public static <T> Map<T, Long> weighByDuration(List<T> units, ToLongFunction<T> estimatedTestCount, Function<T, OptionalLong> previousDuration) {
+        long knownDuration = 0;
+        long knownTests = 0;
+        for (T unit : units) {
+            OptionalLong duration = previousDuration.apply(unit);
+            if (duration.isPresent()) {
+                knownDuration += duration.getAsLong();
+                knownTests += estimatedTestCount.applyAsLong(unit);
+            }
+        }
+        double durationPerTest = knownTests == 0 ? 1 : Math.max(1, (double) knownDuration / knownTests);
+
+        Map<T, Long> weights = new HashMap<>();
+        for (T unit : units) {
+            weights.put(unit, previousDuration.apply(unit)
+                    .orElse(Math.round(estimatedTestCount.applyAsLong(unit) * durationPerTest)));
+        }
+        return weights;
+    }
+
+    /**
+     * Estimates the number of tests a playbook will produce for the given data.
+     * Field playbooks run at least one test for each request field, header playbooks at least one for each header,
+     * while other playbooks typically run a single test.
+     *
+     * @param playbook the playbook
+     * @param data     the data the playbook runs with
+     * @return the estimated number of tests, at least 1
+     */
+    public static long estimateTestCount(TestCasePlaybook playbook, PlaybookData data) {
+        if (AnnotationUtils.findAnnotation(playbook.getClass(), FieldPlaybook.class) != null) {
+            return Math.max(1, data.getAllFieldsByHttpMethod().size());
+        }
+        if (AnnotationUtils.findAnnotation(playbook.getClass(), HeaderPlaybook.class) != null) {
+            return Math.max(1, data.getHeaders().size());
+        }
+        return 1;
+    }
+}
@@ -15,10 +15,15 @@ import dev.dochia.cli.core.context.GlobalContext;
 import dev.dochia.cli.core.exception.DochiaException;
 import dev.dochia.cli.core.factory.PlaybookDataFactory;
 import dev.dochia.cli.core.http.HttpMethod;
+import dev.dochia.cli.core.io.ServiceCaller;
 import dev.dochia.cli.core.model.DochiaConfiguration;
 import dev.dochia.cli.core.model.PlaybookData;
 import dev.dochia.cli.core.playbook.api.TestCasePlaybook;
 import dev.dochia.cli.core.report.ExecutionStatisticsListener;
+import dev.dochia.cli.core.report.ExecutionTimings;
+import dev.dochia.cli.core.report.FlightRecording;
+import dev.dochia.cli.core.report.MetricsRegistry;
+import dev.dochia.cli.core.report.ProgressJournal;
 import dev.dochia.cli.core.report.TestCaseListener;
 import dev.dochia.cli.core.util.AnsiUtils;
 import dev.dochia.cli.core.util.CommonUtils;
@@ -35,21 +40,32 @@ import io.swagger.v3.oas.models.PathItem;
 import jakarta.inject.Inject;
 import lombok.Getter;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.MDC;
 import picocli.CommandLine;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Main application command.
@@ -144,12 +160,27 @@ public class TestCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
     @Inject
     ExecutionStatisticsListener executionStatisticsListener;
 
+    @Inject
+    ExecutionTimings executionTimings;
+
+    @Inject
+    ProgressJournal progressJournal;
+
+    @Inject
+    FlightRecording flightRecording;
+
+    @Inject
+    MetricsRegistry metricsRegistry;
+
     @Inject
     GlobalContext globalContext;
 
     @Inject
     VersionChecker versionChecker;
 
+    @Inject
+    ServiceCaller serviceCaller;
+
     @Getter
     @ConfigProperty(name = "quarkus.application.version", defaultValue = "1.0.0")
     String appVersion;
@@ -176,6 +207,8 @@ public class TestCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
             exitCodeDueToErrors = CommandLine.ExitCode.SOFTWARE;
         } finally {
             testCaseListener.endSession();
+            flightRecording.stop();
+            metricsRegistry.stopExport();
             this.printSuggestions();
             try {
                 this.printVersion(newVersion);
@@ -210,18 +243,32 @@ public class TestCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
 
     private void doLogic() throws IOException {
         filterArguments.applyProfile(spec);
+        filterArguments.validateShard(spec);
+        reportingArguments.validateResume(spec);
         this.prepareRun();
         OpenAPI openAPI = this.createOpenAPI();
         this.checkOpenAPI(openAPI);
         apiArguments.validateValidServer(spec, openAPI);
         filterArguments.validateValidPaths(openAPI);
+        // timings from previous runs must be loaded before the reporting path is cleaned up
+        executionTimings.load(reportingArguments.getOutputReportFolder());
         // reporting path is initialized only if OpenAPI spec is successfully parsed
         testCaseListener.initReportingPath();
+        this.startProgressJournal();
+        this.startFlightRecording();
+        this.startMetricsExport();
         this.printConfiguration(openAPI);
         this.initGlobalData(openAPI);
+        this.prewarmConnections();
         this.startFuzzing(openAPI);
     }
 
+    private void prewarmConnections() {
+        if (!filterArguments.isDryRun()) {
+            serviceCaller.prewarmConnections();
+        }
+    }
+
     private void checkOpenAPI(OpenAPI openAPI) {
         if (openAPI == null || openAPI.getPaths() == null || openAPI.getPaths().isEmpty()) {
             throw new IllegalArgumentException("Provided OpenAPI specs are invalid!");
@@ -250,6 +297,20 @@ public class TestCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
                             "There were {} tests failing with i/o errors. Make sure that you have access to the service or that the --server url is correct!");
             logger.star(message, executionStatisticsListener.getIoErrors());
         }
+        if (executionStatisticsListener.getThrottled() > 0) {
+            String message =
+                    AnsiUtils.boldYellow(
+                            "There were {} responses throttled by the service with 429 or 503 and Retry-After, adding {} ms of waiting. Consider lowering --max-requests-per-minute or --max-requests-per-host!");
+            logger.star(message, executionStatisticsListener.getThrottled(), executionStatisticsListener.getThrottlingTimeInMs());
+        }
+        if (executionStatisticsListener.getNewConnections() > 0) {
+            logger.info("{} requests were sent on connections reused from the connection pool and {} on new connections. Use --max-idle-connections, --connection-keep-alive and --prewarm-connections to tune connection reuse.",
+                    executionStatisticsListener.getReusedConnections(), executionStatisticsListener.getNewConnections());
+        }
+        if (executionStatisticsListener.getReusedResponses() > 0) {
+            logger.info("{} requests identical to earlier ones were not sent again and reused the earlier responses. Use --no-reuse-responses to send all requests.",
+                    executionStatisticsListener.getReusedResponses());
+        }
     }
 
     private void initGlobalData(OpenAPI openAPI) {
@@ -280,15 +341,218 @@ public class TestCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
         testCaseListener.renderStartHeader();
 
         List<String> suppliedPaths = filterArguments.getPathsToRun(openAPI);
+        List<Map.Entry<String, PathItem>> pathsToFuzz = new ArrayList<>();
 
         for (Map.Entry<String, PathItem> entry :
                 this.sortPathsAlphabetically(openAPI, filesArguments.getPathsOrder())) {
             if (suppliedPaths.contains(entry.getKey())) {
-                this.fuzzPath(entry, openAPI);
+                pathsToFuzz.add(entry);
             } else {
                 logger.skip("Skipping path {}", entry.getKey());
             }
         }
+
+        if (filterArguments.isTimeBudgetEnabled()) {
+            this.fuzzWithinTimeBudget(pathsToFuzz, openAPI);
+        } else if (processingArguments.isParallelPathsEnabled()) {
+            this.fuzzPathsInParallel(pathsToFuzz, this.createPathRunner(pathsToFuzz, openAPI));
+        } else {
+            Function<Map.Entry<String, PathItem>, Runnable> pathRunner = this.createPathRunner(pathsToFuzz, openAPI);
+            pathsToFuzz.forEach(entry -> pathRunner.apply(entry).run());
+        }
+
+        progressJournal.close();
+        if (!filterArguments.isDryRun()) {
+            executionTimings.write(reportingArguments.getOutputReportFolder());
+        }
+    }
+
+    /**
+     * Starts journaling the progress of the run so that it can be resumed if interrupted.
+     * When resuming, the seed of the previous run is used and the tests it completed are restored in the report.
+     */
+    private void startProgressJournal() throws IOException {
+        if (filterArguments.isDryRun()) {
+            return;
+        }
+        long seed = progressJournal.start(reportingArguments.getOutputReportFolder(), reportingArguments.isResume(), DochiaRandom.getStoredSeed());
+        if (reportingArguments.isResume()) {
+            CommonUtils.initRandom(seed);
+            testCaseListener.restoreCompletedTestCases();
+        }
+    }
+
+    private void startFlightRecording() throws IOException {
+        if (reportingArguments.isRecordJfr()) {
+            flightRecording.start(reportingArguments.getOutputReportFolder());
+        }
+    }
+
+    private void startMetricsExport() throws IOException {
+        if (reportingArguments.isExportMetrics()) {
+            metricsRegistry.startExport(reportingArguments.getOutputReportFolder(), Duration.ofSeconds(reportingArguments.getMetricsInterval()));
+        }
+    }
+
+    /**
+     * Returns the function preparing each path and giving back the logic that runs its playbooks.
+     * When running a single shard, all paths must be prepared upfront in order to know the full list of
+     * (path, HTTP method, playbook) units before splitting them.
+     */
+    private Function<Map.Entry<String, PathItem>, Runnable> createPathRunner(List<Map.Entry<String, PathItem>> pathsToFuzz, OpenAPI openAPI) {
+        if (!filterArguments.isShardingEnabled()) {
+            return entry -> {
+                PreparedPath preparedPath = this.preparePath(entry, openAPI);
+                return () -> this.runPath(preparedPath, (_, _) -> true);
+            };
+        }
+        Map<String, PreparedPath> preparedPaths = new LinkedHashMap<>();
+        pathsToFuzz.forEach(entry -> preparedPaths.put(entry.getKey(), this.preparePath(entry, openAPI)));
+        Set<ShardUnit> shardUnits = this.selectShardUnits(preparedPaths.values());
+
+        return entry -> () -> this.runPath(preparedPaths.get(entry.getKey()),
+                (playbook, data) -> shardUnits.contains(new ShardUnit(entry.getKey(), data.getMethod(), playbook)));
+    }
+
+    /**
+     * Runs the (path, HTTP method, playbook) units expected to find the most errors per second first and stops starting
+     * new units once the time budget is spent. As units from different paths are interleaved, they are run sequentially,
+     * regardless of {@code --parallel-paths}. Second phase playbooks run after all the first phase ones, as they rely on
+     * the state created by them.
+     */
+    private void fuzzWithinTimeBudget(List<Map.Entry<String, PathItem>> pathsToFuzz, OpenAPI openAPI) {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(filterArguments.getTimeBudgetInSec());
+        if (processingArguments.isParallelPathsEnabled()) {
+            logger.warning("Paths are run sequentially when using --time-budget");
+        }
+        List<PreparedPath> preparedPaths = pathsToFuzz.stream().map(entry -> this.preparePath(entry, openAPI)).toList();
+        Set<ShardUnit> shardUnits = filterArguments.isShardingEnabled() ? this.selectShardUnits(preparedPaths) : Set.of();
+        BiPredicate<TestCasePlaybook, PlaybookData> unitFilter = filterArguments.isShardingEnabled()
+                ? (playbook, data) -> shardUnits.contains(new ShardUnit(data.getContractPath(), data.getMethod(), playbook))
+                : (_, _) -> true;
+
+        List<BudgetUnit> rankedUnits = Stream.concat(
+                this.rankByYield(preparedPaths, PreparedPath::firstPhasePlaybooks, unitFilter).stream(),
+                this.rankByYield(preparedPaths, PreparedPath::secondPhasePlaybooks, unitFilter).stream()).toList();
+
+        int startedUnits = 0;
+        while (startedUnits < rankedUnits.size() && System.currentTimeMillis() < deadline) {
+            BudgetUnit unit = rankedUnits.get(startedUnits++);
+            this.runSinglePlaybook(unit.playbook(), unit.data());
+        }
+        preparedPaths.forEach(preparedPath -> testCaseListener.notifyPathCompleted(preparedPath.path()));
+        logger.info("Time budget of {} seconds: ran {} out of {} path, HTTP method and playbook combinations",
+                filterArguments.getTimeBudgetInSec(), startedUnits, rankedUnits.size());
+    }
+
+    private List<BudgetUnit> rankByYield(List<PreparedPath> preparedPaths, Function<PreparedPath, List<TestCasePlaybook>> phasePlaybooks,
+                                         BiPredicate<TestCasePlaybook, PlaybookData> unitFilter) {
+        List<BudgetUnit> units = new ArrayList<>();
+        for (PreparedPath preparedPath : preparedPaths) {
+            for (TestCasePlaybook playbook : phasePlaybooks.apply(preparedPath)) {
+                List<PlaybookData> dataInScope = preparedPath.data().stream().filter(data -> unitFilter.test(playbook, data)).toList();
+                this.filterFuzzingData(dataInScope, playbook).forEach(data -> units.add(new BudgetUnit(data, playbook)));
+            }
+        }
+        Map<String, Double> playbooksErrorRate = BudgetPlanner.errorRatePerPlaybook(executionTimings.getPreviousTimings());
+        ToLongFunction<BudgetUnit> testCount = unit -> ShardPlanner.estimateTestCount(unit.playbook(), unit.data());
+        Map<BudgetUnit, Long> unitsWeight = ShardPlanner.weighByDuration(units, testCount,
+                unit -> executionTimings.getPreviousDuration(unit.data().getContractPath(), unit.data().getMethod(), unit.playbook().toString()));
+
+        return BudgetPlanner.rankByYield(units, testCount, unitsWeight::get,
+                unit -> BudgetPlanner.errorRate(
+                        executionTimings.getPreviousTiming(unit.data().getContractPath(), unit.data().getMethod(), unit.playbook().toString()),
+                        playbooksErrorRate.getOrDefault(unit.playbook().toString(), BudgetPlanner.PRIOR_ERROR_RATE)),
+                unit -> unit.playbook().toString());
+    }
+
+    private Set<ShardUnit> selectShardUnits(Collection<PreparedPath> preparedPaths) {
+        Map<ShardUnit, Long> unitsTestCount = new LinkedHashMap<>();
+        for (PreparedPath preparedPath : preparedPaths) {
+            for (TestCasePlaybook playbook : preparedPath.allPlaybooks()) {
+                preparedPath.data().stream()
+                        .filter(data -> !playbook.skipForHttpMethods().contains(data.getMethod()))
+                        .forEach(data -> unitsTestCount.merge(new ShardUnit(preparedPath.path(), data.getMethod(), playbook),
+                                ShardPlanner.estimateTestCount(playbook, data), Long::sum));
+            }
+        }
+        // timings from previous runs are local to each machine, so shards are balanced only by what the contract gives
+        List<ShardUnit> units = List.copyOf(unitsTestCount.keySet());
+        List<ShardUnit> selectedUnits = ShardPlanner.partition(units, unitsTestCount::get, filterArguments.getShardCount())
+                .get(filterArguments.getShardIndex() - 1);
+        logger.info("Running shard {}/{}: {} out of {} path, HTTP method and playbook combinations",
+                filterArguments.getShardIndex(), filterArguments.getShardCount(), selectedUnits.size(), units.size());
+
+        return Set.copyOf(selectedUnits);
+    }
+
+    /**
+     * Paths are grouped by their first segment and each group is run sequentially on a single worker.
+     * Payloads are generated on the calling thread, while only the playbooks execution is handed to the workers.
+     * Groups are started longest first, so that the run doesn't end with a long group running alone. The length
+     * of a group is given by the timings of its paths in previous runs or, when not available, by its number of paths.
+     */
+    private void fuzzPathsInParallel(List<Map.Entry<String, PathItem>> pathsToFuzz, Function<Map.Entry<String, PathItem>, Runnable> pathRunner) {
+        int workers = processingArguments.getParallelPaths();
+        List<List<Map.Entry<String, PathItem>>> pathGroups = this.sortLongestFirst(pathsToFuzz.stream()
+                .collect(Collectors.groupingBy(entry -> getPathGroup(entry.getKey()), LinkedHashMap::new, Collectors.toList())));
+        logger.debug("Fuzzing {} path groups using {} workers", pathGroups.size(), workers);
+
+        testCaseListener.startParallelProgress(pathsToFuzz.stream().map(Map.Entry::getKey).toList());
+        Map<String, String> loggingContext = Optional.ofNullable(MDC.getCopyOfContextMap()).orElse(Map.of());
+        Semaphore preparedGroups = new Semaphore(workers * 2);
+        List<Future<?>> runningGroups = new ArrayList<>();
+
+        try (ExecutorService pathsExecutor = Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("dochia-path-", 1).factory())) {
+            for (List<Map.Entry<String, PathItem>> pathGroup : pathGroups) {
+                preparedGroups.acquire();
+                List<Runnable> preparedPaths = pathGroup.stream().map(pathRunner).toList();
+                runningGroups.add(pathsExecutor.submit(() -> {
+                    MDC.setContextMap(loggingContext);
+                    try {
+                        preparedPaths.forEach(Runnable::run);
+                    } finally {
+                        MDC.clear();
+                        preparedGroups.release();
+                    }
+                }));
+            }
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+        this.checkForFailures(runningGroups);
+    }
+
+    private List<List<Map.Entry<String, PathItem>>> sortLongestFirst(Map<String, List<Map.Entry<String, PathItem>>> pathGroups) {
+        List<String> paths = pathGroups.values().stream().flatMap(List::stream).map(Map.Entry::getKey).toList();
+        Map<String, Long> pathsWeight = ShardPlanner.weighByDuration(paths, _ -> 1, executionTimings::getPreviousPathDuration);
+        Map<String, Long> groupsWeight = pathGroups.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, group -> group.getValue().stream().mapToLong(entry -> pathsWeight.get(entry.getKey())).sum()));
+
+        return pathGroups.keySet().stream()
+                .sorted(Comparator.<String>comparingLong(groupsWeight::get).reversed())
+                .map(pathGroups::get)
+                .toList();
+    }
+
+    private void checkForFailures(List<Future<?>> runningGroups) {
+        for (Future<?> runningGroup : runningGroups) {
+            try {
+                runningGroup.get();
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    static String getPathGroup(String path) {
+        int secondSlash = path.indexOf('/', 1);
+        return secondSlash == -1 ? path : path.substring(0, secondSlash);
     }
 
     private Set<Map.Entry<String, PathItem>> sortPathsAlphabetically(
@@ -325,6 +589,10 @@ public class TestCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
         reportingArguments.processLogData();
         apiArguments.validateRequired(spec);
         filesArguments.loadConfig();
+        if (filterArguments.isEstimate()) {
+            // test cases are only counted, so there are no payloads worth generating ahead of sending
+            processingArguments.setMaxInFlightTests(1);
+        }
     }
 
     private void printConfiguration(OpenAPI openAPI) {
@@ -357,23 +625,34 @@ public class TestCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
                 AnsiUtils.blue(processingArguments.getSanitizationStrategy()));
         logger.config("Seed value: {}", AnsiUtils.blue(DochiaRandom.getStoredSeed()));
         logger.config("Quality gate: {}", AnsiUtils.blue(qualityGateArguments.getQualityGateDescription()));
+        if (filterArguments.isTimeBudgetEnabled()) {
+            logger.config("Time budget: {} seconds", AnsiUtils.blue(filterArguments.getTimeBudgetInSec()));
+        }
+        if (filterArguments.isShardingEnabled()) {
+            logger.config("Shard: {} of {}", AnsiUtils.blue(filterArguments.getShardIndex()), AnsiUtils.blue(filterArguments.getShardCount()));
+        }
 
         int nofOfOperations = OpenApiUtils.getNumberOfOperations(openAPI);
         logger.config("Total number of OpenAPI operations: {}", AnsiUtils.blue(nofOfOperations));
     }
 
-    private void fuzzPath(Map.Entry<String, PathItem> pathItemEntry, OpenAPI openAPI) {
+    /**
+     * Generates the data for all the HTTP operations of the given path and resolves the
+     * playbooks to run against it. Playbook selection is resolved here as {@code FilterArguments}
+     * caches are not meant to be accessed concurrently.
+     */
+    private PreparedPath preparePath(Map.Entry<String, PathItem> pathItemEntry, OpenAPI openAPI) {
         /* WE NEED TO ITERATE THROUGH EACH HTTP OPERATION CORRESPONDING TO THE CURRENT PATH ENTRY*/
         String ansiString = AnsiUtils.bold("Start fuzzing path {}");
         logger.start(ansiString, pathItemEntry.getKey());
-        List<PlaybookData> playbookDataList =
-                playbookDataFactory.fromPathItem(pathItemEntry.getKey(), pathItemEntry.getValue(), openAPI);
+        List<PlaybookData> playbookDataList = DochiaRandom.callWithSeed(DochiaRandom.deriveSeed(pathItemEntry.getKey()),
+                () -> playbookDataFactory.fromPathItem(pathItemEntry.getKey(), pathItemEntry.getValue(), openAPI));
 
         if (playbookDataList.isEmpty()) {
             logger.warning(
                     "There was a problem fuzzing path {}. You might want to enable debug mode for more details. Additionally, you can log a GitHub issue at: https://github.com/dochia-dev/dochia-cli/issues.",
                     pathItemEntry.getKey());
-            return;
+            return new PreparedPath(pathItemEntry.getKey(), List.of(), List.of(), List.of());
         }
 
         /* If certain HTTP methods are skipped, we remove the corresponding FuzzingData */
@@ -391,17 +670,26 @@ public class TestCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
         List<TestCasePlaybook> playbooksToRun =
                 filterArguments.filterOutPlaybooksNotMatchingHttpMethodsAndPath(
                         allHttpMethodsFromFuzzingData, pathItemEntry.getKey());
-        this.runPlaybooks(filteredPlaybookData, playbooksToRun);
-        this.runPlaybooks(filteredPlaybookData, filterArguments.getSecondPhasePlaybooks());
+        List<TestCasePlaybook> secondPhasePlaybooks = filterArguments.getSecondPhasePlaybooks();
+
+        return new PreparedPath(pathItemEntry.getKey(), filteredPlaybookData, playbooksToRun, secondPhasePlaybooks);
     }
 
-    private void runPlaybooks(
-            List<PlaybookData> playbookDataListWithHttpMethodsFiltered, List<TestCasePlaybook> configuredTestCasePlaybooks) {
+    private void runPath(PreparedPath preparedPath, BiPredicate<TestCasePlaybook, PlaybookData> unitFilter) {
+        this.runPlaybooks(preparedPath.data(), preparedPath.firstPhasePlaybooks(), unitFilter);
+        this.runPlaybooks(preparedPath.data(), preparedPath.secondPhasePlaybooks(), unitFilter);
+        testCaseListener.notifyPathCompleted(preparedPath.path());
+    }
+
+    private void runPlaybooks(List<PlaybookData> playbookDataListWithHttpMethodsFiltered,
+                              List<TestCasePlaybook> configuredTestCasePlaybooks, BiPredicate<TestCasePlaybook, PlaybookData> unitFilter) {
         /*We only run the playbooks supplied and exclude those that do not apply for certain HTTP methods*/
 
         for (TestCasePlaybook testCasePlaybook : configuredTestCasePlaybooks) {
-            List<PlaybookData> filteredData =
-                    this.filterFuzzingData(playbookDataListWithHttpMethodsFiltered, testCasePlaybook);
+            List<PlaybookData> dataInScope = playbookDataListWithHttpMethodsFiltered.stream()
+                    .filter(data -> unitFilter.test(testCasePlaybook, data))
+                    .toList();
+            List<PlaybookData> filteredData = this.filterFuzzingData(dataInScope, testCasePlaybook);
             filteredData.forEach(data -> runSinglePlaybook(testCasePlaybook, data));
         }
     }
@@ -412,11 +700,24 @@ public class TestCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
                     AnsiUtils.yellow(testCasePlaybook.toString()), data.getPath());
             return;
         }
+        if (testCaseListener.isCompletedInPreviousRun(testCasePlaybook.getClass(), data.getContractPath(), data.getMethod().name())) {
+            logger.skip("Skipping Playbook {} for path {} and http method {} as it was completed by the previous run",
+                    AnsiUtils.yellow(testCasePlaybook.toString()), data.getPath(), data.getMethod());
+            return;
+        }
         logPlaybookStart(testCasePlaybook, data);
 
         testCaseListener.beforeFuzz(testCasePlaybook.getClass(), data.getContractPath(), data.getMethod().name());
-        testCasePlaybook.run(data);
-        testCaseListener.afterFuzz(data.getContractPath());
+        long startTime = System.currentTimeMillis();
+        long testsBefore = executionStatisticsListener.getExecutionsPerPath(data.getContractPath());
+        long errorsBefore = executionStatisticsListener.getPathErrors(data.getContractPath());
+        // each unit gets its own random stream, so that its tests don't depend on the units run before it or in parallel
+        DochiaRandom.runWithSeed(DochiaRandom.deriveSeed(data.getContractPath(), data.getMethod().name(), testCasePlaybook.toString()),
+                () -> testCasePlaybook.run(data));
+        executionTimings.record(data.getContractPath(), data.getMethod(), testCasePlaybook.toString(), System.currentTimeMillis() - startTime,
+                executionStatisticsListener.getExecutionsPerPath(data.getContractPath()) - testsBefore,
+                executionStatisticsListener.getPathErrors(data.getContractPath()) - errorsBefore);
+        testCaseListener.afterFuzz(testCasePlaybook.getClass(), data.getContractPath(), data.getMethod().name());
 
         logPlaybookEnd(testCasePlaybook, data);
     }
@@ -467,6 +768,19 @@ public class TestCommand implements Runnable, CommandLine.IExitCodeGenerator, Au
         return CommandLine.ExitCode.OK;
     }
 
+    private record PreparedPath(String path, List<PlaybookData> data,
+                                List<TestCasePlaybook> firstPhasePlaybooks, List<TestCasePlaybook> secondPhasePlaybooks) {
+        List<TestCasePlaybook> allPlaybooks() {
+            return Stream.concat(firstPhasePlaybooks.stream(), secondPhasePlaybooks.stream()).toList();
+        }
+    }
+
+    private record ShardUnit(String path, HttpMethod method, TestCasePlaybook playbook) {
+    }
+
+    private record BudgetUnit(PlaybookData data, TestCasePlaybook playbook) {
+    }
+
     @Override
     public void close() throws Exception {
         executor.shutdown();
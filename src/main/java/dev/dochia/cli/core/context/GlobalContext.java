@@ -30,6 +30,7 @@ import org.slf4j.MDC;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -52,16 +53,16 @@ public class GlobalContext {
     public static final String CONTRACT_PATH = "contractPath";
     public static final String ORIGINAL = "Original";
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(GlobalContext.class);
-    private final Map<String, Schema> schemaMap = new HashMap<>();
+    private final Map<String, Schema> schemaMap = Collections.synchronizedMap(new HashMap<>());
     private final Map<String, Example> exampleMap = new HashMap<>();
-    private final Map<String, Map<String, Object>> additionalProperties = new HashMap<>();
-    private final Set<Discriminator> discriminators = new HashSet<>();
-    private final Map<String, Set<Object>> discriminatorValues = new HashMap<>();
-    private final Map<String, Deque<String>> postSuccessfulResponses = new HashMap<>();
-    private final Set<String> successfulDeletes = new HashSet<>();
+    private final Map<String, Map<String, Object>> additionalProperties = Collections.synchronizedMap(new HashMap<>());
+    private final Set<Discriminator> discriminators = Collections.synchronizedSet(new HashSet<>());
+    private final Map<String, Set<Object>> discriminatorValues = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, Deque<String>> postSuccessfulResponses = Collections.synchronizedMap(new HashMap<>());
+    private final Set<String> successfulDeletes = Collections.synchronizedSet(new HashSet<>());
     private final Properties playbooksConfiguration = new Properties();
-    private final Map<String, List<String>> generatedExamplesCache = new HashMap<>();
-    private final Set<ProcessingError> recordedErrors = new HashSet<>();
+    private final Map<String, List<String>> generatedExamplesCache = Collections.synchronizedMap(new HashMap<>());
+    private final Set<ProcessingError> recordedErrors = Collections.synchronizedSet(new HashSet<>());
     private final Set<String> errorLeaksKeywords = new HashSet<>();
 
     private DochiaConfiguration dochiaConfiguration;
@@ -122,7 +123,7 @@ public class GlobalContext {
      */
     public void recordDiscriminator(String currentProperty, Discriminator discriminator, List<Object> examples) {
         String discriminatorKey = (StringUtils.isBlank(currentProperty) ? "" : currentProperty + "#") + discriminator.getPropertyName();
-        Set<Object> discriminatorValuesSet = this.discriminatorValues.computeIfAbsent(discriminatorKey, k -> new HashSet<>());
+        Set<Object> discriminatorValuesSet = this.discriminatorValues.computeIfAbsent(discriminatorKey, _ -> Collections.synchronizedSet(new HashSet<>()));
         discriminators.add(discriminator);
         if (CommonUtils.isNotEmpty(examples)) {
             discriminatorValuesSet.addAll(examples);
@@ -2,6 +2,7 @@ package dev.dochia.cli.core.generator.simple;
 
 import dev.dochia.cli.core.util.CommonUtils;
 import dev.dochia.cli.core.util.DochiaModelUtils;
+import dev.dochia.cli.core.util.DochiaRandom;
 import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.StringUtils;
 
@@ -207,7 +208,7 @@ public class NumberGenerator {
             minimum = schema.getMinimum();
         }
 
-        BigDecimal randomBigDecimal = minimum.add(BigDecimal.valueOf(Math.random()));
+        BigDecimal randomBigDecimal = minimum.add(BigDecimal.valueOf(DochiaRandom.instance().nextDouble()));
         return randomBigDecimal.doubleValue();
     }
 
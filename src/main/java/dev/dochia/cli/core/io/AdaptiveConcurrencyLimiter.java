@@ -0,0 +1,289 @@
+package dev.dochia.cli.core.io;
+
+import dev.dochia.cli.core.model.HttpResponse;
+import dev.dochia.cli.core.model.NetworkTimings;
+import dev.dochia.cli.core.util.KeyValuePair;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import okhttp3.HttpUrl;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of concurrent requests sent to each target host, adapting the limit to how the host behaves.
+ * <p>
+ * The limit follows an additive-increase/multiplicative-decrease (AIMD) scheme. It starts at 1 and doubles with each successful
+ * response until the first sign of congestion (slow start), after which it grows by roughly one request per round trip.
+ * It is halved when the host responds with {@code 429} or {@code 503}, and it is slightly reduced when a request times out or
+ * when the response time goes well above the lowest response time observed for the host. Response times are compared in nanoseconds,
+ * using the time to first byte when available, and the lowest response time is never considered below {@value #MIN_BASELINE_IN_MS} ms,
+ * so that hosts responding in less than a millisecond are not throttled by jitter. Other I/O errors, such as connection resets,
+ * are common when fuzzing and don't change the limit.
+ * When a throttling response includes a {@code Retry-After} header, no new requests are sent to that host until the given time passes,
+ * but for no longer than {@value #MAX_PAUSE_IN_SECONDS} seconds.
+ * </p>
+ * <p>
+ * The limit never goes below 1 or above the configured maximum, so with requests sent one at a time the limiter only has an effect
+ * when the host asks to back off.
+ * </p>
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double LATENCY_BACKOFF = 0.9;
+    private static final double THROTTLING_BACKOFF = 0.5;
+    private static final double BASELINE_DRIFT = 0.05;
+    private static final long MIN_BASELINE_IN_MS = 5;
+    private static final long MIN_BASELINE_NANOS = TimeUnit.MILLISECONDS.toNanos(MIN_BASELINE_IN_MS);
+    private static final long MAX_PAUSE_IN_SECONDS = 60;
+    static final String RETRY_AFTER = "Retry-After";
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+    private final Map<String, HostLimit> hostLimits = new ConcurrentHashMap<>();
+    private final int maxLimit;
+
+    /**
+     * Creates a new limiter.
+     *
+     * @param maxLimit the maximum number of concurrent requests allowed for a single host
+     */
+    public AdaptiveConcurrencyLimiter(int maxLimit) {
+        this.maxLimit = Math.max(1, maxLimit);
+    }
+
+    /**
+     * Waits until a new request can be sent to the host of the given url.
+     * The returned permit must be completed once the request finishes.
+     * If the thread is interrupted while waiting, no permit is taken and the request must not be sent.
+     *
+     * @param url the url the request will be sent to
+     * @return a permit for the request
+     * @throws InterruptedIOException if the thread is interrupted while waiting; the interrupt flag is kept set
+     */
+    public Permit acquire(String url) throws InterruptedIOException {
+        HostLimit hostLimit = hostLimits.computeIfAbsent(getHost(url), _ -> new HostLimit());
+        hostLimit.acquire();
+        return new Permit(hostLimit);
+    }
+
+    /**
+     * Returns the current concurrency limit for the host of the given url.
+     *
+     * @param url the url of the host
+     * @return the current concurrency limit
+     */
+    public int getLimit(String url) {
+        return Optional.ofNullable(hostLimits.get(getHost(url))).map(HostLimit::currentLimit).orElse(1);
+    }
+
+    /**
+     * Stops sending new requests to the host of the given url for the given duration.
+     * Requests already in flight are not affected.
+     *
+     * @param url   the url of the host
+     * @param pause how long to wait before sending new requests to the host
+     */
+    public void pause(String url, Duration pause) {
+        hostLimits.computeIfAbsent(getHost(url), _ -> new HostLimit()).pause(pause);
+    }
+
+    static String getHost(String url) {
+        return Optional.ofNullable(HttpUrl.parse(String.valueOf(url)))
+                .map(httpUrl -> httpUrl.host() + ":" + httpUrl.port())
+                .orElse(String.valueOf(url));
+    }
+
+    static Duration parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return Duration.ZERO;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException _) {
+            try {
+                Duration untilDate = Duration.between(Instant.now(), ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+                return untilDate.isNegative() ? Duration.ZERO : untilDate;
+            } catch (DateTimeParseException _) {
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    static long getLatencyNanos(HttpResponse response) {
+        return Optional.ofNullable(response.getNetworkTimings())
+                .map(NetworkTimings::timeToFirstByteNanos)
+                .orElseGet(() -> TimeUnit.MILLISECONDS.toNanos(response.getResponseTimeInMs()));
+    }
+
+    static boolean isThrottling(int responseCode) {
+        return responseCode == 429 || responseCode == 503;
+    }
+
+    /**
+     * A permit for a request sent to a host. Completing the permit frees its slot and adjusts the host's limit.
+     */
+    public final class Permit {
+        private final HostLimit hostLimit;
+        private boolean completed;
+
+        private Permit(HostLimit hostLimit) {
+            this.hostLimit = hostLimit;
+        }
+
+        /**
+         * Completes the permit with the response received from the host.
+         *
+         * @param response the response received
+         */
+        public void complete(HttpResponse response) {
+            if (this.markCompleted()) {
+                String retryAfter = Optional.ofNullable(response.getHeader(RETRY_AFTER)).map(KeyValuePair::getValue).orElse(null);
+                hostLimit.release(response.getResponseCode(), getLatencyNanos(response), parseRetryAfter(retryAfter));
+            }
+        }
+
+        /**
+         * Completes the permit when no response was received from the host because of an error.
+         * Only timeouts are taken as a sign of congestion.
+         *
+         * @param error the error that made the request fail
+         */
+        public void fail(Exception error) {
+            if (this.markCompleted()) {
+                hostLimit.releaseOnFailure(error instanceof InterruptedIOException);
+            }
+        }
+
+        private synchronized boolean markCompleted() {
+            boolean firstCompletion = !completed;
+            completed = true;
+            return firstCompletion;
+        }
+    }
+
+    private final class HostLimit {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition slotAvailable = lock.newCondition();
+        private double limit = 1;
+        private boolean slowStart = true;
+        private int inFlight;
+        private long baselineLatency = -1;
+        private long pausedUntilNanos = System.nanoTime();
+
+        void acquire() throws InterruptedIOException {
+            try {
+                lock.lockInterruptibly();
+            } catch (InterruptedException _) {
+                throw interrupted();
+            }
+            try {
+                long pauseNanos = pausedUntilNanos - System.nanoTime();
+                while (inFlight >= (int) limit || pauseNanos > 0) {
+                    if (inFlight >= (int) limit) {
+                        slotAvailable.await();
+                    } else {
+                        slotAvailable.awaitNanos(pauseNanos);
+                    }
+                    pauseNanos = pausedUntilNanos - System.nanoTime();
+                }
+                inFlight++;
+            } catch (InterruptedException _) {
+                throw interrupted();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static InterruptedIOException interrupted() {
+            Thread.currentThread().interrupt();
+            return new InterruptedIOException("Interrupted while waiting to send a request");
+        }
+
+        void release(int responseCode, long latencyNanos, Duration retryAfter) {
+            lock.lock();
+            try {
+                inFlight--;
+                if (isThrottling(responseCode)) {
+                    this.decrease(THROTTLING_BACKOFF);
+                    if (!retryAfter.isZero()) {
+                        this.pauseUntil(retryAfter);
+                        logger.debug("Host asked to retry after {} ms, pausing new requests", retryAfter.toMillis());
+                    }
+                } else if (baselineLatency >= 0 && latencyNanos > Math.max(MIN_BASELINE_NANOS, baselineLatency) * LATENCY_TOLERANCE) {
+                    this.decrease(LATENCY_BACKOFF);
+                } else {
+                    this.increase();
+                }
+                this.updateBaseline(latencyNanos);
+                slotAvailable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void releaseOnFailure(boolean timeout) {
+            lock.lock();
+            try {
+                inFlight--;
+                if (timeout) {
+                    this.decrease(LATENCY_BACKOFF);
+                }
+                slotAvailable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void pause(Duration pause) {
+            lock.lock();
+            try {
+                this.pauseUntil(pause);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void pauseUntil(Duration pause) {
+            long pauseNanos = Math.min(pause.toNanos(), TimeUnit.SECONDS.toNanos(MAX_PAUSE_IN_SECONDS));
+            pausedUntilNanos = Math.max(pausedUntilNanos, System.nanoTime() + pauseNanos);
+        }
+
+        int currentLimit() {
+            lock.lock();
+            try {
+                return (int) limit;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void increase() {
+            limit = slowStart ? limit * 2 : limit + 1 / limit;
+            limit = Math.min(maxLimit, limit);
+        }
+
+        private void decrease(double factor) {
+            slowStart = false;
+            limit = Math.max(1, limit * factor);
+            logger.debug("Concurrency limit decreased to {}", (int) limit);
+        }
+
+        private void updateBaseline(long latencyNanos) {
+            if (baselineLatency < 0 || latencyNanos < baselineLatency) {
+                baselineLatency = latencyNanos;
+            } else {
+                baselineLatency += (long) ((latencyNanos - baselineLatency) * BASELINE_DRIFT);
+            }
+        }
+    }
+}
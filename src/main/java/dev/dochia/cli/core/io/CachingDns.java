@@ -0,0 +1,41 @@
+package dev.dochia.cli.core.io;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import okhttp3.Dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Dns which keeps the resolved addresses of each host for a fixed time, so that new connections opened while
+ * fuzzing don't wait for DNS lookups. Hosts which cannot be resolved are not cached.
+ */
+class CachingDns implements Dns {
+    private final Dns delegate;
+    private final Cache<String, List<InetAddress>> addresses;
+
+    /**
+     * Creates a new Dns caching the addresses resolved by the given delegate.
+     *
+     * @param delegate the Dns used to resolve hosts
+     * @param ttl      how long the addresses of a host are cached
+     */
+    CachingDns(Dns delegate, Duration ttl) {
+        this.delegate = delegate;
+        this.addresses = CacheBuilder.newBuilder().expireAfterWrite(ttl).build();
+    }
+
+    @Override
+    public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+        List<InetAddress> cachedAddresses = addresses.getIfPresent(hostname);
+        if (cachedAddresses != null) {
+            return cachedAddresses;
+        }
+        List<InetAddress> resolvedAddresses = List.copyOf(delegate.lookup(hostname));
+        addresses.put(hostname, resolvedAddresses);
+        return resolvedAddresses;
+    }
+}
@@ -0,0 +1,134 @@
+package dev.dochia.cli.core.io;
+
+import dev.dochia.cli.core.model.NetworkTimings;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+/**
+ * Records how long each network phase of a call takes, using {@link System#nanoTime()}.
+ * A new listener is attached to every request sent by the {@link ServiceCaller}, as a request tag.
+ * <p>
+ * When OkHttp retries a connection, the DNS, connect and TLS durations of all the attempts are added up,
+ * while the request and response durations are the ones of the last attempt.
+ * </p>
+ */
+class NetworkTimingsListener extends EventListener {
+    private long dnsStart;
+    private long dnsNanos;
+    private long connectStart;
+    private long connectNanos;
+    private long tlsStart;
+    private long tlsNanos;
+    private long requestStart;
+    private long requestEnd;
+    private long responseHeadersStart;
+    private long responseBodyStart;
+    private long responseBodyEnd;
+    private boolean newConnection;
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        dnsNanos += System.nanoTime() - dnsStart;
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectStart = System.nanoTime();
+        newConnection = true;
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        tlsStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        tlsNanos += System.nanoTime() - tlsStart;
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        this.endConnect();
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol, IOException ioe) {
+        this.endConnect();
+    }
+
+    private void endConnect() {
+        connectNanos += System.nanoTime() - connectStart;
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        requestStart = System.nanoTime();
+        requestEnd = 0;
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        requestEnd = System.nanoTime();
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        requestEnd = System.nanoTime();
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        responseHeadersStart = System.nanoTime();
+    }
+
+    @Override
+    public void responseBodyStart(Call call) {
+        responseBodyStart = System.nanoTime();
+        responseBodyEnd = 0;
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        responseBodyEnd = System.nanoTime();
+    }
+
+    /**
+     * Returns the timings recorded so far. This is called after the response body was read, but before the
+     * response is closed, so a body which was not read until the end is measured up to this moment.
+     *
+     * @return the network timings of the call
+     */
+    NetworkTimings timings() {
+        long bodyReadNanos = responseBodyStart == 0 ? 0 : (responseBodyEnd == 0 ? System.nanoTime() : responseBodyEnd) - responseBodyStart;
+        return new NetworkTimings(dnsNanos, Math.max(0, connectNanos - tlsNanos), tlsNanos, elapsed(requestStart, requestEnd),
+                elapsed(requestEnd, responseHeadersStart), bodyReadNanos);
+    }
+
+    /**
+     * Checks if the call was sent on a connection reused from the connection pool.
+     *
+     * @return true if no new connection was opened for the call, false otherwise
+     */
+    boolean isReusedConnection() {
+        return !newConnection;
+    }
+
+    private static long elapsed(long start, long end) {
+        return start == 0 || end == 0 ? 0 : Math.max(0, end - start);
+    }
+}
@@ -0,0 +1,118 @@
+package dev.dochia.cli.core.io;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import dev.dochia.cli.core.http.HttpMethod;
+import dev.dochia.cli.core.model.HttpRequest;
+import dev.dochia.cli.core.model.HttpResponse;
+import dev.dochia.cli.core.util.KeyValuePair;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Keeps the responses received for the requests sent during a run, keyed by a fingerprint of the HTTP method, final url,
+ * headers and body of each request, so that byte-identical requests sent by different playbooks are only sent once.
+ * <p>
+ * Only responses which don't change the state of the service are kept: any response for {@code GET}, {@code HEAD}
+ * and {@code TRACE} requests and 4xx responses for the other methods. Any other response for the other methods
+ * might mean the state of the service changed, so all kept responses are discarded. Throttled responses are never kept.
+ * Responses to requests sent before the state last changed are not kept either, as they might be stale.
+ * </p>
+ */
+public class RequestFingerprintCache {
+    private static final Set<String> SAFE_METHODS = Set.of(HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.TRACE.name());
+    private static final int RESPONSE_OVERHEAD_IN_BYTES = 1024;
+
+    private final Cache<HashCode, HttpResponse> responses;
+    private final AtomicLong stateChanges = new AtomicLong();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSizeInBytes the maximum number of bytes used by the responses kept, estimated from the length of
+     *                       their bodies; the least recently used ones are discarded first
+     */
+    public RequestFingerprintCache(long maxSizeInBytes) {
+        this.responses = CacheBuilder.newBuilder()
+                .maximumWeight(maxSizeInBytes)
+                .weigher(RequestFingerprintCache::weigh)
+                .build();
+    }
+
+    private static int weigh(HashCode fingerprint, HttpResponse response) {
+        long bodySize = response.getBody() == null ? 0 : 2L * response.getBody().length();
+        return (int) Math.min(Integer.MAX_VALUE, RESPONSE_OVERHEAD_IN_BYTES + bodySize);
+    }
+
+    /**
+     * Computes the fingerprint of the given request. Headers matching {@code ignoredHeader}, such as the ones
+     * holding the test identifier, are not part of the fingerprint.
+     *
+     * @param request       the request with its final url
+     * @param ignoredHeader headers which are different for each test without changing the request
+     * @return the fingerprint of the request
+     */
+    public static HashCode fingerprint(HttpRequest request, Predicate<KeyValuePair<String, Object>> ignoredHeader) {
+        Hasher hasher = Hashing.murmur3_128().newHasher()
+                .putString(String.valueOf(request.getHttpMethod()), StandardCharsets.UTF_8).putByte((byte) 0)
+                .putString(String.valueOf(request.getUrl()), StandardCharsets.UTF_8).putByte((byte) 0);
+        request.getHeaders().stream()
+                .filter(ignoredHeader.negate())
+                .forEach(header -> hasher.putString(String.valueOf(header.getKey()), StandardCharsets.UTF_8).putByte((byte) 0)
+                        .putString(String.valueOf(header.getValue()), StandardCharsets.UTF_8).putByte((byte) 0));
+        if (HttpMethod.requiresBody(request.getHttpMethod())) {
+            hasher.putString(String.valueOf(request.getPayload()), StandardCharsets.UTF_8);
+        }
+        return hasher.hash();
+    }
+
+    /**
+     * Returns the response received for an earlier request with the same fingerprint, if kept.
+     *
+     * @param fingerprint the fingerprint of the request
+     * @return the response received for the earlier request
+     */
+    public Optional<HttpResponse> get(HashCode fingerprint) {
+        return Optional.ofNullable(responses.getIfPresent(fingerprint));
+    }
+
+    /**
+     * Returns the number of times the state of the service changed so far. This must be read before sending
+     * a request and passed to {@link #put(HashCode, HttpResponse, long)} with its response.
+     *
+     * @return the current state version
+     */
+    public long stateVersion() {
+        return stateChanges.get();
+    }
+
+    /**
+     * Keeps the response received for a request, if it didn't change the state of the service.
+     *
+     * @param fingerprint  the fingerprint of the request
+     * @param response     the response received
+     * @param stateVersion the {@link #stateVersion()} read before sending the request
+     */
+    public void put(HashCode fingerprint, HttpResponse response, long stateVersion) {
+        boolean safeMethod = SAFE_METHODS.contains(response.getHttpMethod());
+        if (!safeMethod && response.getResponseCode() / 100 != 4) {
+            synchronized (stateChanges) {
+                stateChanges.incrementAndGet();
+                responses.invalidateAll();
+            }
+        } else if (!AdaptiveConcurrencyLimiter.isThrottling(response.getResponseCode())) {
+            synchronized (stateChanges) {
+                if (stateChanges.get() == stateVersion) {
+                    responses.put(fingerprint, response);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package dev.dochia.cli.core.io;
+
+import dev.dochia.cli.core.http.HttpMethod;
+import dev.dochia.cli.core.util.KeyValuePair;
+
+import java.util.List;
+
+/**
+ * The parts of the requests sent to an operation which are the same for all its test cases. A template is compiled
+ * once per operation by the {@link ServiceCaller}, so that each test only fills in the values which change from one
+ * test to another, such as the fuzzed payload, path params and headers.
+ *
+ * @param decodedUrl                the url of the operation, with the curly brackets unescaped
+ * @param decodedUrlVariables       the elements of {@code decodedUrl} holding path variables
+ * @param urlWithUrlParams          the url of the operation, with the {@code --url-params} replaced
+ * @param urlWithUrlParamsVariables the elements of {@code urlWithUrlParams} still holding path variables
+ * @param additionalQueryParams     the query params supplied through {@code --query-params}
+ * @param suppliedHeaders           the headers supplied through {@code --headers}, before evaluating their expressions
+ * @param basicAuthHeader           the basic authentication header value, or {@code null} if not supplied
+ */
+record RequestTemplate(String decodedUrl, List<String> decodedUrlVariables, String urlWithUrlParams, List<String> urlWithUrlParamsVariables,
+                       List<KeyValuePair<String, String>> additionalQueryParams, List<SuppliedHeader> suppliedHeaders, String basicAuthHeader) {
+
+    /**
+     * Identifies the operation a template is compiled for.
+     *
+     * @param server       the server of the operation
+     * @param relativePath the path of the operation, relative to the server
+     * @param contractPath the path of the operation, as defined in the contract
+     * @param httpMethod   the HTTP method of the operation
+     */
+    record Key(String server, String relativePath, String contractPath, HttpMethod httpMethod) {
+    }
+
+    /**
+     * A header supplied through {@code --headers}.
+     *
+     * @param name           the name of the header
+     * @param value          the value of the header, which might be an expression evaluated for each request
+     * @param authentication whether this is an authentication header
+     */
+    record SuppliedHeader(String name, String value, boolean authentication) {
+    }
+}
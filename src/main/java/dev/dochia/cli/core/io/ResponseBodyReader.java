@@ -0,0 +1,116 @@
+package dev.dochia.cli.core.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads response bodies in a single pass over their bytes, keeping only the first bytes of large bodies.
+ * <p>
+ * The whole body is read so that its length in bytes, number of words and number of lines are computed over the full
+ * stream, but only the first {@code maxCapturedBytes} bytes are kept in memory and decoded for reporting and schema checks.
+ * Words and lines are counted in the same way as {@link java.util.StringTokenizer} and splitting by {@code [\r|\n]}
+ * would count them over the decoded body.
+ * </p>
+ */
+public class ResponseBodyReader {
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final long maxCapturedBytes;
+
+    /**
+     * Creates a new reader.
+     *
+     * @param maxCapturedBytes the maximum number of bytes kept from each body
+     */
+    public ResponseBodyReader(long maxCapturedBytes) {
+        this.maxCapturedBytes = Math.max(0, maxCapturedBytes);
+    }
+
+    /**
+     * Reads the given body until its end.
+     *
+     * @param body    the body stream
+     * @param charset the charset of the body, used to decode the captured bytes
+     * @return the captured body together with statistics computed over the full body
+     * @throws IOException if the body cannot be read
+     */
+    public CapturedBody read(InputStream body, Charset charset) throws IOException {
+        ByteArrayOutputStream captured = new ByteArrayOutputStream((int) Math.min(maxCapturedBytes, BUFFER_SIZE));
+        BodyStatistics statistics = new BodyStatistics();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            statistics.update(buffer, read);
+            int toCapture = (int) Math.min(read, maxCapturedBytes - captured.size());
+            if (toCapture > 0) {
+                captured.write(buffer, 0, toCapture);
+            }
+        }
+        byte[] capturedBytes = captured.toByteArray();
+        return new CapturedBody(decode(capturedBytes, charset), statistics.bytes, statistics.words, statistics.lines(),
+                statistics.bytes > capturedBytes.length);
+    }
+
+    private static String decode(byte[] bytes, Charset charset) {
+        boolean utf8Bom = StandardCharsets.UTF_8.equals(charset) && bytes.length >= UTF8_BOM.length
+                && bytes[0] == UTF8_BOM[0] && bytes[1] == UTF8_BOM[1] && bytes[2] == UTF8_BOM[2];
+        int offset = utf8Bom ? UTF8_BOM.length : 0;
+        return new String(bytes, offset, bytes.length - offset, charset);
+    }
+
+    /**
+     * A response body read by {@link ResponseBodyReader}.
+     *
+     * @param body                 the decoded captured bytes
+     * @param contentLengthInBytes the length of the full body in bytes
+     * @param numberOfWords        the number of words in the full body
+     * @param numberOfLines        the number of lines in the full body
+     * @param truncated            whether the body is longer than the captured bytes
+     */
+    public record CapturedBody(String body, long contentLengthInBytes, int numberOfWords, int numberOfLines, boolean truncated) {
+    }
+
+    /**
+     * Words are separated by the {@link java.util.StringTokenizer} default delimiters. Lines are the pieces separated by
+     * {@code \r}, {@code |} or {@code \n}, without the trailing empty pieces, with an empty body having one line.
+     * As all delimiters are ASCII, they never occur inside multibyte UTF-8 characters and can be matched on bytes.
+     */
+    private static final class BodyStatistics {
+        private long bytes;
+        private int words;
+        private int lineSeparators;
+        private int lineSeparatorsBeforeLastContent;
+        private boolean inWord;
+        private boolean hasContent;
+
+        void update(byte[] buffer, int length) {
+            for (int i = 0; i < length; i++) {
+                byte current = buffer[i];
+                boolean wordSeparator = current == ' ' || current == '\t' || current == '\n' || current == '\r' || current == '\f';
+                if (!wordSeparator && !inWord) {
+                    words++;
+                }
+                inWord = !wordSeparator;
+
+                if (current == '\r' || current == '|' || current == '\n') {
+                    lineSeparators++;
+                } else {
+                    lineSeparatorsBeforeLastContent = lineSeparators;
+                    hasContent = true;
+                }
+            }
+            bytes += length;
+        }
+
+        int lines() {
+            if (bytes == 0) {
+                return 1;
+            }
+            return hasContent ? lineSeparatorsBeforeLastContent + 1 : 0;
+        }
+    }
+}
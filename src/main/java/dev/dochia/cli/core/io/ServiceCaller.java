@@ -2,11 +2,13 @@ package dev.dochia.cli.core.io;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
 import com.google.common.net.HttpHeaders;
 import com.google.common.util.concurrent.RateLimiter;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.jayway.jsonpath.PathNotFoundException;
 import dev.dochia.cli.core.args.ApiArguments;
 import dev.dochia.cli.core.args.AuthArguments;
@@ -20,6 +22,9 @@ import dev.dochia.cli.core.io.util.FormEncoder;
 import dev.dochia.cli.core.model.HttpRequest;
 import dev.dochia.cli.core.model.HttpResponse;
 import dev.dochia.cli.core.playbook.api.DryRun;
+import dev.dochia.cli.core.report.ExecutionStatisticsListener;
+import dev.dochia.cli.core.report.TestCaseContext;
+import dev.dochia.cli.core.report.TestCasePhaseEvent;
 import dev.dochia.cli.core.report.TestCaseListener;
 import dev.dochia.cli.core.strategy.FuzzingStrategy;
 import dev.dochia.cli.core.util.CommonUtils;
@@ -27,13 +32,20 @@ import dev.dochia.cli.core.util.DSLWords;
 import dev.dochia.cli.core.util.JsonUtils;
 import dev.dochia.cli.core.util.KeyValuePair;
 import dev.dochia.cli.core.util.OpenApiUtils;
+import dev.dochia.cli.core.util.RepeatedValue;
 import dev.dochia.cli.core.util.WordUtils;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Dns;
+import okhttp3.EventListener;
 import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
@@ -52,12 +64,15 @@ import javax.net.ssl.X509TrustManager;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.URLEncoder;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -69,10 +84,15 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.StringTokenizer;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 
@@ -91,6 +111,9 @@ public class ServiceCaller {
     public static final String DOCHIA_REMOVE_FIELD = "dochia_remove_field";
     private static final Object SUBSTITUTE_FOR_NULL = "SET_TO_NULL";
     private static final String DOCHIA_TRACE_HEADER_UUID = "X-Dochia-Trace-Id";
+    private static final Duration THROTTLING_BACKOFF = Duration.ofSeconds(1);
+    private static final long MAX_REQUEST_TEMPLATES = 10_000;
+    private static final Pattern REMOVED_PARAMS = Pattern.compile("\\{(.*?)}");
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(ServiceCaller.class);
     private static final List<String> AUTH_HEADERS = Arrays.asList("authorization", "jwt", "api-key", "api_key", "apikey",
             "secret", "secret-key", "secret_key", "api-secret", "api_secret", "apisecret", "api-token", "api_token", "apitoken");
@@ -100,9 +123,13 @@ public class ServiceCaller {
     private final ApiArguments apiArguments;
     private final ProcessingArguments processingArguments;
     private final GlobalContext globalContext;
+    private final ExecutionStatisticsListener executionStatisticsListener;
+    private final Cache<RequestTemplate.Key, RequestTemplate> requestTemplates = CacheBuilder.newBuilder().maximumSize(MAX_REQUEST_TEMPLATES).build();
     OkHttpClient okHttpClient;
 
     private RateLimiter rateLimiter;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private RequestFingerprintCache requestFingerprintCache;
 
     /**
      * Constructs a new {@code ServiceCaller} with the specified parameters.
@@ -113,23 +140,30 @@ public class ServiceCaller {
      * @param authArguments       The authentication arguments.
      * @param apiArguments        The API arguments.
      * @param processingArguments The processing arguments.
+     * @param executionStatisticsListener The listener recording the execution statistics.
      */
     @Inject
-    public ServiceCaller(GlobalContext context, TestCaseListener lr, FilesArguments filesArguments, AuthArguments authArguments, ApiArguments apiArguments, ProcessingArguments processingArguments) {
+    public ServiceCaller(GlobalContext context, TestCaseListener lr, FilesArguments filesArguments, AuthArguments authArguments, ApiArguments apiArguments,
+                         ProcessingArguments processingArguments, ExecutionStatisticsListener executionStatisticsListener) {
         this.testCaseListener = lr;
         this.filesArguments = filesArguments;
         this.authArguments = authArguments;
         this.apiArguments = apiArguments;
         this.processingArguments = processingArguments;
         this.globalContext = context;
+        this.executionStatisticsListener = executionStatisticsListener;
     }
 
     /**
-     * Inits the rate limiter with the value received in the {@code --maxRequestsPerMinute} argument.
+     * Inits the rate limiter with the value received in the {@code --maxRequestsPerMinute} argument
+     * and the adaptive concurrency limiter bounded by the {@code --max-requests-per-host} argument.
+     * It also inits the cache of responses reused for identical requests.
      */
     @PostConstruct
     public void initRateLimiter() {
         rateLimiter = RateLimiter.create(1.0 * apiArguments.getMaxRequestsPerMinute() / 60);
+        concurrencyLimiter = new AdaptiveConcurrencyLimiter(apiArguments.getMaxRequestsPerHost());
+        requestFingerprintCache = new RequestFingerprintCache(processingArguments.getReuseResponsesMaxSize());
     }
 
     /**
@@ -137,6 +171,7 @@ public class ServiceCaller {
      */
     @PostConstruct
     public void initHttpClient() {
+        this.closeHttpClient();
         try {
             final TrustManager[] trustAllCerts = this.buildTrustAllManager();
             final SSLSocketFactory sslSocketFactory = this.buildSslSocketFactory(trustAllCerts);
@@ -146,7 +181,10 @@ public class ServiceCaller {
                     .connectTimeout(apiArguments.getConnectionTimeout(), TimeUnit.SECONDS)
                     .readTimeout(apiArguments.getReadTimeout(), TimeUnit.SECONDS)
                     .writeTimeout(apiArguments.getWriteTimeout(), TimeUnit.SECONDS)
-                    .connectionPool(new ConnectionPool(10, 15, TimeUnit.MINUTES))
+                    .connectionPool(new ConnectionPool(Math.max(0, apiArguments.getMaxIdleConnections()), Math.max(1, apiArguments.getConnectionKeepAlive()), TimeUnit.SECONDS))
+                    .dns(apiArguments.getDnsCacheTtl() > 0 ? new CachingDns(Dns.SYSTEM, Duration.ofSeconds(apiArguments.getDnsCacheTtl())) : Dns.SYSTEM)
+                    .dispatcher(this.buildDispatcher())
+                    .eventListenerFactory(call -> Objects.requireNonNullElse(call.request().tag(NetworkTimingsListener.class), EventListener.NONE))
                     .sslSocketFactory(sslSocketFactory, (X509TrustManager) trustAllCerts[0])
                     .retryOnConnectionFailure(true)
                     .protocols(processingArguments.isHttp2PriorKnowledge() ? List.of(Protocol.H2_PRIOR_KNOWLEDGE) : List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
@@ -159,6 +197,62 @@ public class ServiceCaller {
         }
     }
 
+    /**
+     * Opens connections to the {@code --server} before the first playbook runs, by sending {@code --prewarm-connections}
+     * concurrent {@code HEAD} requests to it, but no more than {@code --max-requests-per-host}. The connections are kept in the connection pool, so that the first tests
+     * don't pay for DNS lookups and TLS handshakes. Over HTTP/2 the requests are sent as streams of the same connection.
+     * Responses are ignored and the method returns when all requests complete, or after {@code --connection-timeout}.
+     */
+    public void prewarmConnections() {
+        if (apiArguments.getPrewarmConnections() <= 0 || okHttpClient == null) {
+            return;
+        }
+        int connections = Math.min(apiArguments.getPrewarmConnections(), okHttpClient.dispatcher().getMaxRequestsPerHost());
+        Request request = new Request.Builder().url(apiArguments.getServer()).head().build();
+        CountDownLatch completedRequests = new CountDownLatch(connections);
+        Callback callback = new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                logger.debug("Prewarming connection to {} failed: {}", apiArguments.getServer(), e.getMessage());
+                completedRequests.countDown();
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                response.close();
+                completedRequests.countDown();
+            }
+        };
+        for (int i = 0; i < connections; i++) {
+            okHttpClient.newCall(request).enqueue(callback);
+        }
+        try {
+            boolean completed = completedRequests.await(apiArguments.getConnectionTimeout(), TimeUnit.SECONDS);
+            logger.debug("Prewarmed {} connection(s) to {}, completed: {}, idle connections: {}", connections, apiArguments.getServer(),
+                    completed, okHttpClient.connectionPool().idleConnectionCount());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops the threads running asynchronous calls and closes the idle connections of the HTTP client.
+     */
+    @PreDestroy
+    public void closeHttpClient() {
+        if (okHttpClient != null) {
+            okHttpClient.dispatcher().executorService().shutdown();
+            okHttpClient.connectionPool().evictAll();
+        }
+    }
+
+    private Dispatcher buildDispatcher() {
+        Dispatcher dispatcher = new Dispatcher(Executors.newVirtualThreadPerTaskExecutor());
+        dispatcher.setMaxRequestsPerHost(Math.max(1, apiArguments.getMaxRequestsPerHost()));
+        dispatcher.setMaxRequests(Math.max(dispatcher.getMaxRequests(), dispatcher.getMaxRequestsPerHost()));
+        return dispatcher;
+    }
+
     private TrustManager[] buildTrustAllManager() {
         return new TrustManager[]{
                 new X509TrustManager() {
@@ -206,28 +300,24 @@ public class ServiceCaller {
      */
     @DryRun
     public HttpResponse call(ServiceData data) {
-        this.recordServiceData(data);
-
-        String processedPayload = this.replacePayloadWithRefData(data);
-        processedPayload = this.convertPayloadInSpecificContentType(processedPayload, data);
-        logger.debug("Payload replaced with ref data: {}", processedPayload);
-
-        List<KeyValuePair<String, Object>> headers = this.buildHeaders(data);
-        HttpRequest dochiaHttpRequest = HttpRequest.builder()
-                .headers(headers).payload(processedPayload)
-                .httpMethod(data.getHttpMethod().name())
-                .build();
+        TestCasePhaseEvent.endPayloadMutation();
+        TestCasePhaseEvent requestBuilding = TestCasePhaseEvent.start(TestCasePhaseEvent.Phase.REQUEST_BUILDING);
+        HttpRequest dochiaHttpRequest;
+        try {
+            this.recordServiceData(data);
+            dochiaHttpRequest = this.buildHttpRequest(data);
+        } catch (RuntimeException e) {
+            requestBuilding.commit();
+            throw e;
+        }
 
         long startTime = System.currentTimeMillis();
         try {
-            String url = this.constructUrl(data, processedPayload);
-
-            dochiaHttpRequest.setUrl(url);
-            this.recordRequest(dochiaHttpRequest);
-
-            logger.note("Final list of request headers: {}", headers);
-            logger.note("Final payload: {}", processedPayload);
-            logger.note("Final url: {}", url);
+            try {
+                this.addUrlAndRecordRequest(dochiaHttpRequest, data);
+            } finally {
+                requestBuilding.commit();
+            }
 
             startTime = System.currentTimeMillis();
             HttpResponse response = this.callService(dochiaHttpRequest, data.getTestedFields());
@@ -235,25 +325,96 @@ public class ServiceCaller {
             this.recordResponse(response);
             return response;
         } catch (IOException | IllegalStateException e) {
-            long duration = System.currentTimeMillis() - startTime;
+            HttpResponse httpResponse = this.buildExceptionalResponse(e, dochiaHttpRequest, data, System.currentTimeMillis() - startTime);
+            this.recordRequestAndResponse(dochiaHttpRequest, httpResponse, data);
 
-            HttpResponse.ExceptionalResponse exceptionalResponse = HttpResponse.getResponseByException(e);
+            logger.debug("Stacktrace from ServiceCaller", e);
 
-            HttpResponse httpResponse = HttpResponse.builder()
-                    .body(exceptionalResponse.responseBody()).httpMethod(dochiaHttpRequest.getHttpMethod())
-                    .responseTimeInMs(duration).responseCode(exceptionalResponse.responseCode())
-                    .jsonBody(JsonUtils.parseAsJsonElement(exceptionalResponse.responseBody()))
-                    .testedField(data.getTestedFields()
-                            .stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
-                    .build();
+            return httpResponse;
+        }
+    }
 
+    /**
+     * Asynchronous version of {@link #call(ServiceData)}. The request is prepared on the calling thread and
+     * then enqueued, while the response is read and recorded on the test case on one of the HTTP client's threads.
+     * The number of requests in flight for the same host is limited by {@code --max-requests-per-host}.
+     * <p>
+     * When in dryRun mode ServiceCaller won't do any actual calls.
+     *
+     * @param data the current context data
+     * @return a future completed with the result of service invocation
+     */
+    @DryRun
+    public CompletableFuture<HttpResponse> callAsync(ServiceData data) {
+        TestCasePhaseEvent.endPayloadMutation();
+        TestCasePhaseEvent requestBuilding = TestCasePhaseEvent.start(TestCasePhaseEvent.Phase.REQUEST_BUILDING);
+        HttpRequest dochiaHttpRequest;
+        try {
+            this.recordServiceData(data);
+            dochiaHttpRequest = this.buildHttpRequest(data);
+        } catch (RuntimeException e) {
+            requestBuilding.commit();
+            throw e;
+        }
+        TestCaseContext testCaseContext = testCaseListener.getCurrentTestCaseContext();
+
+        try {
+            this.addUrlAndRecordRequest(dochiaHttpRequest, data);
+        } catch (IllegalStateException e) {
+            HttpResponse httpResponse = this.buildExceptionalResponse(e, dochiaHttpRequest, data, 0);
             this.recordRequestAndResponse(dochiaHttpRequest, httpResponse, data);
+            return CompletableFuture.completedFuture(httpResponse);
+        } finally {
+            requestBuilding.commit();
+        }
 
-            logger.debug("Stacktrace from ServiceCaller", e);
+        long startTime = System.currentTimeMillis();
+        return this.callServiceAsync(dochiaHttpRequest, data.getTestedFields())
+                .exceptionally(throwable -> {
+                    Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                    logger.debug("Stacktrace from ServiceCaller", cause);
+                    Exception exception = cause instanceof Exception e ? e : new IllegalStateException(cause);
+                    return this.buildExceptionalResponse(exception, dochiaHttpRequest, data, System.currentTimeMillis() - startTime);
+                })
+                .thenApply(response -> {
+                    testCaseListener.addResponse(testCaseContext, response);
+                    return response;
+                });
+    }
 
+    private HttpRequest buildHttpRequest(ServiceData data) {
+        String processedPayload = this.replacePayloadWithRefData(data);
+        processedPayload = this.convertPayloadInSpecificContentType(processedPayload, data);
+        logger.debug("Payload replaced with ref data: {}", processedPayload);
 
-            return httpResponse;
-        }
+        List<KeyValuePair<String, Object>> headers = this.buildHeaders(data);
+        return HttpRequest.builder()
+                .headers(headers).payload(processedPayload)
+                .httpMethod(data.getHttpMethod().name())
+                .build();
+    }
+
+    private void addUrlAndRecordRequest(HttpRequest dochiaHttpRequest, ServiceData data) {
+        String url = this.constructUrl(data, dochiaHttpRequest.getPayload());
+
+        dochiaHttpRequest.setUrl(url);
+        this.recordRequest(dochiaHttpRequest);
+
+        logger.note("Final list of request headers: {}", dochiaHttpRequest.getHeaders());
+        logger.note("Final payload: {}", dochiaHttpRequest.getPayload());
+        logger.note("Final url: {}", url);
+    }
+
+    private HttpResponse buildExceptionalResponse(Exception e, HttpRequest dochiaHttpRequest, ServiceData data, long duration) {
+        HttpResponse.ExceptionalResponse exceptionalResponse = HttpResponse.getResponseByException(e);
+
+        return HttpResponse.builder()
+                .body(exceptionalResponse.responseBody()).httpMethod(dochiaHttpRequest.getHttpMethod())
+                .responseTimeInMs(duration).responseCode(exceptionalResponse.responseCode())
+                .jsonBody(JsonUtils.parseAsJsonElement(exceptionalResponse.responseBody()))
+                .testedField(data.getTestedFields()
+                        .stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
+                .build();
     }
 
     /**
@@ -265,26 +426,55 @@ public class ServiceCaller {
      * @return a url with path params replaced by urlParams or refData + additional query params
      */
     String constructUrl(ServiceData data, String processedPayload) {
-        String decodedUrl = CommonUtils.unescapeCurlyBrackets(apiArguments.getServer() + data.getRelativePath());
-        logger.debug("Decoded URL: {}", decodedUrl);
+        RequestTemplate requestTemplate = this.getRequestTemplate(data);
+        logger.debug("Decoded URL: {}", requestTemplate.decodedUrl());
         if (!data.isReplaceUrlParams()) {
-            String actualUrl = this.replacePathParams(decodedUrl, processedPayload, data);
+            String actualUrl = this.replacePathParams(requestTemplate.decodedUrl(), requestTemplate.decodedUrlVariables(), processedPayload, data);
             return this.replaceRemovedParams(actualUrl);
         }
 
-        String url = this.getPathWithRefDataReplacedForHttpEntityRequests(data, apiArguments.getServer() + data.getRelativePath());
+        String url = this.replacePathWithRefData(data, requestTemplate.urlWithUrlParams());
 
         if (!HttpMethod.requiresBody(data.getHttpMethod())) {
-            url = this.getPathWithRefDataReplacedForNonHttpEntityRequests(data, apiArguments.getServer() + data.getRelativePath());
-            url = this.addUriParams(processedPayload, data, url);
+            url = this.getPathWithRefDataReplacedForNonHttpEntityRequests(data, requestTemplate);
+            url = this.addUriParams(RepeatedValue.expand(processedPayload), data, url);
         } else {
             url = this.addQueryParamsFromPathParamsPayload(url, data);
         }
         url = this.addPathParamsIfNotReplaced(url, data.getPathParamsPayload());
-        url = this.addAdditionalQueryParams(url, data.getRelativePath());
+        url = this.addQueryParams(url, requestTemplate.additionalQueryParams());
         return url;
     }
 
+    private RequestTemplate getRequestTemplate(ServiceData data) {
+        RequestTemplate.Key key = new RequestTemplate.Key(apiArguments.getServer(), data.getRelativePath(), data.getContractPath(), data.getHttpMethod());
+        return requestTemplates.asMap().computeIfAbsent(key, this::compileRequestTemplate);
+    }
+
+    private RequestTemplate compileRequestTemplate(RequestTemplate.Key key) {
+        String url = key.server() + key.relativePath();
+        String decodedUrl = CommonUtils.unescapeCurlyBrackets(url);
+        String urlWithUrlParams = filesArguments.replacePathWithUrlParams(url);
+
+        Map<String, Object> userSuppliedHeaders = filesArguments.getHeaders(key.contractPath());
+        logger.debug("Path {} (including ALL headers) has the following headers: {}", key.contractPath(), userSuppliedHeaders);
+        List<RequestTemplate.SuppliedHeader> suppliedHeaders = userSuppliedHeaders.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> String.valueOf(entry.getValue())))
+                .entrySet().stream()
+                .map(header -> new RequestTemplate.SuppliedHeader(header.getKey(), header.getValue(), this.isAuthenticationHeader(header.getKey())))
+                .toList();
+
+        return new RequestTemplate(decodedUrl, getPathVariableElements(decodedUrl), urlWithUrlParams, getPathVariableElements(urlWithUrlParams),
+                this.getAdditionalQueryParams(key.relativePath()), suppliedHeaders,
+                authArguments.isBasicAuthSupplied() ? authArguments.getBasicAuthHeader() : null);
+    }
+
+    private static List<String> getPathVariableElements(String url) {
+        return Arrays.stream(OpenApiUtils.getPathElements(url))
+                .filter(pathElement -> pathElement.contains("{"))
+                .toList();
+    }
+
     String addPathParamsIfNotReplaced(String url, String pathParamsPayload) {
         logger.debug("Using the following path params payload {} for path {}", pathParamsPayload, url);
 
@@ -320,10 +510,20 @@ public class ServiceCaller {
     }
 
     String addAdditionalQueryParams(String startingUrl, String currentPath) {
+        return this.addQueryParams(startingUrl, this.getAdditionalQueryParams(currentPath));
+    }
+
+    private List<KeyValuePair<String, String>> getAdditionalQueryParams(String currentPath) {
+        return filesArguments.getAdditionalQueryParamsForPath(currentPath).entrySet().stream()
+                .map(queryParamEntry -> new KeyValuePair<>(queryParamEntry.getKey(), String.valueOf(queryParamEntry.getValue())))
+                .toList();
+    }
+
+    private String addQueryParams(String startingUrl, List<KeyValuePair<String, String>> queryParams) {
         HttpUrl.Builder httpUrl = HttpUrl.get(startingUrl).newBuilder();
 
-        for (Map.Entry<String, Object> queryParamEntry : filesArguments.getAdditionalQueryParamsForPath(currentPath).entrySet()) {
-            httpUrl.addQueryParameter(queryParamEntry.getKey(), String.valueOf(queryParamEntry.getValue()));
+        for (KeyValuePair<String, String> queryParam : queryParams) {
+            httpUrl.addQueryParameter(queryParam.getKey(), queryParam.getValue());
         }
 
         return httpUrl.build().toString();
@@ -334,7 +534,7 @@ public class ServiceCaller {
             if (data.isJsonContentType() || StringUtils.isBlank(payload)) {
                 return payload;
             }
-            HashMap<String, Object> payloadAsMap = new ObjectMapper().readValue(payload, new TypeReference<>() {
+            HashMap<String, Object> payloadAsMap = new ObjectMapper().readValue(RepeatedValue.expand(payload), new TypeReference<>() {
             });
             return FormEncoder.createHttpContent(payloadAsMap).stringContent();
         } catch (IOException e) {
@@ -392,12 +592,13 @@ public class ServiceCaller {
 
 
     List<KeyValuePair<String, Object>> buildHeaders(ServiceData data) {
+        RequestTemplate requestTemplate = this.getRequestTemplate(data);
         List<KeyValuePair<String, Object>> headers = new ArrayList<>();
 
         this.addMandatoryHeaders(data, headers);
-        this.addSuppliedHeaders(data, headers);
+        this.addSuppliedHeaders(data, requestTemplate, headers);
         this.removeSkippedHeaders(data, headers);
-        this.addBasicAuth(headers);
+        this.addBasicAuth(requestTemplate, headers);
 
         return Collections.unmodifiableList(headers);
     }
@@ -418,17 +619,17 @@ public class ServiceCaller {
     /**
      * Parameters in the URL will be replaced with actual values supplied in the {@code --urlParams} and {@code filesArguments.getRefData()} file.
      *
-     * @param data        the service data
-     * @param startingUrl initial url constructed from contract
+     * @param data            the service data
+     * @param requestTemplate the template of the requests sent to the current operation
      * @return the URL with variables replaced based on the supplied values
      */
-    private String getPathWithRefDataReplacedForNonHttpEntityRequests(ServiceData data, String startingUrl) {
-        String actualUrl = this.filesArguments.replacePathWithUrlParams(startingUrl);
+    private String getPathWithRefDataReplacedForNonHttpEntityRequests(ServiceData data, RequestTemplate requestTemplate) {
+        String actualUrl = requestTemplate.urlWithUrlParams();
 
         if (StringUtils.isNotEmpty(data.getPayload())) {
             String processedPayload = this.replacePayloadWithRefData(data);
 
-            actualUrl = this.replacePathParams(actualUrl, processedPayload, data);
+            actualUrl = this.replacePathParams(actualUrl, requestTemplate.urlWithUrlParamsVariables(), processedPayload, data);
             actualUrl = this.replaceRemovedParams(actualUrl);
         } else {
             actualUrl = this.replacePathWithRefData(data, actualUrl);
@@ -437,17 +638,18 @@ public class ServiceCaller {
         return actualUrl;
     }
 
-    private String getPathWithRefDataReplacedForHttpEntityRequests(ServiceData data, String startingUrl) {
-        String actualUrl = this.filesArguments.replacePathWithUrlParams(startingUrl);
-        return this.replacePathWithRefData(data, actualUrl);
-    }
-
     private String replaceRemovedParams(String path) {
-        return path.replaceAll("\\{(.*?)}", "");
+        return REMOVED_PARAMS.matcher(path).replaceAll("");
     }
 
     /**
      * Calls the service with the provided {@code dochiaHttpRequest} and set of fields under test.
+     * Requests throttled by the service with {@code 429}, or with {@code 503} and a {@code Retry-After} header, are sent again,
+     * up to {@code --max-throttling-retries} times, once the host accepts new requests. Other {@code 503} responses are reported as they are,
+     * as they might be caused by the request itself. The number of replays is recorded in the response and the time lost because
+     * of throttling in the execution statistics.
+     * When {@code --reuse-responses} is enabled, the response received for an identical earlier request is returned instead,
+     * if kept by the {@link RequestFingerprintCache}.
      *
      * @param dochiaHttpRequest The http request to be sent to the service.
      * @param testedFields      The set of fuzzed fields for the request.
@@ -455,38 +657,223 @@ public class ServiceCaller {
      * @throws IOException If an I/O error occurs during the service call.
      */
     public HttpResponse callService(HttpRequest dochiaHttpRequest, Set<String> testedFields) throws IOException {
+        Optional<HashCode> fingerprint = this.fingerprint(dochiaHttpRequest);
+        Optional<HttpResponse> cachedResponse = this.getCachedResponse(fingerprint, testedFields);
+        if (cachedResponse.isPresent()) {
+            return cachedResponse.get();
+        }
+        long stateVersion = requestFingerprintCache.stateVersion();
+        long firstAttemptStartTime = System.currentTimeMillis();
+        HttpResponse httpResponse = this.sendRequest(dochiaHttpRequest, testedFields);
+        int replays = 0;
+        while (this.shouldReplay(httpResponse, replays)) {
+            this.pauseBeforeReplay(dochiaHttpRequest, httpResponse, ++replays);
+            httpResponse = this.sendRequest(dochiaHttpRequest, testedFields);
+        }
+        httpResponse = this.recordThrottling(httpResponse, replays, firstAttemptStartTime);
+        this.cacheResponse(fingerprint, httpResponse, stateVersion);
+        return httpResponse;
+    }
+
+    /**
+     * Enqueues the provided {@code dochiaHttpRequest} to be sent to the service. The returned future is completed
+     * exceptionally if the call fails. Throttled requests are sent again in the same way as {@link #callService(HttpRequest, Set)}.
+     *
+     * @param dochiaHttpRequest The http request to be sent to the service.
+     * @param testedFields      The set of fuzzed fields for the request.
+     * @return A future completed with the response received from the service mapped as a dochia entity.
+     */
+    public CompletableFuture<HttpResponse> callServiceAsync(HttpRequest dochiaHttpRequest, Set<String> testedFields) {
+        Optional<HashCode> fingerprint = this.fingerprint(dochiaHttpRequest);
+        Optional<HttpResponse> cachedResponse = this.getCachedResponse(fingerprint, testedFields);
+        if (cachedResponse.isPresent()) {
+            return CompletableFuture.completedFuture(cachedResponse.get());
+        }
+        long stateVersion = requestFingerprintCache.stateVersion();
+        long firstAttemptStartTime = System.currentTimeMillis();
+        return this.sendRequestAsync(dochiaHttpRequest, testedFields)
+                .thenCompose(response -> this.replayWhenThrottled(dochiaHttpRequest, testedFields, response, 0, firstAttemptStartTime))
+                .thenApply(response -> {
+                    this.cacheResponse(fingerprint, response, stateVersion);
+                    return response;
+                });
+    }
+
+    private HttpResponse sendRequest(HttpRequest dochiaHttpRequest, Set<String> testedFields) throws IOException {
+        AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(dochiaHttpRequest.getUrl());
         rateLimiter.acquire();
         long startTime = System.currentTimeMillis();
+        TestCasePhaseEvent network = TestCasePhaseEvent.start(TestCasePhaseEvent.Phase.NETWORK);
+        NetworkTimingsListener networkTimings = new NetworkTimingsListener();
+        try (Response response = this.execute(this.buildOkHttpRequest(dochiaHttpRequest, networkTimings), network)) {
+            HttpResponse httpResponse = this.toDochiaResponse(response, dochiaHttpRequest, testedFields, System.currentTimeMillis() - startTime, network, networkTimings);
+            permit.complete(httpResponse);
+            return httpResponse;
+        } catch (IOException | RuntimeException e) {
+            permit.fail(e);
+            throw e;
+        }
+    }
+
+    private Response execute(Request request, TestCasePhaseEvent network) throws IOException {
+        try {
+            return okHttpClient.newCall(request).execute();
+        } finally {
+            network.commit();
+        }
+    }
+
+    private CompletableFuture<HttpResponse> replayWhenThrottled(HttpRequest dochiaHttpRequest, Set<String> testedFields, HttpResponse response, int replays, long firstAttemptStartTime) {
+        if (!this.shouldReplay(response, replays)) {
+            return CompletableFuture.completedFuture(this.recordThrottling(response, replays, firstAttemptStartTime));
+        }
+        this.pauseBeforeReplay(dochiaHttpRequest, response, replays + 1);
+        // the replay waits for the host to accept requests again, so it must not block the thread delivering the response
+        return CompletableFuture.supplyAsync(() -> this.sendRequestAsync(dochiaHttpRequest, testedFields), okHttpClient.dispatcher().executorService())
+                .thenCompose(Function.identity())
+                .thenCompose(nextResponse -> this.replayWhenThrottled(dochiaHttpRequest, testedFields, nextResponse, replays + 1, firstAttemptStartTime));
+    }
+
+    private CompletableFuture<HttpResponse> sendRequestAsync(HttpRequest dochiaHttpRequest, Set<String> testedFields) {
+        AdaptiveConcurrencyLimiter.Permit permit;
+        try {
+            permit = concurrencyLimiter.acquire(dochiaHttpRequest.getUrl());
+        } catch (InterruptedIOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        rateLimiter.acquire();
+        long startTime = System.currentTimeMillis();
+        TestCasePhaseEvent network = TestCasePhaseEvent.start(TestCasePhaseEvent.Phase.NETWORK);
+        NetworkTimingsListener networkTimings = new NetworkTimingsListener();
+        CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        try {
+            okHttpClient.newCall(this.buildOkHttpRequest(dochiaHttpRequest, networkTimings)).enqueue(new Callback() {
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    network.commit();
+                    permit.fail(e);
+                    result.completeExceptionally(e);
+                }
+
+                @Override
+                public void onResponse(Call call, Response response) {
+                    network.commit();
+                    try (response) {
+                        HttpResponse httpResponse = toDochiaResponse(response, dochiaHttpRequest, testedFields, System.currentTimeMillis() - startTime, network, networkTimings);
+                        permit.complete(httpResponse);
+                        result.complete(httpResponse);
+                    } catch (IOException | RuntimeException e) {
+                        permit.fail(e);
+                        result.completeExceptionally(e);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            network.commit();
+            permit.fail(e);
+            throw e;
+        }
+        return result;
+    }
+
+    private Optional<HashCode> fingerprint(HttpRequest dochiaHttpRequest) {
+        if (!processingArguments.isReuseResponses()) {
+            return Optional.empty();
+        }
+        String generatedUserAgent = apiArguments.getUserAgent(testCaseListener.getCurrentTestCaseNumber(), testCaseListener.getCurrentPlaybook());
+        return Optional.of(RequestFingerprintCache.fingerprint(dochiaHttpRequest,
+                header -> DOCHIA_TRACE_HEADER_UUID.equalsIgnoreCase(header.getKey())
+                        || (HttpHeaders.USER_AGENT.equalsIgnoreCase(header.getKey()) && generatedUserAgent.equals(header.getValue()))));
+    }
+
+    private Optional<HttpResponse> getCachedResponse(Optional<HashCode> fingerprint, Set<String> testedFields) {
+        return fingerprint.flatMap(requestFingerprintCache::get)
+                .map(cachedResponse -> {
+                    logger.debug("Identical request already sent, reusing response code {}", cachedResponse.getResponseCode());
+                    executionStatisticsListener.increaseReusedResponses();
+                    // the copy parses its own JSON body from the raw body on first use, so the kept response is never parsed or shared
+                    return cachedResponse.toBuilder()
+                            .jsonBody(null)
+                            .testedField(testedFields.stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
+                            .build();
+                });
+    }
+
+    private void cacheResponse(Optional<HashCode> fingerprint, HttpResponse httpResponse, long stateVersion) {
+        fingerprint.ifPresent(requestFingerprint -> requestFingerprintCache.put(requestFingerprint, httpResponse, stateVersion));
+    }
+
+    private boolean shouldReplay(HttpResponse httpResponse, int replays) {
+        return isThrottled(httpResponse) && replays < apiArguments.getMaxThrottlingRetries();
+    }
+
+    private static boolean isThrottled(HttpResponse httpResponse) {
+        return httpResponse.getResponseCode() == 429
+                || (httpResponse.getResponseCode() == 503 && httpResponse.getHeader(AdaptiveConcurrencyLimiter.RETRY_AFTER) != null);
+    }
+
+    /**
+     * When the throttling response has a {@code Retry-After} header, the host is already paused by the concurrency limiter.
+     * Otherwise, the host is paused using an exponential backoff.
+     */
+    private void pauseBeforeReplay(HttpRequest dochiaHttpRequest, HttpResponse httpResponse, int replay) {
+        if (httpResponse.getHeader(AdaptiveConcurrencyLimiter.RETRY_AFTER) == null) {
+            concurrencyLimiter.pause(dochiaHttpRequest.getUrl(), THROTTLING_BACKOFF.multipliedBy(1L << Math.min(replay - 1, 5)));
+        }
+        logger.debug("Request to {} throttled with {}, replaying it ({}/{})", dochiaHttpRequest.getUrl(),
+                httpResponse.getResponseCode(), replay, apiArguments.getMaxThrottlingRetries());
+    }
+
+    private HttpResponse recordThrottling(HttpResponse httpResponse, int replays, long firstAttemptStartTime) {
+        int throttledResponses = replays + (isThrottled(httpResponse) ? 1 : 0);
+        if (throttledResponses > 0) {
+            long timeLost = replays > 0 ? System.currentTimeMillis() - firstAttemptStartTime - httpResponse.getResponseTimeInMs() : 0;
+            executionStatisticsListener.increaseThrottled(throttledResponses, Math.max(0, timeLost));
+        }
+        return replays > 0 ? httpResponse.toBuilder().throttlingReplays(replays).build() : httpResponse;
+    }
+
+    private Request buildOkHttpRequest(HttpRequest dochiaHttpRequest, NetworkTimingsListener networkTimings) {
         RequestBody requestBody = null;
         Headers.Builder headers = new Headers.Builder();
         dochiaHttpRequest.getHeaders().forEach(header -> headers.addUnsafeNonAscii(header.getKey(), String.valueOf(header.getValue())));
 
         if (HttpMethod.requiresBody(dochiaHttpRequest.getHttpMethod())) {
-            requestBody = RequestBody.create(dochiaHttpRequest.getPayload().getBytes(StandardCharsets.UTF_8));
+            requestBody = StreamingRequestBody.create(dochiaHttpRequest.getPayload());
         } else {
             //for GET and HEAD, we remove Content-Type as some servers don't like it
             headers.removeAll("Content-Type");
         }
-        try (Response response = okHttpClient.newCall(new Request.Builder()
+        return new Request.Builder()
                 .url(dochiaHttpRequest.getUrl())
                 .headers(headers.build())
                 .method(dochiaHttpRequest.getHttpMethod(), requestBody)
-                .build()).execute()) {
-            long endTime = System.currentTimeMillis();
+                .tag(NetworkTimingsListener.class, networkTimings)
+                .build();
+    }
 
-            HttpResponse.HttpResponseBuilder httpResponseBuilder = this.populateDochiaResponseFromHttpResponse(response);
-            HttpResponse httpResponse = httpResponseBuilder.httpMethod(dochiaHttpRequest.getHttpMethod())
-                    .responseTimeInMs(endTime - startTime)
+    private HttpResponse toDochiaResponse(Response response, HttpRequest dochiaHttpRequest, Set<String> testedFields, long duration,
+                                          TestCasePhaseEvent network, NetworkTimingsListener networkTimings) throws IOException {
+        TestCasePhaseEvent responseParsing = network.next(TestCasePhaseEvent.Phase.RESPONSE_PARSING);
+        HttpResponse httpResponse;
+        try {
+            httpResponse = this.populateDochiaResponseFromHttpResponse(response).httpMethod(dochiaHttpRequest.getHttpMethod())
+                    .responseTimeInMs(duration)
+                    .networkTimings(networkTimings.timings())
                     .path(dochiaHttpRequest.getUrl())
                     .testedField(testedFields.stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
                     .build();
+        } finally {
+            responseParsing.commit();
+        }
+        executionStatisticsListener.increaseConnections(networkTimings.isReusedConnection());
 
-            logger.complete("Protocol: {}, Method: {}, ResponseCode: {}, ResponseTimeInMs: {}, ResponseLength: {}, ResponseWords: {}, ResponseLines: {}",
-                    response.protocol(), httpResponse.getHttpMethod(), httpResponse.responseCodeAsString(), endTime - startTime,
-                    httpResponse.getContentLengthInBytes(), httpResponse.getNumberOfWordsInResponse(), httpResponse.getNumberOfLinesInResponse());
+        logger.complete("Protocol: {}, Method: {}, ResponseCode: {}, ResponseTimeInMs: {}, ResponseLength: {}, ResponseWords: {}, ResponseLines: {}",
+                response.protocol(), httpResponse.getHttpMethod(), httpResponse.responseCodeAsString(), duration,
+                httpResponse.getContentLengthInBytes(), httpResponse.getNumberOfWordsInResponse(), httpResponse.getNumberOfLinesInResponse());
+        logger.debug("Network timings: {}", httpResponse.getNetworkTimings());
 
-            return httpResponse;
-        }
+        return httpResponse;
     }
 
     private HttpResponse.HttpResponseBuilder populateDochiaResponseFromHttpResponse(Response response) throws IOException {
@@ -495,13 +882,10 @@ public class ServiceCaller {
                 .entrySet().stream()
                 .map(header -> new KeyValuePair<>(header.getKey(), header.getValue().getFirst())).toList();
 
-        String rawResponse = this.getAsRawString(response);
-        String jsonResponse = JsonUtils.getAsJsonString(rawResponse);
+        ResponseBodyReader.CapturedBody capturedBody = this.readBody(response);
+        String rawResponse = capturedBody.body();
         String responseContentType = this.getResponseContentType(response);
 
-        int numberOfWords = new StringTokenizer(rawResponse).countTokens();
-        int numberOfLines = rawResponse.split("[\r|\n]").length;
-
         logger.debug("Raw response body: {}", rawResponse);
         logger.debug("Raw response headers: {}", response.headers());
 
@@ -509,11 +893,11 @@ public class ServiceCaller {
                 .responseCode(response.code())
                 .headers(responseHeaders)
                 .body(rawResponse)
-                .jsonBody(JsonParser.parseString(jsonResponse))
-                .numberOfLinesInResponse(numberOfLines)
-                .contentLengthInBytes(rawResponse.getBytes(StandardCharsets.UTF_8).length)
+                .bodyTruncated(capturedBody.truncated())
+                .numberOfLinesInResponse(capturedBody.numberOfLines())
+                .contentLengthInBytes(capturedBody.contentLengthInBytes())
                 .responseContentType(responseContentType)
-                .numberOfWordsInResponse(numberOfWords);
+                .numberOfWordsInResponse(capturedBody.numberOfWords());
     }
 
     private String getResponseContentType(Response response) {
@@ -521,9 +905,9 @@ public class ServiceCaller {
         return String.valueOf(Optional.ofNullable(response.body().contentType()).orElse(defaultResponseMediaType));
     }
 
-    private void addBasicAuth(List<KeyValuePair<String, Object>> headers) {
-        if (authArguments.isBasicAuthSupplied()) {
-            headers.add(new KeyValuePair<>("Authorization", authArguments.getBasicAuthHeader()));
+    private void addBasicAuth(RequestTemplate requestTemplate, List<KeyValuePair<String, Object>> headers) {
+        if (requestTemplate.basicAuthHeader() != null) {
+            headers.add(new KeyValuePair<>("Authorization", requestTemplate.basicAuthHeader()));
         }
     }
 
@@ -534,17 +918,16 @@ public class ServiceCaller {
     }
 
 
-    private String replacePathParams(String path, String processedPayload, ServiceData data) {
+    private String replacePathParams(String path, List<String> pathVariableElements, String processedPayload, ServiceData data) {
         String payloadAsJson = JsonUtils.parseOrConvertToJsonElement(processedPayload).toString();
 
-        return Arrays.stream(OpenApiUtils.getPathElements(path))
-                .filter(pathElement -> pathElement.contains("{"))
+        return pathVariableElements.stream()
                 .reduce(path,
                         (currentPath, pathElement) -> {
                             String pathElementWithoutBrackets = pathElement.replace("{", "").replace("}", "");
-                            Object pathElementValue = JsonUtils.getVariableFromJson(payloadAsJson, pathElementWithoutBrackets);
+                            String pathElementValue = RepeatedValue.expandValue(String.valueOf(JsonUtils.getVariableFromJson(payloadAsJson, pathElementWithoutBrackets)));
                             data.getPathParams().add(pathElementWithoutBrackets);
-                            return currentPath.replace(pathElement, URLEncoder.encode(String.valueOf(pathElementValue), StandardCharsets.UTF_8));
+                            return currentPath.replace(pathElement, URLEncoder.encode(pathElementValue, StandardCharsets.UTF_8));
                         });
     }
 
@@ -588,16 +971,17 @@ public class ServiceCaller {
         return queryParams;
     }
 
-    /**
-     * Retrieves the raw response body as a string from the provided HTTP response.
-     * If the response body is null, an empty string is returned.
-     *
-     * @param response The HTTP response containing the body to be extracted.
-     * @return The raw response body as a string, or an empty string if the body is null.
-     * @throws IOException If an I/O error occurs while reading the response body.
-     */
-    public String getAsRawString(Response response) throws IOException {
-        return response.body().string();
+    private ResponseBodyReader.CapturedBody readBody(Response response) throws IOException {
+        Charset charset = Optional.ofNullable(response.body().contentType())
+                .map(mediaType -> mediaType.charset(StandardCharsets.UTF_8))
+                .orElse(StandardCharsets.UTF_8);
+        try (InputStream bodyStream = response.body().byteStream()) {
+            ResponseBodyReader.CapturedBody capturedBody = new ResponseBodyReader(apiArguments.getMaxResponseBodySize()).read(bodyStream, charset);
+            if (capturedBody.truncated()) {
+                logger.debug("Response body of {} bytes truncated to {} bytes", capturedBody.contentLengthInBytes(), apiArguments.getMaxResponseBodySize());
+            }
+            return capturedBody;
+        }
     }
 
     private void recordServiceData(ServiceData serviceData) {
@@ -622,19 +1006,15 @@ public class ServiceCaller {
         this.recordResponse(httpResponse);
     }
 
-    private void addSuppliedHeaders(ServiceData data, List<KeyValuePair<String, Object>> headers) {
-        Map<String, Object> userSuppliedHeaders = filesArguments.getHeaders(data.getContractPath());
-        logger.debug("Path {} (including ALL headers) has the following headers: {}", data.getContractPath(), userSuppliedHeaders);
-
-        Map<String, String> suppliedHeaders = userSuppliedHeaders.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey,
-                        entry -> DSLParser.parseAndGetResult(String.valueOf(entry.getValue()), authArguments.getAuthScriptAsMap())));
+    private void addSuppliedHeaders(ServiceData data, RequestTemplate requestTemplate, List<KeyValuePair<String, Object>> headers) {
+        Map<String, String> authScript = authArguments.getAuthScriptAsMap();
 
-        for (Map.Entry<String, String> suppliedHeader : suppliedHeaders.entrySet()) {
+        for (RequestTemplate.SuppliedHeader suppliedHeader : requestTemplate.suppliedHeaders()) {
+            String suppliedHeaderValue = DSLParser.parseAndGetResult(suppliedHeader.value(), authScript);
             if (data.isAddUserHeaders()) {
-                this.replaceHeaderIfNotFuzzed(headers, data, suppliedHeader);
-            } else if (this.isSuppliedHeaderInFuzzData(data, suppliedHeader) || this.isAuthenticationHeader(suppliedHeader.getKey())) {
-                replaceHeaderWithUserSuppliedHeader(headers, suppliedHeader.getKey(), suppliedHeader.getValue());
+                this.replaceHeaderIfNotFuzzed(headers, data, suppliedHeader.name(), suppliedHeaderValue);
+            } else if (this.isSuppliedHeaderInFuzzData(data, suppliedHeader.name()) || suppliedHeader.authentication()) {
+                replaceHeaderWithUserSuppliedHeader(headers, suppliedHeader.name(), suppliedHeaderValue);
             }
         }
     }
@@ -649,8 +1029,8 @@ public class ServiceCaller {
                 .forEach(_ -> headers.add(new KeyValuePair<>(headerName, headerValue)));
     }
 
-    private boolean isSuppliedHeaderInFuzzData(ServiceData data, Map.Entry<String, String> suppliedHeader) {
-        return data.getHeaders().stream().anyMatch(dochiaHeader -> dochiaHeader.getName().equalsIgnoreCase(suppliedHeader.getKey()));
+    private boolean isSuppliedHeaderInFuzzData(ServiceData data, String suppliedHeaderName) {
+        return data.getHeaders().stream().anyMatch(dochiaHeader -> dochiaHeader.getName().equalsIgnoreCase(suppliedHeaderName));
     }
 
     /**
@@ -663,19 +1043,19 @@ public class ServiceCaller {
         return AUTH_HEADERS.stream().anyMatch(authHeader -> header.toLowerCase(Locale.ROOT).contains(authHeader));
     }
 
-    private void replaceHeaderIfNotFuzzed(List<KeyValuePair<String, Object>> headers, ServiceData data, Map.Entry<String, String> suppliedHeader) {
-        if (!data.getFuzzedHeaders().contains(suppliedHeader.getKey())) {
-            replaceHeaderWithUserSuppliedHeader(headers, suppliedHeader.getKey(), suppliedHeader.getValue());
+    private void replaceHeaderIfNotFuzzed(List<KeyValuePair<String, Object>> headers, ServiceData data, String suppliedHeaderName, String suppliedHeaderValue) {
+        if (!data.getFuzzedHeaders().contains(suppliedHeaderName)) {
+            replaceHeaderWithUserSuppliedHeader(headers, suppliedHeaderName, suppliedHeaderValue);
         } else {
             /* There are 2 cases when we want to mix the supplied header with the fuzzed one: if the fuzzing is TRAIL or PREFIX we want to try this behaviour on a valid header value */
             KeyValuePair<String, Object> existingHeader = headers.stream()
-                    .filter(header -> header.getKey().equalsIgnoreCase(suppliedHeader.getKey()))
+                    .filter(header -> header.getKey().equalsIgnoreCase(suppliedHeaderName))
                     .findFirst()
                     .orElse(new KeyValuePair<>("", ""));
 
-            Object finalHeaderValue = FuzzingStrategy.mergeFuzzing(existingHeader.getValue(), suppliedHeader.getValue());
-            replaceHeaderWithUserSuppliedHeader(headers, suppliedHeader.getKey(), finalHeaderValue);
-            logger.debug("Header's [{}] fuzzing will merge with the supplied header value from headers.yml. Final header value {}", suppliedHeader.getKey(), finalHeaderValue);
+            Object finalHeaderValue = FuzzingStrategy.mergeFuzzing(existingHeader.getValue(), suppliedHeaderValue);
+            replaceHeaderWithUserSuppliedHeader(headers, suppliedHeaderName, finalHeaderValue);
+            logger.debug("Header's [{}] fuzzing will merge with the supplied header value from headers.yml. Final header value {}", suppliedHeaderName, finalHeaderValue);
         }
     }
 
@@ -0,0 +1,75 @@
+package dev.dochia.cli.core.io;
+
+import dev.dochia.cli.core.util.RepeatedValue;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+
+/**
+ * Request body of JSON payloads with {@link RepeatedValue} placeholders. The placeholders are expanded while the body
+ * is written to the socket, so that very large values are never held in memory. The body can be written
+ * multiple times, for example when the request is retried.
+ */
+class StreamingRequestBody extends RequestBody {
+    private final List<Object> parts;
+    private final long contentLength;
+
+    private StreamingRequestBody(List<Object> parts) {
+        this.parts = parts;
+        this.contentLength = parts.stream()
+                .mapToLong(part -> part instanceof RepeatedValue repeatedValue ? repeatedValue.size() : ((byte[]) part).length)
+                .sum();
+    }
+
+    /**
+     * Creates a request body for the given payload, expanding its repeated value placeholders if any.
+     *
+     * @param payload the payload
+     * @return a request body sending the given payload
+     */
+    static RequestBody create(String payload) {
+        if (!RepeatedValue.isContainedIn(payload)) {
+            return RequestBody.create(payload.getBytes(StandardCharsets.UTF_8));
+        }
+        List<Object> parts = new ArrayList<>();
+        Matcher matcher = RepeatedValue.quotedPlaceholders(payload);
+        int literalStart = 0;
+        while (matcher.find()) {
+            parts.add(payload.substring(literalStart, matcher.start()).getBytes(StandardCharsets.UTF_8));
+            parts.add(RepeatedValue.fromPlaceholder(matcher.group(1)).orElseThrow());
+            literalStart = matcher.end();
+        }
+        parts.add(payload.substring(literalStart).getBytes(StandardCharsets.UTF_8));
+        return new StreamingRequestBody(parts);
+    }
+
+    @Override
+    public MediaType contentType() {
+        return null;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        OutputStream out = sink.outputStream();
+        for (Object part : parts) {
+            if (part instanceof RepeatedValue repeatedValue) {
+                repeatedValue.writeTo(out);
+            } else {
+                out.write((byte[]) part);
+            }
+        }
+        out.flush();
+    }
+}
@@ -3,8 +3,10 @@ package dev.dochia.cli.core.model;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 import dev.dochia.cli.core.model.ann.Exclude;
+import dev.dochia.cli.core.util.JsonUtils;
 import dev.dochia.cli.core.util.KeyValuePair;
 import dev.dochia.cli.core.util.WordUtils;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -15,7 +17,7 @@ import java.util.*;
 /**
  * Model class used to hold http response details.
  */
-@Builder
+@Builder(toBuilder = true)
 @Getter
 public class HttpResponse {
     private static final String UNKNOWN_MEDIA_TYPE = "unknown/unknown";
@@ -27,9 +29,12 @@ public class HttpResponse {
     private final long numberOfWordsInResponse;
     private final long numberOfLinesInResponse;
     private final long contentLengthInBytes;
-    private final JsonElement jsonBody;
+    @Getter(AccessLevel.NONE)
+    private volatile JsonElement jsonBody;
     private final List<KeyValuePair<String, String>> headers;
     private final String responseContentType;
+    private final NetworkTimings networkTimings;
+    private final int throttlingReplays;
 
     @Exclude
     private final String path;
@@ -37,6 +42,8 @@ public class HttpResponse {
     private final String body;
     @Exclude
     private final String testedField;
+    @Exclude
+    private final boolean bodyTruncated;
 
     /**
      * Creates a HttpResponse instance with the specified parameters.
@@ -62,6 +69,22 @@ public class HttpResponse {
         return HttpResponse.from(INVALID_ERROR_CODE, "{}", "", 0);
     }
 
+    /**
+     * Returns the response body as a JSON element. Unless set when building the response, the JSON element is parsed
+     * from the body on first use and cached, so that bodies which are never inspected are never parsed.
+     * Bodies which are not JSON, or which were truncated when read, are represented as {@code {"notAJson": "..."}}.
+     *
+     * @return the response body as a JSON element, or {@code null} if there is no body
+     */
+    public JsonElement getJsonBody() {
+        JsonElement parsedBody = jsonBody;
+        if (parsedBody == null && body != null) {
+            parsedBody = bodyTruncated ? JsonUtils.getAsNotAJson(body) : JsonUtils.parseResponseAsJsonElement(body);
+            jsonBody = parsedBody;
+        }
+        return parsedBody;
+    }
+
     /**
      * Retrieves the HTTP response code as a string representation.
      *
@@ -114,14 +137,26 @@ public class HttpResponse {
     }
 
     /**
-     * Checks if the response time exceeds the expected maximum response time.
+     * Retrieves the time spent by the server processing the request, i.e. the time to first byte,
+     * excluding DNS lookup, connecting, TLS handshake and transfer times. When network timings were not
+     * recorded, the whole response time is returned.
+     *
+     * @return The server time in milliseconds.
+     */
+    public long getServerTimeInMs() {
+        return networkTimings != null ? networkTimings.serverTimeInMs() : responseTimeInMs;
+    }
+
+    /**
+     * Checks if the server time exceeds the expected maximum response time.
      *
      * @param maxResponseTime The maximum allowed response time in milliseconds.
-     * @return {@code true} if the actual response time exceeds the specified maximum response time
+     * @return {@code true} if the server time exceeds the specified maximum response time
      * and the maximum response time is not set to zero; otherwise, {@code false}.
+     * @see #getServerTimeInMs()
      */
     public boolean exceedsExpectedResponseTime(long maxResponseTime) {
-        return maxResponseTime != 0 && responseTimeInMs > maxResponseTime;
+        return maxResponseTime != 0 && this.getServerTimeInMs() > maxResponseTime;
     }
 
     /**
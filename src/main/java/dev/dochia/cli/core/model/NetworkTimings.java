@@ -0,0 +1,56 @@
+package dev.dochia.cli.core.model;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Breakdown of the time spent sending a request and receiving its response, with nanosecond precision.
+ * Phases which did not happen, such as DNS lookup and connecting when a pooled connection is reused, are 0.
+ *
+ * @param dnsNanos             time spent resolving the host name
+ * @param connectNanos         time spent opening the TCP connection, excluding the TLS handshake
+ * @param tlsNanos             time spent in the TLS handshake
+ * @param requestWriteNanos    time spent writing the request headers and body
+ * @param timeToFirstByteNanos time between the request being written and the response headers starting to arrive
+ * @param bodyReadNanos        time spent reading the response body
+ */
+public record NetworkTimings(long dnsNanos, long connectNanos, long tlsNanos, long requestWriteNanos,
+                             long timeToFirstByteNanos, long bodyReadNanos) {
+
+    /**
+     * Returns the time spent by the server processing the request, i.e. the time to first byte, in milliseconds.
+     *
+     * @return the server time in milliseconds
+     */
+    public long serverTimeInMs() {
+        return TimeUnit.NANOSECONDS.toMillis(timeToFirstByteNanos);
+    }
+
+    /**
+     * Returns the average of each phase of the given timings.
+     *
+     * @param timings the timings to average
+     * @return the average timings, or all zeroes if the given list is empty
+     */
+    public static NetworkTimings average(List<NetworkTimings> timings) {
+        return new NetworkTimings(average(timings, NetworkTimings::dnsNanos), average(timings, NetworkTimings::connectNanos),
+                average(timings, NetworkTimings::tlsNanos), average(timings, NetworkTimings::requestWriteNanos),
+                average(timings, NetworkTimings::timeToFirstByteNanos), average(timings, NetworkTimings::bodyReadNanos));
+    }
+
+    private static long average(List<NetworkTimings> timings, ToLongFunction<NetworkTimings> phase) {
+        return (long) timings.stream().mapToLong(phase).average().orElse(0);
+    }
+
+    @Override
+    public String toString() {
+        return "dns %s, connect %s, tls %s, request write %s, time to first byte %s, body read %s".formatted(
+                asMs(dnsNanos), asMs(connectNanos), asMs(tlsNanos), asMs(requestWriteNanos), asMs(timeToFirstByteNanos), asMs(bodyReadNanos));
+    }
+
+    private static String asMs(long nanos) {
+        return String.format(Locale.ROOT, "%.3fms", nanos / 1_000_000d);
+    }
+}
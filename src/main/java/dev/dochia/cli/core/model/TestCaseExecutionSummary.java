@@ -6,6 +6,7 @@ package dev.dochia.cli.core.model;
  * @param path the service path
  * @param httpMethod the http method
  * @param responseTimeInMs the response time in ms
+ * @param networkTimings the network timings breakdown, or null if not recorded
  */
 public record TestCaseExecutionSummary(
-    String testId, String path, String httpMethod, long responseTimeInMs) {}
+    String testId, String path, String httpMethod, long responseTimeInMs, NetworkTimings networkTimings) {}
@@ -53,6 +53,31 @@ public class TestCaseSummary implements Comparable<TestCaseSummary> {
         return summary;
     }
 
+    /**
+     * Creates a copy of this summary for the test with the given id.
+     *
+     * @param testId the id of the test
+     * @return a copy of this summary having the given id
+     */
+    public TestCaseSummary withId(String testId) {
+        TestCaseSummary summary = new TestCaseSummary();
+        summary.id = testId;
+        summary.scenario = this.scenario;
+        summary.result = this.result;
+        summary.playbook = this.playbook;
+        summary.path = this.path;
+        summary.resultReason = this.resultReason;
+        summary.resultDetails = this.resultDetails;
+        summary.timeToExecuteInSec = this.timeToExecuteInSec;
+        summary.timeToExecuteInMs = this.timeToExecuteInMs;
+        summary.httpMethod = this.httpMethod;
+        summary.switchedResult = this.switchedResult;
+        summary.httpResponseCode = this.httpResponseCode;
+        summary.responseBody = this.responseBody;
+
+        return summary;
+    }
+
     @Override
     public int compareTo(TestCaseSummary o) {
         String o1StringPart = this.id.replaceAll("\\d", "");
@@ -12,9 +12,11 @@ import dev.dochia.cli.core.util.JsonUtils;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This is a base class for Playbooks that want to send invalid payloads for HTTP methods accepting bodies.
@@ -23,7 +25,7 @@ import java.util.List;
 public abstract class BaseHttpWithPayloadSimplePlaybook implements TestCasePlaybook {
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(getClass());
     private final SimpleExecutor simpleExecutor;
-    private final List<String> fuzzedPaths = new ArrayList<>();
+    private final Set<String> fuzzedPaths = Collections.synchronizedSet(new HashSet<>());
 
     BaseHttpWithPayloadSimplePlaybook(SimpleExecutor ce) {
         this.simpleExecutor = ce;
@@ -11,8 +11,9 @@ import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -22,7 +23,7 @@ import java.util.function.Function;
 @BodyPlaybook
 public class HttpMethodsPlaybook implements TestCasePlaybook {
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(HttpMethodsPlaybook.class);
-    private final List<String> fuzzedPaths = new ArrayList<>();
+    private final Set<String> fuzzedPaths = Collections.synchronizedSet(new HashSet<>());
     private final HttpMethodPlaybookUtil httpMethodPlaybookUtil;
 
     /**
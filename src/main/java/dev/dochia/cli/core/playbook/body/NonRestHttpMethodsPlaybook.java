@@ -6,8 +6,9 @@ import dev.dochia.cli.core.model.PlaybookData;
 import dev.dochia.cli.core.playbook.api.TestCasePlaybook;
 import dev.dochia.cli.core.util.ConsoleUtils;
 import jakarta.inject.Singleton;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Playbook that sends non rest HTTP methods, typically specific to WebDAV.
@@ -15,7 +16,7 @@ import java.util.List;
 @Singleton
 @BodyPlaybook
 public class NonRestHttpMethodsPlaybook implements TestCasePlaybook {
-    private final List<String> fuzzedPaths = new ArrayList<>();
+    private final Set<String> fuzzedPaths = Collections.synchronizedSet(new HashSet<>());
     private final HttpMethodPlaybookUtil httpMethodPlaybookUtil;
 
     /**
@@ -2,21 +2,39 @@ package dev.dochia.cli.core.playbook.executor;
 
 import dev.dochia.cli.core.args.FilesArguments;
 import dev.dochia.cli.core.args.MatchArguments;
+import dev.dochia.cli.core.args.ProcessingArguments;
 import dev.dochia.cli.core.io.ServiceCaller;
 import dev.dochia.cli.core.io.ServiceData;
 import dev.dochia.cli.core.model.HttpResponse;
 import dev.dochia.cli.core.model.ResultFactory;
+import dev.dochia.cli.core.report.TestCaseContext;
 import dev.dochia.cli.core.report.TestCaseListener;
 import dev.dochia.cli.core.strategy.FuzzingStrategy;
 import dev.dochia.cli.core.util.CommonUtils;
+import dev.dochia.cli.core.util.DochiaRandom;
 import dev.dochia.cli.core.util.FuzzingResult;
 import io.swagger.v3.oas.models.media.Schema;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import org.slf4j.MDC;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static dev.dochia.cli.core.io.ServiceCaller.DOCHIA_REMOVE_FIELD;
 
@@ -40,6 +58,11 @@ import static dev.dochia.cli.core.io.ServiceCaller.DOCHIA_REMOVE_FIELD;
  * <p>
  * You must also supply a  {@code FieldsIteratorExecutorContext#fuzzValueProducer} for the Executor that will be used as the source of fuzzing.
  * </p>
+ * <p>
+ * When {@code --max-in-flight-tests} is greater than 1, fuzzed payloads are generated on a separate pool of threads, while requests
+ * are sent asynchronously from virtual threads, with at most that many in flight at once.
+ * Test cases are still numbered and reported in the same order and use the same random values as when executed one at a time.
+ * </p>
  */
 @Singleton
 public class FieldsIteratorExecutor {
@@ -48,6 +71,10 @@ public class FieldsIteratorExecutor {
     private final TestCaseListener testCaseListener;
     private final MatchArguments matchArguments;
     private final FilesArguments filesArguments;
+    private final ProcessingArguments processingArguments;
+    private final ExecutorService generators = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+            Thread.ofPlatform().name("dochia-payload-", 1).daemon().factory());
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
 
     /**
      * Constructs a new instance of FieldsIteratorExecutor.
@@ -60,13 +87,15 @@ public class FieldsIteratorExecutor {
      * @param testCaseListener The TestCaseListener instance responsible for handling test case events.
      * @param ma               The MatchArguments providing criteria for matching fields during iteration.
      * @param fa               The FilesArguments containing parameters related to working with files during iteration.
+     * @param pa               The ProcessingArguments providing the maximum number of test cases executed concurrently.
      */
     @Inject
-    public FieldsIteratorExecutor(ServiceCaller serviceCaller, TestCaseListener testCaseListener, MatchArguments ma, FilesArguments fa) {
+    public FieldsIteratorExecutor(ServiceCaller serviceCaller, TestCaseListener testCaseListener, MatchArguments ma, FilesArguments fa, ProcessingArguments pa) {
         this.serviceCaller = serviceCaller;
         this.testCaseListener = testCaseListener;
         this.matchArguments = ma;
         this.filesArguments = fa;
+        this.processingArguments = pa;
     }
 
     /**
@@ -88,11 +117,22 @@ public class FieldsIteratorExecutor {
 
         fieldsToBeRemoved.forEach(allFields::remove);
 
+        if (processingArguments.isConcurrentTestsEnabled()) {
+            this.executeConcurrently(context, allFields);
+        } else {
+            this.executeSequentially(context, allFields);
+        }
+    }
+
+    private void executeSequentially(FieldsIteratorExecutorContext context, Set<String> allFields) {
         for (String fuzzedField : allFields) {
             Schema<?> fuzzedFieldSchema = context.getPlaybookData().getRequestPropertyTypes().get(fuzzedField);
             if (context.getSchemaFilter().test(fuzzedFieldSchema) && context.getFieldFilter().test(fuzzedField)) {
+                int valueIndex = 0;
                 for (Object currentValue : context.getFuzzValueProducer().apply(fuzzedFieldSchema, fuzzedField)) {
-                    testCaseListener.createAndExecuteTest(context.getLogger(), context.getTestCasePlaybook(), () -> executeTestCase(context, fuzzedField, currentValue), context.getPlaybookData());
+                    TestCaseSeeds seeds = TestCaseSeeds.derive(fuzzedField, valueIndex++);
+                    testCaseListener.createAndExecuteTest(context.getLogger(), context.getTestCasePlaybook(),
+                            testCaseContext -> DochiaRandom.runWithSeed(seeds.request(), () -> executeTestCase(testCaseContext, context, fuzzedField, currentValue, seeds)), context.getPlaybookData());
                 }
             } else {
                 context.getLogger().debug("Skipping [{}]. " + context.getSkipMessage(), fuzzedField);
@@ -100,22 +140,146 @@ public class FieldsIteratorExecutor {
         }
     }
 
-    private void executeTestCase(FieldsIteratorExecutorContext context, String fuzzedField, Object currentValue) {
+    /**
+     * Test cases are started on the current thread, so that they get the same numbers as when executed sequentially.
+     * Each test case then goes through three stages: the fuzzed payload is generated on a pool of platform threads sized
+     * to the number of processors, the request is prepared on a virtual thread and sent with {@link ServiceCaller#callAsync(ServiceData)},
+     * and the response is evaluated on a virtual thread once received. At most {@code --max-in-flight-tests} test cases are
+     * between sending and evaluation, and no more than twice that many are queued after payload generation, so that payload
+     * generation doesn't run ahead of sending. Finished test cases are ended strictly in the order they were started.
+     * The thread pools are shared by all executions, while the limits are kept per execution.
+     */
+    private void executeConcurrently(FieldsIteratorExecutorContext context, Set<String> allFields) {
+        int maxInFlightTests = processingArguments.getMaxInFlightTests();
+        Semaphore inFlight = new Semaphore(maxInFlightTests);
+        Semaphore queued = new Semaphore(maxInFlightTests * 2);
+        Deque<RunningTestCase> runningTestCases = new ArrayDeque<>();
+        Map<String, String> loggingContext = Optional.ofNullable(MDC.getCopyOfContextMap()).orElse(Map.of());
+
+        for (String fuzzedField : allFields) {
+            Schema<?> fuzzedFieldSchema = context.getPlaybookData().getRequestPropertyTypes().get(fuzzedField);
+            if (context.getSchemaFilter().test(fuzzedFieldSchema) && context.getFieldFilter().test(fuzzedField)) {
+                int valueIndex = 0;
+                for (Object currentValue : context.getFuzzValueProducer().apply(fuzzedFieldSchema, fuzzedField)) {
+                    this.endFinishedTestCases(runningTestCases);
+                    queued.acquireUninterruptibly();
+                    TestCaseContext testCaseContext = testCaseListener.startTestCase(context.getTestCasePlaybook(), context.getPlaybookData());
+                    FuzzingStrategy strategy = context.getFuzzingStrategy().withData(currentValue);
+                    TestCaseSeeds seeds = TestCaseSeeds.derive(fuzzedField, valueIndex++);
+                    CompletableFuture<FuzzingResult> fuzzingResult = CompletableFuture.supplyAsync(
+                            () -> DochiaRandom.callWithSeed(seeds.payload(), () -> this.getFuzzingResult(context, fuzzedField, strategy)), generators);
+                    Future<?> execution = fuzzingResult.handleAsync((_, _) -> {
+                        inFlight.acquireUninterruptibly();
+                        try {
+                            MDC.setContextMap(loggingContext);
+                            return DochiaRandom.callWithSeed(seeds.request(), () -> this.sendTestCase(testCaseContext, context, fuzzedField, strategy, fuzzingResult));
+                        } finally {
+                            MDC.clear();
+                        }
+                    }, senders).thenCompose(Function.identity()).whenCompleteAsync((response, _) -> {
+                        try {
+                            MDC.setContextMap(loggingContext);
+                            Optional.ofNullable(response).ifPresent(received -> testCaseListener.resumeTestCase(testCaseContext, context.getLogger(), context.getTestCasePlaybook(),
+                                    _ -> this.reportResult(context, received, currentValue), context.getPlaybookData()));
+                        } finally {
+                            MDC.clear();
+                            inFlight.release();
+                            queued.release();
+                        }
+                    }, senders);
+                    runningTestCases.add(new RunningTestCase(testCaseContext, execution));
+                }
+            } else {
+                context.getLogger().debug("Skipping [{}]. " + context.getSkipMessage(), fuzzedField);
+            }
+        }
+        while (!runningTestCases.isEmpty()) {
+            this.endTestCase(runningTestCases.poll());
+        }
+    }
+
+    /**
+     * Stops the threads used to generate payloads and send requests when the application shuts down.
+     */
+    @PreDestroy
+    void shutdown() {
+        generators.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    /**
+     * Sends the request of the given test case without waiting for the response.
+     *
+     * @return a future completed with the response, or with {@code null} when the test case was skipped or failed before sending the request
+     */
+    private CompletableFuture<HttpResponse> sendTestCase(TestCaseContext testCaseContext, FieldsIteratorExecutorContext context, String fuzzedField,
+                                                         FuzzingStrategy strategy, CompletableFuture<FuzzingResult> fuzzingResult) {
+        AtomicReference<CompletableFuture<HttpResponse>> response = new AtomicReference<>(CompletableFuture.completedFuture(null));
+        testCaseListener.executeTestCase(testCaseContext, context.getLogger(), context.getTestCasePlaybook(),
+                ctx -> this.buildServiceData(ctx, context, fuzzedField, strategy, () -> getGeneratedFuzzingResult(fuzzingResult))
+                        .ifPresent(serviceData -> response.set(serviceCaller.callAsync(serviceData))), context.getPlaybookData());
+        return response.get();
+    }
+
+    private static FuzzingResult getGeneratedFuzzingResult(CompletableFuture<FuzzingResult> fuzzingResult) {
+        try {
+            return fuzzingResult.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void endFinishedTestCases(Deque<RunningTestCase> runningTestCases) {
+        while (!runningTestCases.isEmpty() && runningTestCases.peek().execution().isDone()) {
+            this.endTestCase(runningTestCases.poll());
+        }
+    }
+
+    private void endTestCase(RunningTestCase runningTestCase) {
+        try {
+            runningTestCase.execution().get();
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        testCaseListener.endTestCase(runningTestCase.testCaseContext());
+    }
+
+    private void executeTestCase(TestCaseContext testCaseContext, FieldsIteratorExecutorContext context, String fuzzedField, Object currentValue, TestCaseSeeds seeds) {
         FuzzingStrategy strategy = context.getFuzzingStrategy().withData(currentValue);
+        this.executeTestCase(testCaseContext, context, fuzzedField, currentValue, strategy,
+                () -> DochiaRandom.callWithSeed(seeds.payload(), () -> this.getFuzzingResult(context, fuzzedField, strategy)));
+    }
+
+    private void executeTestCase(TestCaseContext testCaseContext, FieldsIteratorExecutorContext context, String fuzzedField, Object currentValue,
+                                 FuzzingStrategy strategy, Supplier<FuzzingResult> fuzzingResultSupplier) {
+        this.buildServiceData(testCaseContext, context, fuzzedField, strategy, fuzzingResultSupplier)
+                .ifPresent(serviceData -> this.reportResult(context, serviceCaller.call(serviceData), currentValue));
+    }
+
+    private Optional<ServiceData> buildServiceData(TestCaseContext testCaseContext, FieldsIteratorExecutorContext context, String fuzzedField,
+                                                   FuzzingStrategy strategy, Supplier<FuzzingResult> fuzzingResultSupplier) {
         context.getLogger().debug("Applying [{}] for field [{}]", strategy, fuzzedField);
 
-        testCaseListener.addScenario(context.getLogger(), context.getScenario() + " Current field [{}] [{}]", fuzzedField, strategy);
-        testCaseListener.addExpectedResult(context.getLogger(), "Should return [{}]",
+        testCaseListener.addScenario(testCaseContext, context.getLogger(), context.getScenario() + " Current field [{}] [{}]", fuzzedField, strategy);
+        testCaseListener.addExpectedResult(testCaseContext, context.getLogger(), "Should return [{}]",
                 context.getExpectedResponseCode() != null ? context.getExpectedResponseCode().asString() : "a response that doesn't match" + matchArguments.getMatchString());
 
         if (!testCaseListener.shouldContinueExecution(context.getLogger(), context.getExpectedResponseCode())) {
             testCaseListener.skipTest(context.getLogger(), "Test skipped due to response code filtering");
-            return;
+            return Optional.empty();
         }
 
-        FuzzingResult fuzzingResult = this.getFuzzingResult(context, fuzzedField, strategy);
+        FuzzingResult fuzzingResult = fuzzingResultSupplier.get();
 
-        HttpResponse response = serviceCaller.call(
+        return Optional.of(
                 ServiceData.builder()
                         .relativePath(context.getPlaybookData().getPath())
                         .contractPath(context.getPlaybookData().getContractPath())
@@ -127,7 +291,9 @@ public class FieldsIteratorExecutor {
                         .replaceRefData(context.isReplaceRefData())
                         .pathParamsPayload(context.getPlaybookData().getPathParamsPayload())
                         .build());
+    }
 
+    private void reportResult(FieldsIteratorExecutorContext context, HttpResponse response, Object currentValue) {
         if (context.getExpectedResponseCode() != null) {
             testCaseListener.reportResult(context.getLogger(), context.getPlaybookData(), response, context.getExpectedResponseCode());
         } else if (!matchArguments.isAnyMatchArgumentSupplied() || matchArguments.isMatchResponse(response) || matchArguments.isInputReflected(response, currentValue)) {
@@ -157,4 +323,19 @@ public class FieldsIteratorExecutor {
     public boolean isFieldNotADiscriminator(String field) {
         return this.testCaseListener.isFieldNotADiscriminator(field);
     }
+
+    private record RunningTestCase(TestCaseContext testCaseContext, Future<?> execution) {
+    }
+
+    /**
+     * Each test case generates its payload and sends its request using separate random streams, derived from the
+     * stream of the playbook, the field and the position of the fuzzed value. This way the test case is the same
+     * whether it's executed sequentially or concurrently, on whichever thread.
+     */
+    private record TestCaseSeeds(long payload, long request) {
+        static TestCaseSeeds derive(String fuzzedField, int valueIndex) {
+            return new TestCaseSeeds(DochiaRandom.deriveSeed(fuzzedField, String.valueOf(valueIndex), "payload"),
+                    DochiaRandom.deriveSeed(fuzzedField, String.valueOf(valueIndex), "request"));
+        }
+    }
 }
\ No newline at end of file
@@ -63,11 +63,11 @@ public class HeadersIteratorExecutor {
                     String previousHeaderValue = header.getValue();
                     header.withValue(String.valueOf(fuzzingStrategy.process(previousHeaderValue)));
                     try {
-                        testCaseListener.createAndExecuteTest(context.getLogger(), context.getTestCasePlaybook(), () -> {
+                        testCaseListener.createAndExecuteTest(context.getLogger(), context.getTestCasePlaybook(), testCaseContext -> {
                             ResponseCodeFamily expectedResponseCode = this.getExpectedResultCode(header, context);
 
-                            testCaseListener.addScenario(context.getLogger(), context.getScenario() + "  Current header [{}] [{}]", header.getName(), fuzzingStrategy);
-                            testCaseListener.addExpectedResult(context.getLogger(), "Should return [{}]",
+                            testCaseListener.addScenario(testCaseContext, context.getLogger(), context.getScenario() + "  Current header [{}] [{}]", header.getName(), fuzzingStrategy);
+                            testCaseListener.addExpectedResult(testCaseContext, context.getLogger(), "Should return [{}]",
                                     expectedResponseCode != null ? expectedResponseCode.asString() : "a response that doesn't match" + matchArguments.getMatchString());
 
                             if (!testCaseListener.shouldContinueExecution(context.getLogger(), expectedResponseCode)) {
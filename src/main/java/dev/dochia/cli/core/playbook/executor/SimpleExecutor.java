@@ -52,9 +52,9 @@ public class SimpleExecutor {
      * @param context the executor context
      */
     public void execute(SimpleExecutorContext context) {
-        testCaseListener.createAndExecuteTest(context.getLogger(), context.getTestCasePlaybook(), () -> {
-            testCaseListener.addScenario(context.getLogger(), context.getScenario());
-            testCaseListener.addExpectedResult(context.getLogger(), "Should return {}" + context.getExpectedResult(), context.getExpectedSpecificResponseCode());
+        testCaseListener.createAndExecuteTest(context.getLogger(), context.getTestCasePlaybook(), testCaseContext -> {
+            testCaseListener.addScenario(testCaseContext, context.getLogger(), context.getScenario());
+            testCaseListener.addExpectedResult(testCaseContext, context.getLogger(), "Should return {}" + context.getExpectedResult(), context.getExpectedSpecificResponseCode());
 
             if (!testCaseListener.shouldContinueExecution(context.getLogger(), context.getExpectedResponseCode())) {
                 testCaseListener.skipTest(context.getLogger(), "Test skipped due to response code filtering");
@@ -7,9 +7,9 @@ import dev.dochia.cli.core.playbook.field.base.BaseReplaceFieldsPlaybook;
 import dev.dochia.cli.core.model.PlaybookData;
 import dev.dochia.cli.core.util.CommonUtils;
 import dev.dochia.cli.core.util.JsonUtils;
+import dev.dochia.cli.core.util.RepeatedValue;
 import io.swagger.v3.oas.models.media.Schema;
 import jakarta.inject.Singleton;
-import org.apache.commons.lang3.StringUtils;
 
 import java.util.List;
 import java.util.Optional;
@@ -43,7 +43,7 @@ public class OverflowArraySizeFieldsPlaybook extends BaseReplaceFieldsPlaybook {
             String fieldValue = JsonUtils.serialize(JsonUtils.getVariableFromJson(data.getPayload(), string + "[0]"));
             int repetitions = CommonUtils.getMaxArraySizeBasedOnFieldsLength(Optional.ofNullable(fieldValue).orElse("ARRAY"), size);
 
-            return List.of("[" + StringUtils.repeat(fieldValue, ",", repetitions) + "]");
+            return List.of(RepeatedValue.jsonArray(fieldValue, repetitions));
         };
 
         return BaseReplaceFieldsPlaybook.BaseReplaceFieldsContext.builder()
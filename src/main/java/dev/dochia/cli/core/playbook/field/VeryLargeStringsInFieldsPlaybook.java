@@ -10,6 +10,7 @@ import dev.dochia.cli.core.io.ServiceCaller;
 import dev.dochia.cli.core.model.PlaybookData;
 import dev.dochia.cli.core.report.TestCaseListener;
 import dev.dochia.cli.core.strategy.FuzzingStrategy;
+import dev.dochia.cli.core.util.RepeatedValue;
 import jakarta.inject.Singleton;
 
 import java.util.Collections;
@@ -46,7 +47,7 @@ public class VeryLargeStringsInFieldsPlaybook extends ExpectOnly4XXBaseFieldsPla
     protected List<FuzzingStrategy> getFieldFuzzingStrategy(PlaybookData data, String fuzzedField) {
         return Collections.singletonList(
                 FuzzingStrategy.replace().withData(
-                        StringGenerator.generateLargeString(processingArguments.getLargeStringsSize() / 4)));
+                        RepeatedValue.string("", StringGenerator.FUZZ, processingArguments.getLargeStringsSize() / 4, "")));
     }
 
     @Override
@@ -43,7 +43,7 @@ public class VeryLargeUnicodeStringsInFieldsPlaybook extends ExpectOnly4XXBaseFi
 
     @Override
     protected List<FuzzingStrategy> getFieldFuzzingStrategy(PlaybookData data, String fuzzedField) {
-        return FuzzingStrategy.getLargeValuesStrategy(processingArguments.getLargeStringsSize());
+        return FuzzingStrategy.getLargeBodyValuesStrategy(processingArguments.getLargeStringsSize());
     }
 
     @Override
@@ -17,6 +17,7 @@ import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.inject.Singleton;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -50,8 +51,9 @@ public class DeletedResourcesNotAvailablePlaybook implements TestCasePlaybook {
             return;
         }
 
-        logger.info("Stored successful DELETE requests: {}", globalContext.getSuccessfulDeletes().size());
-        for (String delete : globalContext.getSuccessfulDeletes()) {
+        List<String> successfulDeletes = new ArrayList<>(globalContext.getSuccessfulDeletes());
+        logger.info("Stored successful DELETE requests: {}", successfulDeletes.size());
+        for (String delete : successfulDeletes) {
             simpleExecutor.execute(
                     SimpleExecutorContext.builder()
                             .logger(logger)
@@ -65,7 +67,7 @@ public class DeletedResourcesNotAvailablePlaybook implements TestCasePlaybook {
                             .build()
             );
         }
-        globalContext.getSuccessfulDeletes().clear();
+        successfulDeletes.forEach(globalContext.getSuccessfulDeletes()::remove);
     }
 
     private void checkResponse(HttpResponse response, PlaybookData data) {
@@ -3,14 +3,17 @@ package dev.dochia.cli.core.report;
 import dev.dochia.cli.core.playbook.api.DryRun;
 import dev.dochia.cli.core.util.AnsiUtils;
 import jakarta.enterprise.context.ApplicationScoped;
-import lombok.Getter;
 import org.fusesource.jansi.Ansi;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * TestCaseListener for tracking execution statistics of tests cases, including errors, warnings, successes, and skipped tests.
+ * All counters are safe to update from multiple threads, as paths might be fuzzed in parallel.
  */
 @ApplicationScoped
 @DryRun
@@ -19,55 +22,176 @@ public class ExecutionStatisticsListener {
     /**
      * Map to track the count of errors per path.
      */
-    private final Map<String, Long> errors = new HashMap<>();
+    private final Map<String, Long> errors = Collections.synchronizedMap(new HashMap<>());
 
     /**
      * Map to track the count of warnings per path.
      */
-    private final Map<String, Long> warns = new HashMap<>();
+    private final Map<String, Long> warns = Collections.synchronizedMap(new HashMap<>());
 
     /**
      * Map to track the count of successful executions per path.
      */
-    private final Map<String, Long> success = new HashMap<>();
+    private final Map<String, Long> success = Collections.synchronizedMap(new HashMap<>());
 
     /**
      * Count of skipped tests.
      */
-    @Getter
-    private int skipped;
+    private final AtomicInteger skipped = new AtomicInteger();
 
     /**
      * Count of authentication errors.
      */
-    @Getter
-    private int authErrors;
+    private final AtomicInteger authErrors = new AtomicInteger();
 
     /**
      * Count of I/O errors.
      */
-    @Getter
-    private int ioErrors;
+    private final AtomicInteger ioErrors = new AtomicInteger();
+
+    /**
+     * Count of responses throttled by the service with 429, or with 503 and a Retry-After header.
+     */
+    private final AtomicInteger throttled = new AtomicInteger();
+
+    /**
+     * Time spent waiting for the service to accept throttled requests again, in milliseconds.
+     */
+    private final AtomicLong throttlingTimeInMs = new AtomicLong();
+
+    /**
+     * Count of requests not sent because the response of an identical earlier request was reused.
+     */
+    private final AtomicInteger reusedResponses = new AtomicInteger();
+
+    /**
+     * Count of requests sent on a new connection.
+     */
+    private final AtomicInteger newConnections = new AtomicInteger();
+
+    /**
+     * Count of requests sent on a connection reused from the connection pool.
+     */
+    private final AtomicInteger reusedConnections = new AtomicInteger();
 
     /**
      * Increases the count of authentication errors.
      */
     public void increaseAuthErrors() {
-        this.authErrors++;
+        this.authErrors.incrementAndGet();
     }
 
     /**
      * Increases the count of I/O errors.
      */
     public void increaseIoErrors() {
-        this.ioErrors++;
+        this.ioErrors.incrementAndGet();
+    }
+
+    /**
+     * Increases the count of throttled responses and the time lost because of them.
+     *
+     * @param throttledResponses the number of throttled responses received for a request
+     * @param timeLostInMs       the time spent until the request was accepted, in milliseconds
+     */
+    public void increaseThrottled(int throttledResponses, long timeLostInMs) {
+        this.throttled.addAndGet(throttledResponses);
+        this.throttlingTimeInMs.addAndGet(timeLostInMs);
+    }
+
+    /**
+     * Increases the count of requests for which the response of an identical earlier request was reused.
+     */
+    public void increaseReusedResponses() {
+        this.reusedResponses.incrementAndGet();
+    }
+
+    /**
+     * Increases the count of requests sent on a new connection or on a connection reused from the connection pool.
+     *
+     * @param reused whether the request was sent on a connection reused from the connection pool
+     */
+    public void increaseConnections(boolean reused) {
+        (reused ? this.reusedConnections : this.newConnections).incrementAndGet();
     }
 
     /**
      * Increases the count of skipped tests.
      */
     public void increaseSkipped() {
-        this.skipped++;
+        this.skipped.incrementAndGet();
+    }
+
+    /**
+     * Gets the count of skipped tests.
+     *
+     * @return The count of skipped tests.
+     */
+    public int getSkipped() {
+        return this.skipped.get();
+    }
+
+    /**
+     * Gets the count of authentication errors.
+     *
+     * @return The count of authentication errors.
+     */
+    public int getAuthErrors() {
+        return this.authErrors.get();
+    }
+
+    /**
+     * Gets the count of I/O errors.
+     *
+     * @return The count of I/O errors.
+     */
+    public int getIoErrors() {
+        return this.ioErrors.get();
+    }
+
+    /**
+     * Gets the count of responses throttled by the service with 429, or with 503 and a Retry-After header.
+     *
+     * @return The count of throttled responses.
+     */
+    public int getThrottled() {
+        return this.throttled.get();
+    }
+
+    /**
+     * Gets the time lost because of throttled responses, in milliseconds.
+     *
+     * @return The time lost because of throttling.
+     */
+    public long getThrottlingTimeInMs() {
+        return this.throttlingTimeInMs.get();
+    }
+
+    /**
+     * Gets the count of requests for which the response of an identical earlier request was reused.
+     *
+     * @return The count of reused responses.
+     */
+    public int getReusedResponses() {
+        return this.reusedResponses.get();
+    }
+
+    /**
+     * Gets the count of requests sent on a new connection.
+     *
+     * @return The count of new connections.
+     */
+    public int getNewConnections() {
+        return this.newConnections.get();
+    }
+
+    /**
+     * Gets the count of requests sent on a connection reused from the connection pool.
+     *
+     * @return The count of reused connections.
+     */
+    public int getReusedConnections() {
+        return this.reusedConnections.get();
     }
 
     /**
@@ -103,7 +227,7 @@ public class ExecutionStatisticsListener {
      * @return The total count of errors.
      */
     public long getErrors() {
-        return this.errors.values().stream().reduce(0L, Long::sum);
+        return sum(this.errors);
     }
 
     /**
@@ -112,7 +236,7 @@ public class ExecutionStatisticsListener {
      * @return The total count of warnings.
      */
     public long getWarns() {
-        return this.warns.values().stream().reduce(0L, Long::sum);
+        return sum(this.warns);
     }
 
     /**
@@ -121,7 +245,7 @@ public class ExecutionStatisticsListener {
      * @return The total count of successful executions.
      */
     public long getSuccess() {
-        return this.success.values().stream().reduce(0L, Long::sum);
+        return sum(this.success);
     }
 
     /**
@@ -139,7 +263,9 @@ public class ExecutionStatisticsListener {
      * @return {@code true} if there are many authentication errors, {@code false} otherwise.
      */
     public boolean areManyAuthErrors() {
-        return getAll() > 0 && authErrors <= getAll() && authErrors >= this.getAll() / 2;
+        long all = this.getAll();
+        int auth = this.getAuthErrors();
+        return all > 0 && auth <= all && auth >= all / 2;
     }
 
     /**
@@ -148,7 +274,14 @@ public class ExecutionStatisticsListener {
      * @return {@code true} if there are many I/O errors, {@code false} otherwise.
      */
     public boolean areManyIoErrors() {
-        return getAll() > 0 && ioErrors >= this.getAll() / 2;
+        long all = this.getAll();
+        return all > 0 && this.getIoErrors() >= all / 2;
+    }
+
+    private static long sum(Map<String, Long> counters) {
+        synchronized (counters) {
+            return counters.values().stream().reduce(0L, Long::sum);
+        }
     }
 
     /**
@@ -164,6 +297,16 @@ public class ExecutionStatisticsListener {
         return "%s, %s, %s".formatted(errorsString, warnsString, successString);
     }
 
+    /**
+     * Gets the count of errors for a specific path.
+     *
+     * @param path The path for which to get the count of errors.
+     * @return The count of errors for the specified path.
+     */
+    public long getPathErrors(String path) {
+        return this.errors.getOrDefault(path, 0L);
+    }
+
     /**
      * Gets the total count of all executions (successes + warnings + errors) for a specific path.
      *
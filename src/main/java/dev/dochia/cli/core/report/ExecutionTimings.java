@@ -0,0 +1,165 @@
+package dev.dochia.cli.core.report;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import dev.dochia.cli.core.http.HttpMethod;
+import dev.dochia.cli.core.util.JsonUtils;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps how long each playbook took to run for each path and HTTP method, together with the number of tests and errors it produced.
+ * Timings are persisted in the report folder so that following runs can schedule the longest running work first
+ * or the work most likely to find errors when running within a time budget.
+ * Timings from previous runs are kept for the units not executed in the current run, such as when running a single shard.
+ */
+@Singleton
+public class ExecutionTimings {
+    /**
+     * Name of the file storing the timings, created in the root of the report folder.
+     */
+    public static final String TIMINGS_FILE = "dochia-timings.json";
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(ExecutionTimings.class);
+    private final Map<UnitKey, UnitTiming> previousTimings = new HashMap<>();
+    private final Map<UnitKey, UnitTiming> currentTimings = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the timings recorded by a previous run in the given report folder, if any.
+     * This must be called before the report folder is cleaned up for the current run.
+     *
+     * @param reportFolder the report folder
+     */
+    public void load(String reportFolder) {
+        Path timingsPath = Paths.get(reportFolder, TIMINGS_FILE);
+        if (!Files.exists(timingsPath)) {
+            return;
+        }
+        try {
+            List<UnitTiming> timings = JsonUtils.GSON.fromJson(Files.readString(timingsPath), new TypeToken<List<UnitTiming>>() {
+            }.getType());
+            Optional.ofNullable(timings).orElse(List.of()).stream()
+                    .filter(timing -> timing.path() != null && timing.httpMethod() != null && timing.playbook() != null)
+                    .forEach(timing -> previousTimings.put(new UnitKey(timing.path(), timing.httpMethod(), timing.playbook()), timing));
+            logger.debug("Loaded {} timings from previous runs", previousTimings.size());
+        } catch (IOException | JsonParseException e) {
+            logger.debug("Unable to load timings from previous runs: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Records how long a playbook took to run for the given path and HTTP method and the results it produced.
+     *
+     * @param path         the contract path
+     * @param httpMethod   the HTTP method
+     * @param playbook     the name of the playbook
+     * @param durationInMs how long the playbook took to run, in milliseconds
+     * @param tests        the number of tests executed by the playbook
+     * @param errors       the number of tests reported as errors
+     */
+    public void record(String path, HttpMethod httpMethod, String playbook, long durationInMs, long tests, long errors) {
+        currentTimings.merge(new UnitKey(path, httpMethod, playbook), new UnitTiming(path, httpMethod, playbook, durationInMs, tests, errors),
+                (existing, recorded) -> new UnitTiming(path, httpMethod, playbook, existing.durationInMs() + recorded.durationInMs(),
+                        existing.tests() + recorded.tests(), existing.errors() + recorded.errors()));
+    }
+
+    /**
+     * Returns how long a playbook took to run for the given path and HTTP method in a previous run.
+     *
+     * @param path       the contract path
+     * @param httpMethod the HTTP method
+     * @param playbook   the name of the playbook
+     * @return the duration in milliseconds, if recorded by a previous run
+     */
+    public OptionalLong getPreviousDuration(String path, HttpMethod httpMethod, String playbook) {
+        return this.getPreviousTiming(path, httpMethod, playbook)
+                .map(timing -> OptionalLong.of(timing.durationInMs()))
+                .orElse(OptionalLong.empty());
+    }
+
+    /**
+     * Returns the timing and results recorded by a previous run for a playbook run against the given path and HTTP method.
+     *
+     * @param path       the contract path
+     * @param httpMethod the HTTP method
+     * @param playbook   the name of the playbook
+     * @return the timing recorded by a previous run, if any
+     */
+    public Optional<UnitTiming> getPreviousTiming(String path, HttpMethod httpMethod, String playbook) {
+        return Optional.ofNullable(previousTimings.get(new UnitKey(path, httpMethod, playbook)));
+    }
+
+    /**
+     * Returns all the timings recorded by previous runs.
+     *
+     * @return the timings recorded by previous runs
+     */
+    public Collection<UnitTiming> getPreviousTimings() {
+        return Collections.unmodifiableCollection(previousTimings.values());
+    }
+
+    /**
+     * Returns how long all playbooks took to run for the given path in a previous run.
+     *
+     * @param path the contract path
+     * @return the duration in milliseconds, if recorded by a previous run
+     */
+    public OptionalLong getPreviousPathDuration(String path) {
+        return previousTimings.entrySet().stream()
+                .filter(entry -> entry.getKey().path().equals(path))
+                .mapToLong(entry -> entry.getValue().durationInMs())
+                .reduce(Long::sum);
+    }
+
+    /**
+     * Writes the timings in the given report folder. Timings recorded in the current run replace the ones from previous runs.
+     *
+     * @param reportFolder the report folder
+     */
+    public void write(String reportFolder) {
+        Map<UnitKey, UnitTiming> allTimings = new HashMap<>(previousTimings);
+        allTimings.putAll(currentTimings);
+        List<UnitTiming> timings = allTimings.values().stream()
+                .sorted(Comparator.comparing(UnitTiming::path).thenComparing(UnitTiming::httpMethod).thenComparing(UnitTiming::playbook))
+                .toList();
+        try {
+            Path timingsPath = Paths.get(reportFolder, TIMINGS_FILE);
+            Files.createDirectories(timingsPath.getParent());
+            Files.writeString(timingsPath, JsonUtils.GSON.toJson(timings), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.debug("Unable to write timings: {}", e.getMessage());
+        }
+    }
+
+    private record UnitKey(String path, HttpMethod httpMethod, String playbook) {
+    }
+
+    /**
+     * The timing and results of a playbook run against a path and HTTP method.
+     *
+     * @param path         the contract path
+     * @param httpMethod   the HTTP method
+     * @param playbook     the name of the playbook
+     * @param durationInMs how long the playbook took to run, in milliseconds
+     * @param tests        the number of tests executed by the playbook
+     * @param errors       the number of tests reported as errors
+     */
+    public record UnitTiming(String path, HttpMethod httpMethod, String playbook, long durationInMs, long tests, long errors) {
+    }
+}
@@ -0,0 +1,71 @@
+package dev.dochia.cli.core.report;
+
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import jakarta.inject.Singleton;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+
+/**
+ * Java Flight Recorder recording of a run, written in the report folder when the run ends.
+ * Besides the JVM events from the {@code default} configuration, the recording holds a {@link TestCasePhaseEvent}
+ * for each phase of each test case, so that the time spent by each playbook and path can be broken down
+ * using tools such as JDK Mission Control or {@code jfr print --events dev.dochia.TestCasePhase}.
+ */
+@Singleton
+public class FlightRecording {
+    /**
+     * Name of the recording file, created in the root of the report folder.
+     */
+    public static final String RECORDING_FILE = "dochia-recording.jfr";
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(FlightRecording.class);
+    private Recording recording;
+    private Path recordingPath;
+
+    /**
+     * Starts recording the current run.
+     *
+     * @param reportFolder the report folder where the recording is written when stopped
+     * @throws IOException if the recording cannot be started
+     */
+    public void start(String reportFolder) throws IOException {
+        recordingPath = Paths.get(reportFolder, RECORDING_FILE);
+        Files.createDirectories(recordingPath.getParent());
+        try {
+            recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName("dochia");
+            recording.enable(TestCasePhaseEvent.class);
+            recording.setToDisk(true);
+            recording.setDestination(recordingPath);
+            recording.start();
+        } catch (ParseException | IllegalStateException | SecurityException e) {
+            recording = null;
+            throw new IOException("Unable to start flight recording: " + e.getMessage(), e);
+        }
+        logger.debug("Flight recording started, writing to {}", recordingPath);
+    }
+
+    /**
+     * Stops the recording, if started, and writes it in the report folder.
+     */
+    public void stop() {
+        if (recording == null) {
+            return;
+        }
+        try (Recording finishedRecording = recording) {
+            finishedRecording.stop();
+            logger.info("Flight recording written to {}", recordingPath);
+        } catch (IllegalStateException e) {
+            logger.debug("Unable to write flight recording: {}", e.getMessage());
+        } finally {
+            recording = null;
+        }
+    }
+}
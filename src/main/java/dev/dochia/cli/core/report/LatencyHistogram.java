@@ -0,0 +1,137 @@
+package dev.dochia.cli.core.report;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in the style of HdrHistogram. Values below 32 are counted exactly, while larger
+ * values are counted in 16 linear buckets for each power of two, which keeps the relative error of the reported
+ * percentiles below 6.25% for any value. The buckets of a power of two are only allocated once a value in that range
+ * is recorded, so that a histogram only takes a few hundred bytes when latencies are in a narrow range.
+ * <p>
+ * Recording is safe to call from any number of threads without locking. Reading percentiles while recording is
+ * also safe, with the result reflecting a recent, but not necessarily consistent, view of the recorded values.
+ * </p>
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final int MAGNITUDES = Long.SIZE - SUB_BUCKET_BITS;
+
+    private final AtomicLongArray exactCounts = new AtomicLongArray(SUB_BUCKETS);
+    private final AtomicReferenceArray<AtomicLongArray> magnitudeCounts = new AtomicReferenceArray<>(MAGNITUDES);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a value. Negative values are recorded as 0.
+     *
+     * @param value the value to record
+     */
+    public void record(long value) {
+        long recordedValue = Math.max(0, value);
+        if (recordedValue < SUB_BUCKETS) {
+            exactCounts.incrementAndGet((int) recordedValue);
+        } else {
+            int shift = magnitudeShift(recordedValue);
+            this.magnitude(shift).incrementAndGet((int) (recordedValue >> shift) - HALF_SUB_BUCKETS);
+        }
+        count.increment();
+        sum.add(recordedValue);
+        max.accumulate(recordedValue);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of the recorded values.
+     *
+     * @return the sum of the recorded values
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the largest recorded value, or 0 if no value was recorded.
+     *
+     * @return the largest recorded value
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the value below which the given fraction of the recorded values fall. The value is the highest value
+     * counted in the same bucket as the value at the given rank, but never higher than the largest recorded value.
+     *
+     * @param quantile the fraction of values, between 0 and 1
+     * @return the value at the given quantile, or 0 if no value was recorded
+     */
+    public long getValueAtQuantile(double quantile) {
+        long total = this.countBuckets();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.clamp(quantile, 0, 1) * total));
+        long seen = 0;
+        for (int value = 0; value < SUB_BUCKETS; value++) {
+            seen += exactCounts.get(value);
+            if (seen >= rank) {
+                return Math.min(value, this.getMax());
+            }
+        }
+        for (int shift = 1; shift <= MAGNITUDES; shift++) {
+            AtomicLongArray counts = magnitudeCounts.get(shift - 1);
+            for (int bucket = 0; counts != null && bucket < HALF_SUB_BUCKETS; bucket++) {
+                seen += counts.get(bucket);
+                if (seen >= rank) {
+                    long highestValueInBucket = ((long) (bucket + HALF_SUB_BUCKETS) << shift) + (1L << shift) - 1;
+                    return Math.min(highestValueInBucket, this.getMax());
+                }
+            }
+        }
+        return this.getMax();
+    }
+
+    private long countBuckets() {
+        long total = 0;
+        for (int value = 0; value < SUB_BUCKETS; value++) {
+            total += exactCounts.get(value);
+        }
+        for (int shift = 1; shift <= MAGNITUDES; shift++) {
+            AtomicLongArray counts = magnitudeCounts.get(shift - 1);
+            for (int bucket = 0; counts != null && bucket < HALF_SUB_BUCKETS; bucket++) {
+                total += counts.get(bucket);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns how many bits the value must be shifted so that it falls in {@code [HALF_SUB_BUCKETS, SUB_BUCKETS)}.
+     */
+    private static int magnitudeShift(long value) {
+        return Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+    }
+
+    private AtomicLongArray magnitude(int shift) {
+        AtomicLongArray counts = magnitudeCounts.get(shift - 1);
+        if (counts == null) {
+            magnitudeCounts.compareAndSet(shift - 1, null, new AtomicLongArray(HALF_SUB_BUCKETS));
+            counts = magnitudeCounts.get(shift - 1);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,158 @@
+package dev.dochia.cli.core.report;
+
+import dev.dochia.cli.core.model.TestCase;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the metrics of the current run: the number of test cases for each playbook and result, and a latency histogram
+ * for each operation, playbook and response code. Metrics are updated without locking as test cases end, and are
+ * periodically written in the Prometheus text format in the report folder, so that long runs can be inspected or
+ * scraped, for example using the textfile collector of the node exporter, while still running.
+ * <p>
+ * Metrics are only kept while exporting, between {@link #startExport(String, Duration)} and {@link #stopExport()}.
+ * </p>
+ */
+@Singleton
+public class MetricsRegistry {
+    /**
+     * Name of the metrics file, created in the root of the report folder.
+     */
+    public static final String METRICS_FILE = "dochia-metrics.prom";
+    private static final List<Double> QUANTILES = List.of(0.5, 0.9, 0.95, 0.99, 0.999);
+    private static final String RESPONSE_TIME = "dochia_response_time_milliseconds";
+    private static final String TEST_CASES = "dochia_test_cases_total";
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(MetricsRegistry.class);
+    private final Map<ResponseKey, LatencyHistogram> responseTimes = new ConcurrentHashMap<>();
+    private final Map<ResultKey, LongAdder> testCases = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+    private ScheduledExecutorService exporter;
+    private Path metricsPath;
+
+    /**
+     * Records the result and response time of a test case which ended.
+     *
+     * @param testCase the test case
+     */
+    public void recordTestCase(TestCase testCase) {
+        if (!enabled) {
+            return;
+        }
+        testCases.computeIfAbsent(new ResultKey(testCase.getPlaybook(), testCase.getResult()), _ -> new LongAdder()).increment();
+        if (testCase.notIgnoredForExecutionStatistics()) {
+            ResponseKey responseKey = new ResponseKey(testCase.getContractPath(), testCase.getHttpMethod(), testCase.getPlaybook(), testCase.getResponse().getResponseCode());
+            responseTimes.computeIfAbsent(responseKey, _ -> new LatencyHistogram()).record(testCase.getResponse().getResponseTimeInMs());
+        }
+    }
+
+    /**
+     * Starts keeping metrics and writing them in the given report folder every {@code interval}.
+     *
+     * @param reportFolder the report folder
+     * @param interval     how often metrics are written
+     * @throws IOException if the report folder cannot be created
+     */
+    public void startExport(String reportFolder, Duration interval) throws IOException {
+        metricsPath = Paths.get(reportFolder, METRICS_FILE);
+        Files.createDirectories(metricsPath.getParent());
+        responseTimes.clear();
+        testCases.clear();
+        enabled = true;
+
+        long intervalInMs = Math.max(1, interval.toMillis());
+        exporter = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("dochia-metrics").factory());
+        exporter.scheduleAtFixedRate(this::export, intervalInMs, intervalInMs, TimeUnit.MILLISECONDS);
+        this.export();
+    }
+
+    /**
+     * Stops the periodic export, if started, and writes the final metrics of the run.
+     */
+    public void stopExport() {
+        if (exporter == null) {
+            return;
+        }
+        exporter.close();
+        exporter = null;
+        this.export();
+        enabled = false;
+    }
+
+    /**
+     * Returns the current metrics in the Prometheus text format.
+     *
+     * @return the current metrics
+     */
+    public String toPrometheusText() {
+        StringBuilder text = new StringBuilder();
+        text.append("# HELP ").append(TEST_CASES).append(" Test cases by playbook and result.\n");
+        text.append("# TYPE ").append(TEST_CASES).append(" counter\n");
+        testCases.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(ResultKey::labels)))
+                .forEach(entry -> appendSample(text, TEST_CASES, entry.getKey().labels(), entry.getValue().sum()));
+
+        text.append("# HELP ").append(RESPONSE_TIME).append(" Response time of the test cases by operation, playbook and response code.\n");
+        text.append("# TYPE ").append(RESPONSE_TIME).append(" summary\n");
+        responseTimes.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(ResponseKey::labels)))
+                .forEach(entry -> {
+                    String labels = entry.getKey().labels();
+                    LatencyHistogram histogram = entry.getValue();
+                    QUANTILES.forEach(quantile -> appendSample(text, RESPONSE_TIME, labels + ",quantile=\"" + quantile + "\"",
+                            histogram.getValueAtQuantile(quantile)));
+                    appendSample(text, RESPONSE_TIME + "_sum", labels, histogram.getSum());
+                    appendSample(text, RESPONSE_TIME + "_count", labels, histogram.getCount());
+                });
+        return text.toString();
+    }
+
+    private void export() {
+        try {
+            Path temporaryPath = metricsPath.resolveSibling(METRICS_FILE + ".tmp");
+            Files.writeString(temporaryPath, this.toPrometheusText(), StandardCharsets.UTF_8);
+            // scrapers must never see a partially written file
+            Files.move(temporaryPath, metricsPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.debug("Unable to write metrics: {}", e.getMessage());
+        }
+    }
+
+    private static void appendSample(StringBuilder text, String name, String labels, long value) {
+        text.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static String label(String name, Object value) {
+        String escapedValue = String.valueOf(value).replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        return name + "=\"" + escapedValue + "\"";
+    }
+
+    private record ResultKey(String playbook, String result) {
+        String labels() {
+            return label("playbook", playbook) + "," + label("result", result);
+        }
+    }
+
+    private record ResponseKey(String path, String httpMethod, String playbook, int responseCode) {
+        String labels() {
+            return label("path", path) + "," + label("method", httpMethod) + "," + label("playbook", playbook) + "," + label("code", responseCode);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package dev.dochia.cli.core.report;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import jakarta.inject.Singleton;
+import lombok.Getter;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * Append-only journal recording the progress of a run in the report folder. Each completed test and each completed
+ * (path, HTTP method, playbook) unit is written on a separate line, so that an interrupted run can be resumed by skipping
+ * the completed units and keeping their tests in the report. The journal is flushed once per completed unit,
+ * together with the tests of the unit, as only the tests of completed units are kept on resume.
+ * Tests belonging to units that did not complete are discarded on resume, as the whole unit is run again,
+ * and their numbers are given to the tests of the resumed run.
+ */
+@Singleton
+public class ProgressJournal {
+    /**
+     * Name of the journal file, created in the root of the report folder.
+     */
+    public static final String JOURNAL_FILE = "dochia-progress.jsonl";
+    private static final String RUN = "run";
+    private static final String TEST = "test";
+    private static final String UNIT = "unit";
+    private static final Pattern TEST_FILE = Pattern.compile("(Pending)?Test(\\d{1,9})\\.\\w+");
+    private static final Gson JOURNAL_GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(ProgressJournal.class);
+    private final Set<UnitKey> completedUnits = new HashSet<>();
+
+    /**
+     * The test numbers of the tests belonging to units completed in the previous run, in ascending order.
+     */
+    @Getter
+    private final List<Integer> completedTestNumbers = new ArrayList<>();
+
+    /**
+     * The highest test number recorded by the previous run.
+     */
+    @Getter
+    private int lastTestNumber;
+    private BufferedWriter writer;
+
+    /**
+     * Starts journaling the progress of the current run in the given report folder.
+     * When resuming, the journal of the previous run is loaded, the report files of the tests belonging to
+     * units that did not complete are deleted and the current run continues appending to the same journal.
+     * Otherwise, a new journal is created, recording the given seed.
+     *
+     * @param reportFolder the report folder
+     * @param resume       whether the previous run is resumed
+     * @param seed         the seed used by the current run
+     * @return the seed to be used by the current run; when resuming, this is the seed of the previous run
+     * @throws IOException if the journal cannot be read or created
+     */
+    public long start(String reportFolder, boolean resume, long seed) throws IOException {
+        Path journalPath = Paths.get(reportFolder, JOURNAL_FILE);
+        Files.createDirectories(journalPath.getParent());
+        completedUnits.clear();
+        completedTestNumbers.clear();
+        lastTestNumber = 0;
+
+        if (resume && Files.exists(journalPath)) {
+            long previousSeed = this.load(journalPath);
+            writer = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            return previousSeed;
+        }
+        if (resume) {
+            logger.warning("No progress journal found in {}, starting a new run", reportFolder);
+        }
+        writer = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8);
+        this.append(new JournalEntry(RUN, seed, null, null, null, null), true);
+        return seed;
+    }
+
+    private long load(Path journalPath) throws IOException {
+        long previousSeed = 0;
+        Map<UnitKey, List<Integer>> testsPerUnit = new HashMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JournalEntry entry = this.parse(line);
+                if (entry == null) {
+                    continue;
+                }
+                UnitKey unitKey = new UnitKey(entry.path(), entry.httpMethod(), entry.playbook());
+                switch (entry.type()) {
+                    case RUN -> previousSeed = entry.seed();
+                    case TEST -> {
+                        testsPerUnit.computeIfAbsent(unitKey, _ -> new ArrayList<>()).add(entry.testNumber());
+                        lastTestNumber = Math.max(lastTestNumber, entry.testNumber());
+                    }
+                    case UNIT -> completedUnits.add(unitKey);
+                    default -> logger.debug("Unknown progress journal entry {}", line);
+                }
+            }
+        }
+
+        testsPerUnit.forEach((unitKey, testNumbers) -> {
+            if (completedUnits.contains(unitKey)) {
+                completedTestNumbers.addAll(testNumbers);
+            }
+        });
+        completedTestNumbers.sort(Integer::compareTo);
+        this.deleteDiscardedTestFiles(journalPath.getParent());
+        logger.info("Resuming previous run: {} completed units, {} completed tests", completedUnits.size(), completedTestNumbers.size());
+
+        return previousSeed;
+    }
+
+    private JournalEntry parse(String line) {
+        try {
+            JournalEntry entry = JOURNAL_GSON.fromJson(line, JournalEntry.class);
+            if (entry == null || entry.type() == null || (RUN.equals(entry.type()) && entry.seed() == null)
+                    || (TEST.equals(entry.type()) && entry.testNumber() == null)) {
+                return null;
+            }
+            return entry;
+        } catch (JsonParseException e) {
+            // the last line might be incomplete if the previous run was killed while writing it
+            logger.debug("Ignoring invalid progress journal entry {}: {}", line, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Deletes the report files of all the tests which are not kept, including tests written to the report
+     * but not yet journaled when the previous run was interrupted and tests still having a provisional id.
+     */
+    private void deleteDiscardedTestFiles(Path reportFolder) {
+        Set<Integer> keptTestNumbers = new HashSet<>(completedTestNumbers);
+        try (var files = Files.newDirectoryStream(reportFolder, "{Test,PendingTest}*.*")) {
+            for (Path file : files) {
+                Matcher matcher = TEST_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches() && (matcher.group(1) != null || !keptTestNumbers.contains(Integer.parseInt(matcher.group(2))))) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Unable to delete files of discarded tests: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the numbers up to {@link #getLastTestNumber()} which are not used by tests kept from the previous run,
+     * in ascending order. These are given to new tests before continuing after the last test number, so that tests stay
+     * numbered without gaps.
+     *
+     * @return the test numbers that can be reused by the current run
+     */
+    public List<Integer> getReusableTestNumbers() {
+        Set<Integer> keptTestNumbers = new HashSet<>(completedTestNumbers);
+        return IntStream.rangeClosed(1, lastTestNumber).filter(testNumber -> !keptTestNumbers.contains(testNumber)).boxed().toList();
+    }
+
+    /**
+     * Checks if the given unit was completed by the previous run.
+     *
+     * @param path       the contract path
+     * @param httpMethod the HTTP method
+     * @param playbook   the name of the playbook
+     * @return true if the unit was completed by the previous run, false otherwise
+     */
+    public boolean isCompleted(String path, String httpMethod, String playbook) {
+        return completedUnits.contains(new UnitKey(path, httpMethod, playbook));
+    }
+
+    /**
+     * Records a test written to the report. The entry is written to disk with the next completed unit.
+     * This does nothing if the journal was not started.
+     *
+     * @param path       the contract path
+     * @param httpMethod the HTTP method
+     * @param playbook   the name of the playbook
+     * @param testNumber the number of the test
+     */
+    public void testCompleted(String path, String httpMethod, String playbook, int testNumber) {
+        this.append(new JournalEntry(TEST, null, path, httpMethod, playbook, testNumber), false);
+    }
+
+    /**
+     * Records a completed (path, HTTP method, playbook) unit. This does nothing if the journal was not started.
+     *
+     * @param path       the contract path
+     * @param httpMethod the HTTP method
+     * @param playbook   the name of the playbook
+     */
+    public void unitCompleted(String path, String httpMethod, String playbook) {
+        this.append(new JournalEntry(UNIT, null, path, httpMethod, playbook, null), true);
+    }
+
+    private synchronized void append(JournalEntry entry, boolean flush) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.write(JOURNAL_GSON.toJson(entry));
+            writer.newLine();
+            if (flush) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            logger.debug("Unable to write progress journal entry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stops journaling the progress of the current run.
+     */
+    public synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.debug("Unable to close progress journal: {}", e.getMessage());
+        }
+        writer = null;
+    }
+
+    private record UnitKey(String path, String httpMethod, String playbook) {
+    }
+
+    private record JournalEntry(String type, Long seed, String path, String httpMethod, String playbook, Integer testNumber) {
+    }
+}
@@ -0,0 +1,196 @@
+package dev.dochia.cli.core.report;
+
+import com.google.common.collect.Iterators;
+import dev.dochia.cli.core.util.AnsiUtils;
+import dev.dochia.cli.core.util.ConsoleUtils;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Renders the console progress row at a fixed rate on its own thread, so that rendering costs nothing per test.
+ * Besides the current activity, such as the path and playbook being run, the row shows the throughput of the run:
+ * requests per second and response time percentiles over the last seconds, the number of completed tests out of
+ * the estimated total and the estimated time left.
+ * <p>
+ * Test cases only update counters and a latency histogram, without locking. The estimated total is extrapolated from
+ * the number of tests run for the paths already completed, so it's only available once the first path completes.
+ * </p>
+ */
+@Singleton
+public class ProgressRenderer {
+    /**
+     * How often the progress row is rendered.
+     */
+    static final Duration REFRESH_INTERVAL = Duration.ofMillis(250);
+    private static final long ROLLING_WINDOW_MS = 5000;
+    private static final char DONE = '✔';
+
+    private final Iterator<Character> cycle = Iterators.cycle('\\', '|', '/', '-');
+    private final LongAdder completedTests = new LongAdder();
+    private final AtomicReference<LatencyHistogram> currentWindow = new AtomicReference<>(new LatencyHistogram());
+    private final Set<String> completedPaths = ConcurrentHashMap.newKeySet();
+    private final Deque<Sample> samples = new ArrayDeque<>();
+    private volatile long testsInCompletedPaths;
+    private LatencyHistogram previousWindow = new LatencyHistogram();
+    private long windowStart;
+    private long startTime;
+    private int totalPaths;
+    private Supplier<String> activity;
+    private boolean rowRendered;
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Starts rendering the progress row, if not already started.
+     *
+     * @param totalPaths the number of paths that will be run
+     */
+    public synchronized void start(int totalPaths) {
+        if (ticker != null) {
+            return;
+        }
+        this.totalPaths = totalPaths;
+        this.startTime = System.currentTimeMillis();
+        this.windowStart = startTime;
+        this.completedTests.reset();
+        this.completedPaths.clear();
+        this.testsInCompletedPaths = 0;
+        this.currentWindow.set(new LatencyHistogram());
+        this.previousWindow = new LatencyHistogram();
+        this.samples.clear();
+        this.samples.add(new Sample(startTime, 0));
+        ticker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("dochia-progress").factory());
+        ticker.scheduleAtFixedRate(this::render, REFRESH_INTERVAL.toMillis(), REFRESH_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops rendering the progress row. The current activity is discarded.
+     */
+    public void stop() {
+        ScheduledExecutorService stoppedTicker;
+        synchronized (this) {
+            stoppedTicker = ticker;
+            ticker = null;
+            activity = null;
+        }
+        if (stoppedTicker != null) {
+            stoppedTicker.close();
+        }
+    }
+
+    /**
+     * Records a completed test case.
+     *
+     * @param responseTimeInMs the response time of the test case
+     */
+    public void testCompleted(long responseTimeInMs) {
+        completedTests.increment();
+        currentWindow.get().record(responseTimeInMs);
+    }
+
+    /**
+     * Records that all the tests of the given path completed. This is used to estimate the total number of tests.
+     *
+     * @param path the completed path
+     */
+    public void pathCompleted(String path) {
+        if (completedPaths.add(path)) {
+            testsInCompletedPaths = completedTests.sum();
+        }
+    }
+
+    /**
+     * Sets the activity rendered at the start of the progress row, until replaced.
+     * The activity is computed each time the row is rendered.
+     *
+     * @param currentActivity supplies the activity, with the columns separated by {@link ConsoleUtils#SEPARATOR}
+     */
+    public synchronized void showActivity(Supplier<String> currentActivity) {
+        this.activity = currentActivity;
+    }
+
+    /**
+     * Renders a finished activity in place of the progress row. The progress row continues on the next console row.
+     *
+     * @param doneActivity the finished activity, with the columns separated by {@link ConsoleUtils#SEPARATOR}
+     */
+    public synchronized void renderDone(String doneActivity) {
+        if (rowRendered) {
+            ConsoleUtils.renderSameRow(doneActivity, DONE);
+        } else {
+            ConsoleUtils.renderNewRow(doneActivity, DONE);
+        }
+        rowRendered = false;
+    }
+
+    synchronized void render() {
+        if (activity == null) {
+            return;
+        }
+        String row = activity.get() + " " + AnsiUtils.blue(this.throughput(System.currentTimeMillis()));
+        if (rowRendered) {
+            ConsoleUtils.renderSameRow(row, cycle.next());
+        } else {
+            ConsoleUtils.renderNewRow(row, cycle.next());
+            rowRendered = true;
+        }
+    }
+
+    /**
+     * Returns the throughput of the run as of the given time. Each call advances the rolling window,
+     * so this must only be called when rendering.
+     */
+    synchronized String throughput(long now) {
+        long completed = completedTests.sum();
+        samples.addLast(new Sample(now, completed));
+        while (samples.size() > 2 && samples.peekFirst().time() < now - ROLLING_WINDOW_MS) {
+            samples.removeFirst();
+        }
+        Sample oldest = samples.peekFirst();
+        double requestsPerSecond = now > oldest.time() ? (completed - oldest.tests()) * 1000.0 / (now - oldest.time()) : 0;
+
+        if (now - windowStart >= ROLLING_WINDOW_MS) {
+            previousWindow = currentWindow.getAndSet(new LatencyHistogram());
+            windowStart = now;
+        }
+        LatencyHistogram latencies = currentWindow.get().getCount() > 0 ? currentWindow.get() : previousWindow;
+
+        return String.format(Locale.ROOT, "%.1f req/s p50 %dms p99 %dms %d/%s%s", requestsPerSecond,
+                latencies.getValueAtQuantile(0.5), latencies.getValueAtQuantile(0.99), completed,
+                this.estimatedTotal(completed), this.eta(completed, now));
+    }
+
+    private String estimatedTotal(long completed) {
+        int paths = completedPaths.size();
+        if (paths == 0 || totalPaths == 0) {
+            return "?";
+        }
+        return "~" + Math.max(completed, testsInCompletedPaths * Math.max(totalPaths, paths) / paths);
+    }
+
+    private String eta(long completed, long now) {
+        int paths = completedPaths.size();
+        long elapsed = now - startTime;
+        if (paths == 0 || totalPaths == 0 || completed == 0 || elapsed <= 0) {
+            return "";
+        }
+        long remainingTests = Math.max(0, testsInCompletedPaths * Math.max(totalPaths, paths) / paths - completed);
+        long remainingSeconds = remainingTests * elapsed / completed / 1000;
+        return " ETA " + Duration.ofSeconds(remainingSeconds).toString().toLowerCase(Locale.ROOT).substring(2);
+    }
+
+    private record Sample(long time, long tests) {
+    }
+}
@@ -0,0 +1,45 @@
+package dev.dochia.cli.core.report;
+
+import dev.dochia.cli.core.model.TestCase;
+import dev.dochia.cli.core.util.ConsoleUtils;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.fusesource.jansi.Ansi;
+
+/**
+ * Holds the state of a single test case while it is being executed.
+ * <p>
+ * A context is created by {@link TestCaseListener} when a test case starts and is handed to the code running the test,
+ * so that results are recorded directly on the owning test case rather than being looked up in a shared registry.
+ * As the context is not tied to a thread, test cases can be started on one thread and executed on another.
+ * </p>
+ */
+@Getter
+public class TestCaseContext {
+    private final int testNumber;
+    private final String playbook;
+    private final String httpMethod;
+    private final TestCase testCase;
+    private final String testNumberAnsi;
+    @Getter(AccessLevel.NONE)
+    private TestCasePhaseEvent payloadMutation;
+
+    TestCaseContext(int testNumber, String playbook, String httpMethod, TestCase testCase) {
+        this.testNumber = testNumber;
+        this.playbook = playbook;
+        this.httpMethod = httpMethod;
+        this.testCase = testCase;
+        this.testNumberAnsi = ConsoleUtils.centerWithAnsiColor(String.valueOf(testNumber), 7, Ansi.Color.MAGENTA);
+    }
+
+    void beginPayloadMutation() {
+        payloadMutation = TestCasePhaseEvent.start(TestCasePhaseEvent.Phase.PAYLOAD_MUTATION, this);
+    }
+
+    void endPayloadMutation() {
+        if (payloadMutation != null) {
+            payloadMutation.commit();
+            payloadMutation = null;
+        }
+    }
+}
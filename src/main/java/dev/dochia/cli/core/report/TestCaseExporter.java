@@ -10,6 +10,7 @@ import dev.dochia.cli.core.args.QualityGateArguments;
 import dev.dochia.cli.core.args.ReportingArguments;
 import dev.dochia.cli.core.context.GlobalContext;
 import dev.dochia.cli.core.model.DochiaConfiguration;
+import dev.dochia.cli.core.model.NetworkTimings;
 import dev.dochia.cli.core.model.TestCase;
 import dev.dochia.cli.core.model.TestCaseExecutionSummary;
 import dev.dochia.cli.core.model.TestCaseSummary;
@@ -20,6 +21,7 @@ import dev.dochia.cli.core.model.ann.ExcludeTestCaseStrategy;
 import dev.dochia.cli.core.playbook.api.DryRun;
 import dev.dochia.cli.core.util.AnsiUtils;
 import dev.dochia.cli.core.util.ConsoleUtils;
+import dev.dochia.cli.core.util.HttpResponseSerializer;
 import dev.dochia.cli.core.util.KeyValuePair;
 import dev.dochia.cli.core.util.KeyValueSerializer;
 import dev.dochia.cli.core.util.LongTypeSerializer;
@@ -116,6 +118,7 @@ public abstract class TestCaseExporter {
                 .setExclusionStrategies(new ExcludeTestCaseStrategy())
                 .registerTypeAdapter(Long.class, new LongTypeSerializer())
                 .registerTypeAdapter(KeyValuePair.class, new KeyValueSerializer(reportingArguments.getMaskedHeaders()))
+                .registerTypeAdapterFactory(new HttpResponseSerializer())
                 .serializeNulls()
                 .create();
         this.qualityGateArguments = qualityGateArguments;
@@ -137,7 +140,8 @@ public abstract class TestCaseExporter {
         String subFolder = reportingArguments.isTimestampReports() ? String.valueOf(System.currentTimeMillis()) : "";
         reportingPath = Paths.get(outputFolder, subFolder);
 
-        if (!reportingArguments.isTimestampReports() && reportingPath.toFile().exists()) {
+        // when resuming, tests completed by the previous run are kept in the report
+        if (!reportingArguments.isTimestampReports() && !reportingArguments.isResume() && reportingPath.toFile().exists()) {
             deleteFiles(reportingPath);
         }
         if (!reportingPath.toFile().exists()) {
@@ -244,6 +248,10 @@ public abstract class TestCaseExporter {
         logger.timer(AnsiUtils.yellow("Average response time: {}ms"), AnsiUtils.bold(NumberFormat.getInstance().format(timeExecutionDetails.getAverage())));
         logger.timer(AnsiUtils.red("Worst case response time: {}"), AnsiUtils.bold(timeExecutionDetails.getWorstCase().executionTimeString()));
         logger.timer(AnsiUtils.green("Best case response time: {}"), AnsiUtils.bold(timeExecutionDetails.getBestCase().executionTimeString()));
+        List<NetworkTimings> networkTimings = value.stream().map(TestCaseExecutionSummary::networkTimings).filter(Objects::nonNull).toList();
+        if (!networkTimings.isEmpty()) {
+            logger.timer("Average network timings: {}", NetworkTimings.average(networkTimings));
+        }
         ConsoleUtils.emptyLine();
 
         if (reportingArguments.isPrintDetailedExecutionStatistics()) {
@@ -412,6 +420,30 @@ public abstract class TestCaseExporter {
         writeJsonTestCase(testCase);
     }
 
+    /**
+     * Gives the final id to a test case written under a provisional id. The test case is read back from its JSON file
+     * and written again under the final id, after which the files written under the provisional id are deleted.
+     *
+     * @param provisionalTestId the id the test case was written with
+     * @param testId            the final id of the test case
+     */
+    @DryRun
+    public void renumberTestCase(String provisionalTestId, String testId) {
+        Path provisionalJson = Paths.get(reportingPath.toFile().getAbsolutePath(), provisionalTestId.replace(" ", "").concat(JSON));
+        Path provisionalHtml = Paths.get(reportingPath.toFile().getAbsolutePath(), provisionalTestId.replace(" ", "").concat(HTML));
+        try {
+            TestCase testCase = maskingSerializer.fromJson(Files.readString(provisionalJson), TestCase.class);
+            testCase.setTestId(testId);
+            this.writeTestCase(testCase);
+            Files.deleteIfExists(provisionalJson);
+            Files.deleteIfExists(provisionalHtml);
+        } catch (IOException | RuntimeException e) {
+            logger.error("There was a problem writing test case {}: {}. Please check if dochia has proper right to write in the report location: {}",
+                    testId, e.getMessage(), reportingPath.toFile().getAbsolutePath());
+            logger.debug(STACKTRACE, e);
+        }
+    }
+
     public void writeTopPlaybooks(List<TestCaseSummary> summaries) {
         List<Map.Entry<String, Long>> topPlaybooks = summaries.stream()
                 .filter(TestCaseSummary::getError)          // only issues
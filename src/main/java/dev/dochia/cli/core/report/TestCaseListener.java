@@ -1,6 +1,5 @@
 package dev.dochia.cli.core.report;
 
-import com.google.common.collect.Iterators;
 import com.google.common.net.MediaType;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -25,6 +24,7 @@ import dev.dochia.cli.core.playbook.api.TestCasePlaybook;
 import dev.dochia.cli.core.util.AnsiUtils;
 import dev.dochia.cli.core.util.CommonUtils;
 import dev.dochia.cli.core.util.ConsoleUtils;
+import dev.dochia.cli.core.util.JsonUtils;
 import dev.dochia.cli.core.util.WordUtils;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -36,20 +36,27 @@ import org.slf4j.MDC;
 import org.slf4j.event.Level;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -63,17 +70,17 @@ import static dev.dochia.cli.core.model.TestCase.SKIP_REPORTING;
 @ApplicationScoped
 @DryRun
 public class TestCaseListener {
-    private static final Iterator<Character> cycle = Iterators.cycle('\\', '\\', '\\', '|', '|', '|', '/', '/', '/', '-', '-', '-');
     private static final String DEFAULT = "*******";
-    static final String ID = "id";
     private static final String PLAYBOOK_KEY = "playbookKey";
     private static final String PLAYBOOK = "playbook";
     private static final String ID_ANSI = "id_ansi";
+    private static final String TEST_ID_PREFIX = "Test ";
+    private static final String PROVISIONAL_TEST_ID_PREFIX = "Pending Test ";
     static final AtomicInteger TEST = new AtomicInteger(0);
     private static final List<String> NOT_NECESSARILY_DOCUMENTED = Arrays.asList("406", "415", "414", "501", "413", "431");
     private static final String RECEIVED_RESPONSE_IS_MARKED_AS_IGNORED_SKIPPING = "Received response is marked as ignored... skipping!";
     private static final List<String> CONTENT_TYPE_DONT_MATCH_SCHEMA = List.of("application/csv", "application/pdf");
-    final Map<String, TestCase> testCaseMap = new HashMap<>();
+    private static final ScopedValue<TestCaseContext> CURRENT_TEST_CASE = ScopedValue.newInstance();
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(TestCaseListener.class);
     private static final String SEPARATOR = "-".repeat(ConsoleUtils.getConsoleColumns(22));
     private final ExecutionStatisticsListener executionStatisticsListener;
@@ -82,8 +89,11 @@ public class TestCaseListener {
     private final IgnoreArguments ignoreArguments;
     private final ReportingArguments reportingArguments;
     private final FilterArguments filterArguments;
-    final List<TestCaseSummary> testCaseSummaryDetails = new ArrayList<>();
-    final List<TestCaseExecutionSummary> testCaseExecutionDetails = new ArrayList<>();
+    private final ProgressJournal progressJournal;
+    private final MetricsRegistry metricsRegistry;
+    private final ProgressRenderer progressRenderer;
+    final List<TestCaseSummary> testCaseSummaryDetails = Collections.synchronizedList(new ArrayList<>());
+    final List<TestCaseExecutionSummary> testCaseExecutionDetails = Collections.synchronizedList(new ArrayList<>());
 
     @ConfigProperty(name = "quarkus.application.version", defaultValue = "1.0.0")
     String appVersion;
@@ -92,7 +102,35 @@ public class TestCaseListener {
     @ConfigProperty(name = "app.timestamp", defaultValue = "1-1-1")
     String appBuildTime;
 
-    private final Deque<String> runPerPathListener = new ArrayDeque<>();
+    /**
+     * Holds the paths started so far, in their running order, when paths are fuzzed sequentially.
+     * When running within a time budget, units from different paths are interleaved, so a path can be started again.
+     */
+    private final Set<String> startedPaths = new LinkedHashSet<>();
+    private String currentPath;
+
+    /**
+     * Holds the paths, in their running order, when paths are fuzzed in parallel.
+     * Completed paths are rendered strictly in this order, regardless of the order in which they finish.
+     */
+    private List<String> parallelPaths = List.of();
+    private final Set<String> completedParallelPaths = new HashSet<>();
+    private int nextParallelPathToRender;
+
+    /**
+     * Holds, for each path fuzzed in parallel and not yet reported, the completion of its test cases and units.
+     * These are run only after all the preceding paths were reported, so that test numbers, report files and the summary
+     * follow the running order of the paths rather than the order in which the workers happen to finish them.
+     * The test cases themselves are not kept: they are written to the reports right away under a provisional id
+     * and only renamed to their final number here.
+     */
+    private final Map<String, List<Runnable>> pendingParallelCompletions = new HashMap<>();
+    private final AtomicInteger provisionalTestNumber = new AtomicInteger();
+
+    /**
+     * Holds the numbers of the tests discarded when resuming a previous run, which are given to new tests first.
+     */
+    private final Queue<Integer> reusableTestNumbers = new ConcurrentLinkedQueue<>();
 
     /**
      * Constructs a TestCaseListener with the provided dependencies and configuration.
@@ -103,16 +141,24 @@ public class TestCaseListener {
      * @param ignoreArguments      the arguments for ignoring results
      * @param reportingArguments   the arguments for reporting test cases
      * @param filterArguments      the arguments for filtering results
+     * @param progressJournal      the journal recording the progress of the run
+     * @param metricsRegistry      the registry keeping the metrics of the run
+     * @param progressRenderer     the renderer of the console progress row
      * @throws NoSuchElementException if no matching exporter is found for the specified report format
      */
     public TestCaseListener(GlobalContext globalContext, ExecutionStatisticsListener er, TestReportsGenerator testReportsGenerator,
-                            IgnoreArguments ignoreArguments, ReportingArguments reportingArguments, FilterArguments filterArguments) {
+                            IgnoreArguments ignoreArguments, ReportingArguments reportingArguments, FilterArguments filterArguments,
+                            ProgressJournal progressJournal, MetricsRegistry metricsRegistry,
+                            ProgressRenderer progressRenderer) {
         this.executionStatisticsListener = er;
         this.testReportsGenerator = testReportsGenerator;
         this.ignoreArguments = ignoreArguments;
         this.globalContext = globalContext;
         this.reportingArguments = reportingArguments;
         this.filterArguments = filterArguments;
+        this.progressJournal = progressJournal;
+        this.metricsRegistry = metricsRegistry;
+        this.progressRenderer = progressRenderer;
     }
 
     private static String replaceBrackets(String message, Object... params) {
@@ -126,15 +172,19 @@ public class TestCaseListener {
         return reportingArguments.isSummaryInConsole() ? "" : DEFAULT;
     }
 
+    private static String getPlaybookName(Class<?> playbook) {
+        return ConsoleUtils.removeTrimSanitize(playbook.getSimpleName());
+    }
+
     /**
      * Performs setup actions before fuzzing for the specified playbook class.
      *
      * @param playbook the class representing the playbook
      */
     public void beforeFuzz(Class<?> playbook, String path, String httpMethod) {
-        String clazz = ConsoleUtils.removeTrimSanitize(playbook.getSimpleName()).replaceAll("[a-z]", "");
+        String clazz = getPlaybookName(playbook).replaceAll("[a-z]", "");
         MDC.put(PLAYBOOK, ConsoleUtils.centerWithAnsiColor(clazz, getKeyDefault().length(), Ansi.Color.MAGENTA));
-        MDC.put(PLAYBOOK_KEY, ConsoleUtils.removeTrimSanitize(playbook.getSimpleName()));
+        MDC.put(PLAYBOOK_KEY, getPlaybookName(playbook));
         MDC.put(CONTRACT_PATH, path);
         MDC.put(HTTP_METHOD, httpMethod);
         this.notifySummaryObservers(path);
@@ -143,10 +193,16 @@ public class TestCaseListener {
     /**
      * Performs cleanup actions after fuzzing for a specific path and HTTP method.
      *
-     * @param path the path for which fuzzing has been completed
+     * @param playbook   the class representing the playbook
+     * @param path       the path for which fuzzing has been completed
+     * @param httpMethod the HTTP method
      */
-    public void afterFuzz(String path) {
+    public void afterFuzz(Class<?> playbook, String path, String httpMethod) {
         this.notifySummaryObservers(path);
+        String playbookName = getPlaybookName(playbook);
+        if (!this.deferUntilPreviousPathsAreReported(path, () -> progressJournal.unitCompleted(path, httpMethod, playbookName))) {
+            progressJournal.unitCompleted(path, httpMethod, playbookName);
+        }
 
         MDC.put(PLAYBOOK, this.getKeyDefault());
         MDC.put(PLAYBOOK_KEY, this.getKeyDefault());
@@ -154,6 +210,18 @@ public class TestCaseListener {
         MDC.remove(HTTP_METHOD);
     }
 
+    /**
+     * Checks if the given playbook was run for the given path and HTTP method by the previous run being resumed.
+     *
+     * @param playbook   the class representing the playbook
+     * @param path       the contract path
+     * @param httpMethod the HTTP method
+     * @return true if the playbook completed in the previous run, false otherwise
+     */
+    public boolean isCompletedInPreviousRun(Class<?> playbook, String path, String httpMethod) {
+        return progressJournal.isCompleted(path, httpMethod, getPlaybookName(playbook));
+    }
+
     /**
      * Creates and executes a test by running the provided runnable.
      * Logs test start, catches exceptions during execution, logs results, and performs necessary cleanup.
@@ -163,17 +231,100 @@ public class TestCaseListener {
      * @param s                the runnable representing the test logic
      */
     public void createAndExecuteTest(PrettyLogger externalLogger, TestCasePlaybook testCasePlaybook, Runnable s, PlaybookData data) {
-        this.startTestCase(data);
-        try {
-            s.run();
-        } catch (Exception e) {
-            ResultFactory.Result result = ResultFactory.createUnexpectedException(testCasePlaybook.getClass().getSimpleName(), Optional.ofNullable(e.getMessage()).orElse(""));
-            this.reportResultError(externalLogger, data, result.reason(), result.message());
-            externalLogger.error("Exception while processing: {}", e.getMessage());
-            externalLogger.debug("Detailed stacktrace", e);
-            this.checkForIOErrors(e);
-        }
-        this.endTestCase();
+        this.createAndExecuteTest(externalLogger, testCasePlaybook, _ -> s.run(), data);
+    }
+
+    /**
+     * Creates and executes a test by running the provided test logic with the newly created {@link TestCaseContext}.
+     * Logs test start, catches exceptions during execution, logs results, and performs necessary cleanup.
+     *
+     * @param externalLogger   the external logger for logging test-related information
+     * @param testCasePlaybook the playbook associated with the test
+     * @param s                the test logic, receiving the context of the test case being executed
+     * @param data             the data used to fuzz the current path
+     */
+    public void createAndExecuteTest(PrettyLogger externalLogger, TestCasePlaybook testCasePlaybook, Consumer<TestCaseContext> s, PlaybookData data) {
+        TestCaseContext testCaseContext = this.startTestCase(testCasePlaybook, data);
+        this.executeTestCase(testCaseContext, externalLogger, testCasePlaybook, s, data);
+        this.endTestCase(testCaseContext);
+    }
+
+    /**
+     * Starts a new test case for the given playbook. The returned context must be used to execute the test logic
+     * using {@link #executeTestCase(TestCaseContext, PrettyLogger, TestCasePlaybook, Consumer, PlaybookData)}
+     * and then finished using {@link #endTestCase(TestCaseContext)}.
+     * <p>
+     * When paths are fuzzed in parallel, the number given here is only used while the test runs, for example in the
+     * User-Agent header. The test gets its final number once all the paths preceding its path were reported.
+     * </p>
+     *
+     * @param testCasePlaybook the playbook running the test case
+     * @param data             the data used to fuzz the current path
+     * @return the context of the newly created test case
+     */
+    public TestCaseContext startTestCase(TestCasePlaybook testCasePlaybook, PlaybookData data) {
+        int testNumber = this.isReportedLater(data.getContractPath()) ? provisionalTestNumber.incrementAndGet() : this.nextTestNumber();
+
+        TestCase testCase = new TestCase();
+        testCase.setTestId(TEST_ID_PREFIX + testNumber);
+        testCase.setContractPath(data.getContractPath());
+        testCase.setPath(data.getContractPath());
+        testCase.getRequest().setHttpMethod(String.valueOf(data.getMethod()));
+        String httpMethod = Optional.ofNullable(data.getMethod()).map(HttpMethod::name).orElse(null);
+        return new TestCaseContext(testNumber, getPlaybookName(testCasePlaybook.getClass()), httpMethod, testCase);
+    }
+
+    /**
+     * Executes the test logic within the given test case context. All the results reported while running the
+     * test logic are recorded in the given context, regardless of the thread this method is called on.
+     *
+     * @param testCaseContext  the context of the test case being executed
+     * @param externalLogger   the external logger for logging test-related information
+     * @param testCasePlaybook the playbook associated with the test
+     * @param s                the test logic
+     * @param data             the data used to fuzz the current path
+     */
+    public void executeTestCase(TestCaseContext testCaseContext, PrettyLogger externalLogger, TestCasePlaybook testCasePlaybook,
+                                Consumer<TestCaseContext> s, PlaybookData data) {
+        this.runInTestCase(testCaseContext, externalLogger, testCasePlaybook, data, () -> {
+            try {
+                testCaseContext.beginPayloadMutation();
+                s.accept(testCaseContext);
+            } finally {
+                testCaseContext.endPayloadMutation();
+            }
+        });
+    }
+
+    /**
+     * Continues a test case already started with {@link #executeTestCase(TestCaseContext, PrettyLogger, TestCasePlaybook, Consumer, PlaybookData)},
+     * for example to evaluate a response received asynchronously. Results are recorded in the given context in the same way.
+     *
+     * @param testCaseContext  the context of the test case being continued
+     * @param externalLogger   the external logger for logging test-related information
+     * @param testCasePlaybook the playbook associated with the test
+     * @param s                the remaining test logic
+     * @param data             the data used to fuzz the current path
+     */
+    public void resumeTestCase(TestCaseContext testCaseContext, PrettyLogger externalLogger, TestCasePlaybook testCasePlaybook,
+                               Consumer<TestCaseContext> s, PlaybookData data) {
+        this.runInTestCase(testCaseContext, externalLogger, testCasePlaybook, data, () -> s.accept(testCaseContext));
+    }
+
+    private void runInTestCase(TestCaseContext testCaseContext, PrettyLogger externalLogger, TestCasePlaybook testCasePlaybook,
+                               PlaybookData data, Runnable testLogic) {
+        MDC.put(ID_ANSI, testCaseContext.getTestNumberAnsi());
+        ScopedValue.where(CURRENT_TEST_CASE, testCaseContext).run(() -> {
+            try {
+                testLogic.run();
+            } catch (Exception e) {
+                ResultFactory.Result result = ResultFactory.createUnexpectedException(testCasePlaybook.getClass().getSimpleName(), Optional.ofNullable(e.getMessage()).orElse(""));
+                this.reportResultError(externalLogger, data, result.reason(), result.message());
+                externalLogger.error("Exception while processing: {}", e.getMessage());
+                externalLogger.debug("Detailed stacktrace", e);
+                this.checkForIOErrors(e);
+            }
+        });
     }
 
     /**
@@ -182,7 +333,10 @@ public class TestCaseListener {
      * @return the playbook name that is currently being run
      */
     public String getCurrentPlaybook() {
-        return MDC.get(PLAYBOOK_KEY);
+        if (CURRENT_TEST_CASE.isBound()) {
+            return CURRENT_TEST_CASE.get().getPlaybook();
+        }
+        return this.getKeyDefault();
     }
 
     /**
@@ -191,6 +345,9 @@ public class TestCaseListener {
      * @return the test case number being executed
      */
     public int getCurrentTestCaseNumber() {
+        if (CURRENT_TEST_CASE.isBound()) {
+            return CURRENT_TEST_CASE.get().getTestNumber();
+        }
         return TEST.get();
     }
 
@@ -204,19 +361,6 @@ public class TestCaseListener {
         return currentTestCase().getTraceId();
     }
 
-    private void startTestCase(PlaybookData data) {
-        String testId = String.valueOf(TEST.incrementAndGet());
-        MDC.put(ID, testId);
-        MDC.put(ID_ANSI, ConsoleUtils.centerWithAnsiColor(testId, 7, Ansi.Color.MAGENTA));
-
-        TestCase testCase = new TestCase();
-        testCase.setTestId("Test " + testId);
-        testCase.setContractPath(data.getContractPath());
-        testCase.setPath(data.getContractPath());
-        testCase.getRequest().setHttpMethod(String.valueOf(data.getMethod()));
-        testCaseMap.put(testId, testCase);
-    }
-
     /**
      * Adds a scenario to the test case and logs it using the provided logger.
      *
@@ -225,8 +369,20 @@ public class TestCaseListener {
      * @param params   the parameters to replace placeholders in the scenario description
      */
     public void addScenario(PrettyLogger logger, String scenario, Object... params) {
+        this.addScenario(CURRENT_TEST_CASE.get(), logger, scenario, params);
+    }
+
+    /**
+     * Adds a scenario to the test case owning the given context and logs it using the provided logger.
+     *
+     * @param testCaseContext the context of the test case being executed
+     * @param logger          the logger used to log the scenario
+     * @param scenario        the scenario description template
+     * @param params          the parameters to replace placeholders in the scenario description
+     */
+    public void addScenario(TestCaseContext testCaseContext, PrettyLogger logger, String scenario, Object... params) {
         logger.info(scenario, params);
-        currentTestCase().setScenario(replaceBrackets(scenario, params));
+        testCaseContext.getTestCase().setScenario(replaceBrackets(scenario, params));
     }
 
     /**
@@ -237,13 +393,25 @@ public class TestCaseListener {
      * @param params         the parameters to replace placeholders in the expected result description
      */
     public void addExpectedResult(PrettyLogger logger, String expectedResult, Object... params) {
+        this.addExpectedResult(CURRENT_TEST_CASE.get(), logger, expectedResult, params);
+    }
+
+    /**
+     * Adds an expected result to the test case owning the given context and logs it using the provided logger.
+     *
+     * @param testCaseContext the context of the test case being executed
+     * @param logger          the logger used to log the expected result
+     * @param expectedResult  the expected result description template
+     * @param params          the parameters to replace placeholders in the expected result description
+     */
+    public void addExpectedResult(TestCaseContext testCaseContext, PrettyLogger logger, String expectedResult, Object... params) {
         logger.note(expectedResult, params);
-        currentTestCase().setExpectedResult(replaceBrackets(expectedResult, params));
+        testCaseContext.getTestCase().setExpectedResult(replaceBrackets(expectedResult, params));
     }
 
     /**
-     * Adds the specified path information to the current test case in the test case map.
-     * The path is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified path information to the current test case.
+     * The path is associated with the ongoing test case context.
      *
      * @param path the path to be associated with the current test case
      */
@@ -252,8 +420,8 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified contract path information to the current test case in the test case map.
-     * The contract path is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified contract path information to the current test case.
+     * The contract path is associated with the ongoing test case context.
      *
      * @param path the contract path to be associated with the current test case
      */
@@ -262,8 +430,8 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified server information to the current test case in the test case map.
-     * The server information is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified server information to the current test case.
+     * The server information is associated with the ongoing test case context.
      *
      * @param server the server information to be associated with the current test case
      */
@@ -282,8 +450,8 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified HttpRequest to the current test case in the test case map.
-     * The HttpRequest is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified HttpRequest to the current test case.
+     * The HttpRequest is associated with the ongoing test case context.
      *
      * @param request the HttpRequest to be associated with the current test case
      */
@@ -292,8 +460,8 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified HttpResponse to the current test case in the test case map.
-     * The HttpResponse is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified HttpResponse to the current test case.
+     * The HttpResponse is associated with the ongoing test case context.
      *
      * @param response the HttpResponse to be associated with the current test case
      */
@@ -305,8 +473,32 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified full request path information to the current test case in the test case map.
-     * The full request path is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified HttpResponse to the test case owning the given context.
+     * This is used when the response is received on a different thread than the one executing the test case.
+     *
+     * @param testCaseContext the context of the test case the response belongs to
+     * @param response        the HttpResponse to be associated with the test case
+     */
+    public void addResponse(TestCaseContext testCaseContext, HttpResponse response) {
+        ScopedValue.where(CURRENT_TEST_CASE, testCaseContext).run(() -> this.addResponse(response));
+    }
+
+    /**
+     * Returns the context of the test case currently being executed.
+     *
+     * @return the context of the current test case
+     */
+    public TestCaseContext getCurrentTestCaseContext() {
+        return CURRENT_TEST_CASE.get();
+    }
+
+    static TestCaseContext findCurrentTestCaseContext() {
+        return CURRENT_TEST_CASE.isBound() ? CURRENT_TEST_CASE.get() : null;
+    }
+
+    /**
+     * Adds the specified full request path information to the current test case.
+     * The full request path is associated with the ongoing test case context.
      *
      * @param fullRequestPath the full request path to be associated with the current test case
      */
@@ -314,18 +506,150 @@ public class TestCaseListener {
         currentTestCase().setFullRequestPath(fullRequestPath);
     }
 
-    private void endTestCase() {
-        TestCase currentTestCase = currentTestCase();
-        currentTestCase.setPlaybook(MDC.get(PLAYBOOK_KEY));
+    /**
+     * Ends the test case, writing it to the reports if not skipped.
+     *
+     * @param testCaseContext the context of the test case being finished
+     */
+    public void endTestCase(TestCaseContext testCaseContext) {
+        TestCase currentTestCase = testCaseContext.getTestCase();
+        currentTestCase.setPlaybook(testCaseContext.getPlaybook());
+        if (currentTestCase.isNotSkipped()) {
+            progressRenderer.testCompleted(currentTestCase.getResponse().getResponseTimeInMs());
+        }
+        if (this.isReportedLater(currentTestCase.getContractPath())) {
+            this.completeTestCaseProvisionally(testCaseContext);
+        } else {
+            this.completeTestCase(testCaseContext, testCaseContext.getTestNumber());
+        }
+        MDC.put(ID_ANSI, this.getKeyDefault());
+        logger.info(SEPARATOR);
+    }
+
+    private void completeTestCase(TestCaseContext testCaseContext, int testNumber) {
+        TestCase currentTestCase = testCaseContext.getTestCase();
+        currentTestCase.setTestId(TEST_ID_PREFIX + testNumber);
+        this.writeTestCase(testCaseContext);
         if (currentTestCase.isNotSkipped()) {
-            testReportsGenerator.writeTestCase(currentTestCase);
             keepSummary(currentTestCase);
+            progressJournal.testCompleted(currentTestCase.getContractPath(), testCaseContext.getHttpMethod(), testCaseContext.getPlaybook(), testNumber);
         }
         keepExecutionDetails(currentTestCase);
-        testCaseMap.remove(MDC.get(ID));
-        MDC.remove(ID);
-        MDC.put(ID_ANSI, this.getKeyDefault());
-        logger.info(SEPARATOR);
+    }
+
+    /**
+     * Writes the test case to the reports under a provisional id, so that it's not kept in memory until the paths
+     * preceding its path are reported. Only its summary is kept, until it gets its final number.
+     */
+    private void completeTestCaseProvisionally(TestCaseContext testCaseContext) {
+        TestCase currentTestCase = testCaseContext.getTestCase();
+        currentTestCase.setTestId(PROVISIONAL_TEST_ID_PREFIX + testCaseContext.getTestNumber());
+        this.writeTestCase(testCaseContext);
+        ProvisionalTestCase provisionalTestCase = new ProvisionalTestCase(currentTestCase.getTestId(), currentTestCase.getContractPath(),
+                testCaseContext.getHttpMethod(), testCaseContext.getPlaybook(),
+                currentTestCase.isNotSkipped() ? TestCaseSummary.fromTestCase(currentTestCase) : null,
+                this.executionDetails(currentTestCase).orElse(null));
+        if (!this.deferUntilPreviousPathsAreReported(provisionalTestCase.contractPath(), () -> this.completeProvisionalTestCase(provisionalTestCase))) {
+            this.completeProvisionalTestCase(provisionalTestCase);
+        }
+    }
+
+    private void completeProvisionalTestCase(ProvisionalTestCase provisionalTestCase) {
+        int testNumber = this.nextTestNumber();
+        String testId = TEST_ID_PREFIX + testNumber;
+        if (provisionalTestCase.summary() != null) {
+            testReportsGenerator.renumberTestCase(provisionalTestCase.testId(), testId);
+            testCaseSummaryDetails.add(provisionalTestCase.summary().withId(testId));
+            progressJournal.testCompleted(provisionalTestCase.contractPath(), provisionalTestCase.httpMethod(), provisionalTestCase.playbook(), testNumber);
+        }
+        Optional.ofNullable(provisionalTestCase.executionDetails())
+                .map(details -> new TestCaseExecutionSummary(testId, details.path(), details.httpMethod(), details.responseTimeInMs(), details.networkTimings()))
+                .ifPresent(testCaseExecutionDetails::add);
+    }
+
+    private void writeTestCase(TestCaseContext testCaseContext) {
+        TestCase currentTestCase = testCaseContext.getTestCase();
+        if (currentTestCase.isNotSkipped()) {
+            TestCasePhaseEvent reportWriting = TestCasePhaseEvent.start(TestCasePhaseEvent.Phase.REPORT_WRITING, testCaseContext);
+            try {
+                testReportsGenerator.writeTestCase(currentTestCase);
+            } finally {
+                reportWriting.commit();
+            }
+            metricsRegistry.recordTestCase(currentTestCase);
+        }
+    }
+
+    private int nextTestNumber() {
+        Integer reusableTestNumber = reusableTestNumbers.poll();
+        return reusableTestNumber != null ? reusableTestNumber : TEST.incrementAndGet();
+    }
+
+    private synchronized boolean isReportedLater(String path) {
+        return pendingParallelCompletions.containsKey(path);
+    }
+
+    /**
+     * Keeps the given completion until all the paths preceding the given path were reported, when paths are fuzzed in parallel.
+     *
+     * @param path       the contract path the completion belongs to
+     * @param completion the logic recording the results
+     * @return true if the completion was kept for later, false if it must be run right away
+     */
+    private synchronized boolean deferUntilPreviousPathsAreReported(String path, Runnable completion) {
+        List<Runnable> pendingCompletions = pendingParallelCompletions.get(path);
+        if (pendingCompletions == null) {
+            return false;
+        }
+        pendingCompletions.add(completion);
+        return true;
+    }
+
+    /**
+     * Records a test case executed in a previous run, for example when merging reports from multiple runs.
+     * The test case gets the next test number, it's written to the reports and counted in the execution statistics.
+     *
+     * @param testCase the previously executed test case
+     */
+    public void recordTestCase(TestCase testCase) {
+        testCase.setTestId(TEST_ID_PREFIX + TEST.incrementAndGet());
+        this.countResult(testCase);
+        testReportsGenerator.writeTestCase(testCase);
+        keepSummary(testCase);
+        keepExecutionDetails(testCase);
+    }
+
+    /**
+     * Restores the tests completed by the previous run being resumed. The tests are read from the report folder
+     * and counted in the summary and execution statistics. New tests first get the numbers of the tests discarded
+     * from the previous run and are then numbered after the last test recorded by the previous run.
+     */
+    public void restoreCompletedTestCases() {
+        Path reportFolder = Paths.get(reportingArguments.getOutputReportFolder());
+        for (int testNumber : progressJournal.getCompletedTestNumbers()) {
+            Path testCasePath = reportFolder.resolve("Test" + testNumber + ".json");
+            try {
+                TestCase testCase = JsonUtils.GSON.fromJson(Files.readString(testCasePath), TestCase.class);
+                this.countResult(testCase);
+                keepSummary(testCase);
+                keepExecutionDetails(testCase);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Unable to restore test {} from the previous run: {}", testNumber, e.getMessage());
+            }
+        }
+        TEST.set(progressJournal.getLastTestNumber());
+        reusableTestNumbers.clear();
+        reusableTestNumbers.addAll(progressJournal.getReusableTestNumbers());
+    }
+
+    private void countResult(TestCase testCase) {
+        if (Level.ERROR.toString().equalsIgnoreCase(testCase.getResult())) {
+            executionStatisticsListener.increaseErrors(testCase.getContractPath());
+        } else if ("warning".equalsIgnoreCase(testCase.getResult())) {
+            executionStatisticsListener.increaseWarns(testCase.getContractPath());
+        } else {
+            executionStatisticsListener.increaseSuccess(testCase.getContractPath());
+        }
     }
 
     private void keepSummary(TestCase testCase) {
@@ -333,40 +657,108 @@ public class TestCaseListener {
     }
 
     private void keepExecutionDetails(TestCase testCase) {
+        this.executionDetails(testCase).ifPresent(testCaseExecutionDetails::add);
+    }
+
+    private Optional<TestCaseExecutionSummary> executionDetails(TestCase testCase) {
         if (testCase.notIgnoredForExecutionStatistics() && reportingArguments.isPrintExecutionStatistics()) {
-            testCaseExecutionDetails.add(new TestCaseExecutionSummary(testCase.getTestId(), testCase.getPath(),
-                    testCase.getHttpMethod(), testCase.getResponse().getResponseTimeInMs()));
+            return Optional.of(new TestCaseExecutionSummary(testCase.getTestId(), testCase.getPath(),
+                    testCase.getHttpMethod(), testCase.getResponse().getResponseTimeInMs(), testCase.getResponse().getNetworkTimings()));
         }
+        return Optional.empty();
     }
 
     /**
      * Notifies summary observers about the progress of a specific path and HTTP method during the testing session.
-     * If configured to display summaries in the console, this method renders the progress dynamically.
+     * If configured to display summaries in the console, the path and playbook become the activity shown by the
+     * progress row, which is rendered at a fixed rate by {@link ProgressRenderer}.
      *
      * @param path the path for which the progress is being reported
      */
-    public void notifySummaryObservers(String path) {
+    public synchronized void notifySummaryObservers(String path) {
         if (!reportingArguments.isSummaryInConsole()) {
             return;
         }
         String playbook = MDC.get(PLAYBOOK);
-        String prefix = AnsiUtils.blue("(" + runPerPathListener.size() + "/" + globalContext.getDochiaConfiguration().pathsToRun() + ") ");
-        String printPath = prefix + path + " " + playbook + ConsoleUtils.SEPARATOR + executionStatisticsListener.resultAsStringPerPath(path);
-
-        if (runPerPathListener.contains(path)) {
-            ConsoleUtils.renderSameRow(printPath, cycle.next());
-        } else {
+        if (!parallelPaths.isEmpty()) {
+            int completedPaths = completedParallelPaths.size();
+            progressRenderer.showActivity(() -> this.activity(completedPaths, parallelPaths.size(), path, playbook));
+            return;
+        }
+        if (!startedPaths.contains(path)) {
             this.markPreviousPathAsDone();
-            runPerPathListener.push(path);
-            ConsoleUtils.renderNewRow(printPath, cycle.next());
+            startedPaths.add(path);
         }
+        currentPath = path;
+        int startedPathsCount = startedPaths.size();
+        progressRenderer.showActivity(() -> this.activity(startedPathsCount, globalContext.getDochiaConfiguration().pathsToRun(), path, playbook));
+    }
+
+    private String activity(int pathNumber, int totalPaths, String path, String playbook) {
+        String prefix = AnsiUtils.blue("(" + pathNumber + "/" + totalPaths + ") ");
+        return prefix + path + " " + playbook + ConsoleUtils.SEPARATOR + executionStatisticsListener.resultAsStringPerPath(path);
+    }
+
+    /**
+     * Switches the console progress to parallel mode. While paths are running, a single progress row is updated
+     * with the latest activity. Each path is then rendered as done on its own row, in the order supplied here,
+     * so that the console output is the same regardless of the order in which the paths complete.
+     * <p>
+     * Test cases are also numbered path by path, in the same order. The test cases of a path completed before the paths
+     * preceding it are written to the reports under provisional ids and renamed to their final numbers once those paths complete.
+     * The progress journal records them only then, so resuming an interrupted run runs such paths again.
+     * </p>
+     *
+     * @param pathsInOrder the paths that will be fuzzed, in their running order
+     */
+    public synchronized void startParallelProgress(List<String> pathsInOrder) {
+        this.parallelPaths = List.copyOf(pathsInOrder);
+        this.completedParallelPaths.clear();
+        this.nextParallelPathToRender = 0;
+        this.pendingParallelCompletions.clear();
+        pathsInOrder.forEach(path -> pendingParallelCompletions.put(path, new ArrayList<>()));
+        this.provisionalTestNumber.set(0);
+    }
+
+    /**
+     * Marks the given path as completed when paths are fuzzed in parallel. The path is rendered as done
+     * only after all the paths preceding it have also completed, which is also when its test cases are numbered and reported.
+     *
+     * @param path the path that was fully fuzzed
+     */
+    public synchronized void notifyPathCompleted(String path) {
+        completedParallelPaths.add(path);
+        while (nextParallelPathToRender < parallelPaths.size() && completedParallelPaths.contains(parallelPaths.get(nextParallelPathToRender))) {
+            String donePath = parallelPaths.get(nextParallelPathToRender++);
+            this.runPendingCompletions(donePath);
+            if (reportingArguments.isSummaryInConsole()) {
+                progressRenderer.pathCompleted(donePath);
+                progressRenderer.renderDone(donePath + ConsoleUtils.SEPARATOR + executionStatisticsListener.resultAsStringPerPath(donePath));
+            }
+        }
+    }
+
+    /**
+     * Reports the results kept for paths which did not complete, for example when a worker failed,
+     * so that the tests already run are not lost.
+     */
+    private synchronized void runAllPendingCompletions() {
+        parallelPaths.forEach(this::runPendingCompletions);
+    }
+
+    private void runPendingCompletions(String path) {
+        List<Runnable> pendingCompletions = pendingParallelCompletions.remove(path);
+        if (pendingCompletions == null) {
+            return;
+        }
+        pendingCompletions.forEach(Runnable::run);
     }
 
     private void markPreviousPathAsDone() {
-        String previousPath = runPerPathListener.peek();
+        String previousPath = currentPath;
         if (previousPath != null) {
-            String toRenderPreviousPath = previousPath + ConsoleUtils.SEPARATOR + executionStatisticsListener.resultAsStringPerPath(previousPath);
-            ConsoleUtils.renderSameRow(toRenderPreviousPath, '✔');
+            progressRenderer.pathCompleted(previousPath);
+            progressRenderer.renderDone(previousPath + ConsoleUtils.SEPARATOR + executionStatisticsListener.resultAsStringPerPath(previousPath));
         }
     }
 
@@ -436,6 +828,8 @@ public class TestCaseListener {
      */
     public void endSession() {
         try {
+            runAllPendingCompletions();
+            progressRenderer.stop();
             markPreviousPathAsDone();
             reportingArguments.enableAdditionalLoggingIfSummary();
             testReportsGenerator.writeSummary(testCaseSummaryDetails);
@@ -458,6 +852,7 @@ public class TestCaseListener {
         if (reportingArguments.isSummaryInConsole()) {
             ConsoleUtils.emptyLine();
             ConsoleUtils.renderHeader("Running tests...");
+            progressRenderer.start(globalContext.getDochiaConfiguration().pathsToRun());
         }
     }
 
@@ -673,9 +1068,9 @@ public class TestCaseListener {
             this.skipTest(logger, "Some response elements were filtered using --filter-* arguments.");
             this.recordResult(message, params, SKIP_REPORTING, logger);
         } else if (httpResponse.exceedsExpectedResponseTime(reportingArguments.getMaxResponseTime())) {
-            this.logger.debug("Received response time exceeds --maxResponseTimeInMs: actual {}, max {}",
-                    httpResponse.getResponseTimeInMs(), reportingArguments.getMaxResponseTime());
-            this.reportError(logger, ResultFactory.createResponseTimeExceedsMax(httpResponse.getResponseTimeInMs(), reportingArguments.getMaxResponseTime()));
+            this.logger.debug("Received server time exceeds --maxResponseTimeInMs: actual {}, max {}",
+                    httpResponse.getServerTimeInMs(), reportingArguments.getMaxResponseTime());
+            this.reportError(logger, ResultFactory.createResponseTimeExceedsMax(httpResponse.getServerTimeInMs(), reportingArguments.getMaxResponseTime()));
         } else {
             executionStatisticsListener.increaseSuccess(testCase.getContractPath());
             logger.success(message, params);
@@ -736,53 +1131,58 @@ public class TestCaseListener {
      * @param shouldMatchContentType      a flag indicating whether the response content type should match the one from the OpenAPI spec
      */
     public void reportResult(PrettyLogger logger, PlaybookData data, HttpResponse response, ResponseCodeFamily expectedResultCode, boolean shouldMatchToResponseSchema, boolean shouldMatchContentType) {
-        expectedResultCode = this.getExpectedResponseCodeConfiguredFor(MDC.get(PLAYBOOK_KEY), data.getPath(), String.valueOf(data.getMethod()).toLowerCase(Locale.ROOT), expectedResultCode);
-        boolean matchesResponseSchema = !shouldMatchToResponseSchema || this.matchesResponseSchema(response, data);
-        boolean responseCodeExpected = this.isResponseCodeExpected(response, expectedResultCode);
-        boolean responseCodeDocumented = this.isResponseCodeDocumented(data, response);
-        boolean isResponseContentTypeMatching = !shouldMatchContentType || this.isResponseContentTypeMatching(response, data);
-
-        this.logger.debug("matchesResponseSchema {}, responseCodeExpected {}, responseCodeDocumented {}", matchesResponseSchema, responseCodeExpected, responseCodeDocumented);
-        this.storeRequestOnPostOrRemoveOnDelete(data, response);
-
-        ResponseAssertions assertions = ResponseAssertions.builder().matchesResponseSchema(matchesResponseSchema)
-                .responseCodeDocumented(responseCodeDocumented).responseCodeExpected(responseCodeExpected).
-                responseCodeUnimplemented(ResponseCodeFamily.isUnimplemented(response.getResponseCode()))
-                .matchesContentType(isResponseContentTypeMatching).build();
-
-        if (assertions.isNotMatchingContentType() && !ignoreArguments.isIgnoreResponseContentTypeCheck()) {
-            this.logger.debug("Response content type not matching contract");
-            ResultFactory.Result contentTypeNotMatching = ResultFactory.createNotMatchingContentType(data.getContentTypesByResponseCode(response.responseCodeAsString()), response.getResponseContentType());
-            this.reportResultWarn(logger, data, contentTypeNotMatching.reason(), contentTypeNotMatching.message());
-        } else if (assertions.isResponseCodeExpectedAndDocumentedAndMatchesResponseSchema()) {
-            this.logger.debug("Response code expected and documented and matches response schema");
-            this.reportInfo(logger, ResultFactory.createExpectedResponse(response.responseCodeAsString()));
-        } else if (assertions.isResponseCodeExpectedAndDocumentedButDoesntMatchResponseSchema()) {
-            this.logger.debug("Response code expected and documented but doesn't match response schema");
-            this.reportWarnOrInfoBasedOnCheck(logger, data, ResultFactory.createNotMatchingResponseSchema(response.responseCodeAsString()), ignoreArguments.isIgnoreResponseBodyCheck());
-        } else if (assertions.isResponseCodeExpectedButNotDocumented()) {
-            this.logger.debug("Response code expected but not documented");
-            this.reportWarnOrInfoBasedOnCheck(logger, data,
-                    ResultFactory.createUndocumentedResponseCode(response.responseCodeAsString(), String.valueOf(expectedResultCode.allowedResponseCodes()), String.valueOf(data.getResponseCodes())),
-                    ignoreArguments.isIgnoreResponseCodeUndocumentedCheck());
-        } else if (assertions.isResponseCodeDocumentedButNotExpected()) {
-            if (isNotFound(response)) {
+        TestCasePhaseEvent resultEvaluation = TestCasePhaseEvent.start(TestCasePhaseEvent.Phase.RESULT_EVALUATION);
+        try {
+            expectedResultCode = this.getExpectedResponseCodeConfiguredFor(this.getCurrentPlaybook(), data.getPath(), String.valueOf(data.getMethod()).toLowerCase(Locale.ROOT), expectedResultCode);
+            boolean matchesResponseSchema = !shouldMatchToResponseSchema || this.matchesResponseSchema(response, data);
+            boolean responseCodeExpected = this.isResponseCodeExpected(response, expectedResultCode);
+            boolean responseCodeDocumented = this.isResponseCodeDocumented(data, response);
+            boolean isResponseContentTypeMatching = !shouldMatchContentType || this.isResponseContentTypeMatching(response, data);
+
+            this.logger.debug("matchesResponseSchema {}, responseCodeExpected {}, responseCodeDocumented {}", matchesResponseSchema, responseCodeExpected, responseCodeDocumented);
+            this.storeRequestOnPostOrRemoveOnDelete(data, response);
+
+            ResponseAssertions assertions = ResponseAssertions.builder().matchesResponseSchema(matchesResponseSchema)
+                    .responseCodeDocumented(responseCodeDocumented).responseCodeExpected(responseCodeExpected).
+                    responseCodeUnimplemented(ResponseCodeFamily.isUnimplemented(response.getResponseCode()))
+                    .matchesContentType(isResponseContentTypeMatching).build();
+
+            if (assertions.isNotMatchingContentType() && !ignoreArguments.isIgnoreResponseContentTypeCheck()) {
+                this.logger.debug("Response content type not matching contract");
+                ResultFactory.Result contentTypeNotMatching = ResultFactory.createNotMatchingContentType(data.getContentTypesByResponseCode(response.responseCodeAsString()), response.getResponseContentType());
+                this.reportResultWarn(logger, data, contentTypeNotMatching.reason(), contentTypeNotMatching.message());
+            } else if (assertions.isResponseCodeExpectedAndDocumentedAndMatchesResponseSchema()) {
+                this.logger.debug("Response code expected and documented and matches response schema");
+                this.reportInfo(logger, ResultFactory.createExpectedResponse(response.responseCodeAsString()));
+            } else if (assertions.isResponseCodeExpectedAndDocumentedButDoesntMatchResponseSchema()) {
+                this.logger.debug("Response code expected and documented but doesn't match response schema");
+                this.reportWarnOrInfoBasedOnCheck(logger, data, ResultFactory.createNotMatchingResponseSchema(response.responseCodeAsString()), ignoreArguments.isIgnoreResponseBodyCheck());
+            } else if (assertions.isResponseCodeExpectedButNotDocumented()) {
+                this.logger.debug("Response code expected but not documented");
+                this.reportWarnOrInfoBasedOnCheck(logger, data,
+                        ResultFactory.createUndocumentedResponseCode(response.responseCodeAsString(), String.valueOf(expectedResultCode.allowedResponseCodes()), String.valueOf(data.getResponseCodes())),
+                        ignoreArguments.isIgnoreResponseCodeUndocumentedCheck());
+            } else if (assertions.isResponseCodeDocumentedButNotExpected()) {
+                if (isNotFound(response)) {
+                    this.logger.debug("NOT_FOUND response");
+                    this.reportError(logger, ResultFactory.createNotFound());
+                } else if (assertions.isResponseCodeUnimplemented()) {
+                    this.logger.debug("Response code unimplemented");
+                    ResultFactory.Result notImplementedResult = ResultFactory.createNotImplemented();
+                    this.reportResultWarn(logger, data, notImplementedResult.reason(), notImplementedResult.message());
+                } else {
+                    this.logger.debug("Response code documented but not expected");
+                    this.reportError(logger, ResultFactory.createUnexpectedResponseCode(response.responseCodeAsString(), expectedResultCode.allowedResponseCodes().toString()));
+                }
+            } else if (isNotFound(response)) {
                 this.logger.debug("NOT_FOUND response");
                 this.reportError(logger, ResultFactory.createNotFound());
-            } else if (assertions.isResponseCodeUnimplemented()) {
-                this.logger.debug("Response code unimplemented");
-                ResultFactory.Result notImplementedResult = ResultFactory.createNotImplemented();
-                this.reportResultWarn(logger, data, notImplementedResult.reason(), notImplementedResult.message());
             } else {
-                this.logger.debug("Response code documented but not expected");
-                this.reportError(logger, ResultFactory.createUnexpectedResponseCode(response.responseCodeAsString(), expectedResultCode.allowedResponseCodes().toString()));
+                this.logger.debug("Unexpected behaviour");
+                this.reportError(logger, ResultFactory.createUnexpectedBehaviour(response.responseCodeAsString(), expectedResultCode.allowedResponseCodes().toString()));
             }
-        } else if (isNotFound(response)) {
-            this.logger.debug("NOT_FOUND response");
-            this.reportError(logger, ResultFactory.createNotFound());
-        } else {
-            this.logger.debug("Unexpected behaviour");
-            this.reportError(logger, ResultFactory.createUnexpectedBehaviour(response.responseCodeAsString(), expectedResultCode.allowedResponseCodes().toString()));
+        } finally {
+            resultEvaluation.commit();
         }
     }
 
@@ -813,9 +1213,7 @@ public class TestCaseListener {
     private void storeRequestOnPostOrRemoveOnDelete(PlaybookData data, HttpResponse response) {
         if (data.getMethod() == HttpMethod.POST && ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
             logger.star("POST method for path {} returned successfully {}. Storing result for DELETE endpoints...", data.getPath(), response.responseCodeAsString());
-            Deque<String> existingPosts = globalContext.getPostSuccessfulResponses().getOrDefault(data.getPath(), new ArrayDeque<>());
-            existingPosts.add(response.getBody());
-            globalContext.getPostSuccessfulResponses().put(data.getPath(), existingPosts);
+            globalContext.getPostSuccessfulResponses().computeIfAbsent(data.getPath(), _ -> new ConcurrentLinkedDeque<>()).add(response.getBody());
         } else if (data.getMethod() == HttpMethod.DELETE && ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
             logger.star("Successful DELETE. Removing top POST request from the store...");
             globalContext.getPostSuccessfulResponses().getOrDefault(data.getPath().substring(0, data.getPath().lastIndexOf("/")), new ArrayDeque<>()).poll();
@@ -1078,7 +1476,7 @@ public class TestCaseListener {
     }
 
     private TestCase currentTestCase() {
-        return testCaseMap.get(MDC.get(ID));
+        return CURRENT_TEST_CASE.get().getTestCase();
     }
 
     public void recordError(String error) {
@@ -1117,4 +1515,12 @@ public class TestCaseListener {
             return responseCodeUnimplemented;
         }
     }
+
+    /**
+     * What is kept in memory for a test case written under a provisional id, until it gets its final number.
+     * The summary is null for skipped test cases, which are not written to the reports.
+     */
+    private record ProvisionalTestCase(String testId, String contractPath, String httpMethod, String playbook,
+                                       TestCaseSummary summary, TestCaseExecutionSummary executionDetails) {
+    }
 }
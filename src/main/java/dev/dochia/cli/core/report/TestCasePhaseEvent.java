@@ -0,0 +1,124 @@
+package dev.dochia.cli.core.report;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event timing one phase of a test case, tagged with the playbook, path and test id of the test case.
+ * Events are only recorded when running with {@code --jfr}, otherwise beginning and committing them has no effect.
+ * <p>
+ * An event is started with {@link #start(Phase)} on the thread running the test case, or with {@link #next(Phase)}
+ * when the phase continues on another thread, and recorded using {@link #commit()}.
+ * </p>
+ */
+@Name("dev.dochia.TestCasePhase")
+@Label("Test Case Phase")
+@Category("Dochia")
+@Description("Time spent in one phase of a test case")
+@StackTrace(false)
+public class TestCasePhaseEvent extends Event {
+
+    /**
+     * The phases of a test case.
+     */
+    public enum Phase {
+        /**
+         * From the start of the test case until its first request is built, which is where playbooks mutate the payload.
+         */
+        PAYLOAD_MUTATION,
+        /**
+         * Building the final url, headers and payload of the request.
+         */
+        REQUEST_BUILDING,
+        /**
+         * Sending the request until the response headers are received.
+         */
+        NETWORK,
+        /**
+         * Reading and parsing the response.
+         */
+        RESPONSE_PARSING,
+        /**
+         * Evaluating the response against the playbook expectations and the contract.
+         */
+        RESULT_EVALUATION,
+        /**
+         * Writing the test case to the report.
+         */
+        REPORT_WRITING
+    }
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Playbook")
+    String playbook;
+
+    @Label("Path")
+    String path;
+
+    @Label("Test ID")
+    String testId;
+
+    /**
+     * Starts timing the given phase of the test case running on the current thread.
+     *
+     * @param phase the phase
+     * @return the started event
+     */
+    public static TestCasePhaseEvent start(Phase phase) {
+        return start(phase, TestCaseListener.findCurrentTestCaseContext());
+    }
+
+    /**
+     * Starts timing the given phase of the given test case.
+     *
+     * @param phase           the phase
+     * @param testCaseContext the context of the test case, or {@code null} if not running a test case
+     * @return the started event
+     */
+    public static TestCasePhaseEvent start(Phase phase, TestCaseContext testCaseContext) {
+        if (testCaseContext == null) {
+            return start(phase, null, null, null);
+        }
+        return start(phase, testCaseContext.getPlaybook(), testCaseContext.getTestCase().getContractPath(), testCaseContext.getTestCase().getTestId());
+    }
+
+    /**
+     * Starts timing another phase of the same test case. This is used when the test case continues on
+     * a thread not running it, such as the threads of the HTTP client.
+     *
+     * @param nextPhase the phase
+     * @return the started event
+     */
+    public TestCasePhaseEvent next(Phase nextPhase) {
+        return start(nextPhase, playbook, path, testId);
+    }
+
+    /**
+     * Records the time spent since the test case running on the current thread started as {@link Phase#PAYLOAD_MUTATION}.
+     * Only the first request of a test case ends this phase.
+     */
+    public static void endPayloadMutation() {
+        TestCaseContext testCaseContext = TestCaseListener.findCurrentTestCaseContext();
+        if (testCaseContext != null) {
+            testCaseContext.endPayloadMutation();
+        }
+    }
+
+    private static TestCasePhaseEvent start(Phase phase, String playbook, String path, String testId) {
+        TestCasePhaseEvent event = new TestCasePhaseEvent();
+        if (event.isEnabled()) {
+            event.phase = phase.name();
+            event.playbook = playbook;
+            event.path = path;
+            event.testId = testId;
+            event.begin();
+        }
+        return event;
+    }
+}
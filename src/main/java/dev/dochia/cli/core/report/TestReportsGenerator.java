@@ -52,6 +52,16 @@ public class TestReportsGenerator {
         testCaseExporters.getFirst().writeTestCase(testCase);
     }
 
+    /**
+     * Gives the final id to a test case written to the report under a provisional id, using the first available test case exporter.
+     *
+     * @param provisionalTestId the id the test case was written with
+     * @param testId            the final id of the test case
+     */
+    public void renumberTestCase(String provisionalTestId, String testId) {
+        testCaseExporters.getFirst().renumberTestCase(provisionalTestId, testId);
+    }
+
     /**
      * Writes helper files for the test case exporters.
      */
@@ -5,6 +5,7 @@ import dev.dochia.cli.core.model.PlaybookData;
 import dev.dochia.cli.core.util.CommonUtils;
 import dev.dochia.cli.core.util.FuzzingResult;
 import dev.dochia.cli.core.util.JsonUtils;
+import dev.dochia.cli.core.util.RepeatedValue;
 import dev.dochia.cli.core.util.WordUtils;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
@@ -15,6 +16,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -213,6 +215,10 @@ public abstract sealed class FuzzingStrategy permits InsertFuzzingStrategy, Noop
     public String truncatedValue() {
         if (data != null) {
             String toPrint = String.valueOf(data);
+            Optional<String> repeatedValue = RepeatedValue.describe(toPrint);
+            if (repeatedValue.isPresent()) {
+                return this.name() + " with " + formatValue(repeatedValue.get());
+            }
             if (toPrint.length() > 30) {
                 toPrint = toPrint.substring(0, 30) + "...";
             }
@@ -245,12 +251,29 @@ public abstract sealed class FuzzingStrategy permits InsertFuzzingStrategy, Noop
      * @return a list containing a single FuzzingStrategy for large values
      */
     public static List<FuzzingStrategy> getLargeValuesStrategy(int largeStringsSize) {
+        return getLargeValuesStrategy(largeStringsSize, false);
+    }
+
+    /**
+     * Same as {@link #getLargeValuesStrategy(int)}, but for values sent in request bodies.
+     * Values above {@link RepeatedValue#STREAMING_THRESHOLD} are only expanded when the request body is written.
+     *
+     * @param largeStringsSize the desired size for the large strings
+     * @return a list containing a single FuzzingStrategy for large values
+     */
+    public static List<FuzzingStrategy> getLargeBodyValuesStrategy(int largeStringsSize) {
+        return getLargeValuesStrategy(largeStringsSize, true);
+    }
+
+    private static List<FuzzingStrategy> getLargeValuesStrategy(int largeStringsSize, boolean inBody) {
         String generatedValue = StringGenerator.generateRandomUnicode();
         int payloadSize = largeStringsSize / generatedValue.length();
         if (payloadSize == 0) {
             return Collections.singletonList(FuzzingStrategy.replace().withData(markLargeString(generatedValue.substring(0, largeStringsSize))));
         }
-        return Collections.singletonList(FuzzingStrategy.replace().withData(markLargeString(StringUtils.repeat(generatedValue, payloadSize + 1))));
+        String largeValue = inBody ? RepeatedValue.string("do", generatedValue, payloadSize + 1, "chia")
+                : markLargeString(StringUtils.repeat(generatedValue, payloadSize + 1));
+        return Collections.singletonList(FuzzingStrategy.replace().withData(largeValue));
     }
 
     /**
@@ -1,20 +1,34 @@
 package dev.dochia.cli.core.util;
 
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import lombok.Getter;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.cornutum.regexpgen.RandomGen;
 import org.cornutum.regexpgen.random.RandomBoundsGen;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * Utility that handles random generation and seed management for deterministic random generation.
+ * <p>
+ * Units of work, such as a playbook run against a path or the payload of a single test case, can run with their own
+ * random stream using {@link #runWithSeed(long, Runnable)}. The seed of each stream is derived from the seed of the
+ * enclosing stream and the keys identifying the unit, using {@link #deriveSeed(String...)}. This way the values
+ * generated for a unit depend only on the seed of the run and the unit itself, regardless of the thread it runs on or
+ * of the units run before it, so that parallel or sharded runs can be reproduced using the same seed.
+ * </p>
  */
 public abstract class DochiaRandom {
 
+    private static final ScopedValue<UnitRandom> UNIT_RANDOM = ScopedValue.newInstance();
     private static Random random;
     private static RandomGen regexpRandomGen;
     @Getter
@@ -26,21 +40,21 @@ public abstract class DochiaRandom {
     }
 
     /**
-     * Returns the current random generator.
+     * Returns the current random generator. This is the random stream of the unit of work running on the current thread, if any.
      *
      * @return the current random generator
      */
     public static Random instance() {
-        return random;
+        return UNIT_RANDOM.isBound() ? UNIT_RANDOM.get().random() : random;
     }
 
     /**
-     * Returns the current regexp random generator.
+     * Returns the current regexp random generator. This is the random stream of the unit of work running on the current thread, if any.
      *
      * @return the current regexp random generator.
      */
     public static RandomGen regexpRandomGen() {
-        return regexpRandomGen;
+        return UNIT_RANDOM.isBound() ? UNIT_RANDOM.get().regexpRandomGen() : regexpRandomGen;
     }
 
     /**
@@ -58,6 +72,49 @@ public abstract class DochiaRandom {
         regexpRandomGen = new RandomBoundsGen(random);
     }
 
+    /**
+     * Derives the seed of a unit of work from the seed of the unit running on the current thread, or from the
+     * stored seed if none, and the given keys. The derived seed doesn't depend on how many values were already
+     * generated, so it must be computed on the thread starting the unit when the unit runs on another thread.
+     *
+     * @param keys the keys identifying the unit of work, for example the path, HTTP method and playbook
+     * @return the seed of the unit of work
+     */
+    public static long deriveSeed(String... keys) {
+        Hasher hasher = Hashing.murmur3_128().newHasher()
+                .putLong(UNIT_RANDOM.isBound() ? UNIT_RANDOM.get().seed() : storedSeed);
+        for (String key : keys) {
+            hasher.putString(String.valueOf(key), StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+        return hasher.hash().asLong();
+    }
+
+    /**
+     * Runs the given task with its own random stream, seeded with the given seed.
+     * The stream is used by all the random values generated on the current thread while running the task.
+     *
+     * @param seed the seed of the random stream, typically obtained using {@link #deriveSeed(String...)}
+     * @param task the task to run
+     */
+    public static void runWithSeed(long seed, Runnable task) {
+        ScopedValue.where(UNIT_RANDOM, new UnitRandom(seed)).run(task);
+    }
+
+    /**
+     * Runs the given task with its own random stream, seeded with the given seed, and returns its result.
+     * The stream is used by all the random values generated on the current thread while running the task.
+     *
+     * @param seed the seed of the random stream, typically obtained using {@link #deriveSeed(String...)}
+     * @param task the task to run
+     * @param <T>  the type of the result
+     * @return the result of the task
+     */
+    public static <T> T callWithSeed(long seed, Supplier<T> task) {
+        AtomicReference<T> result = new AtomicReference<>();
+        runWithSeed(seed, () -> result.set(task.get()));
+        return result.get();
+    }
+
     /**
      * Generates a random string of the specified length with alphanumeric characters.
      *
@@ -201,5 +258,14 @@ public abstract class DochiaRandom {
     private static long randomSeed() {
         return ThreadLocalRandom.current().nextLong();
     }
-}
 
+    private record UnitRandom(long seed, Random random, RandomGen regexpRandomGen) {
+        UnitRandom(long seed) {
+            this(seed, Random.from(new SplittableRandom(seed)));
+        }
+
+        private UnitRandom(long seed, Random random) {
+            this(seed, random, new RandomBoundsGen(random));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package dev.dochia.cli.core.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.Strictness;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import dev.dochia.cli.core.model.HttpResponse;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+
+/**
+ * Custom Gson serializer for HTTP responses. The {@code jsonBody} of responses whose body was never parsed is
+ * streamed from the raw body instead of parsing it into a JSON tree first. The output is the same as serializing
+ * the parsed body: valid JSON objects and arrays are written as they are, anything else as {@code {"notAJson": "..."}}.
+ */
+public class HttpResponseSerializer implements TypeAdapterFactory {
+    private static final String JSON_BODY = "jsonBody";
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (!HttpResponse.class.isAssignableFrom(type.getRawType())) {
+            return null;
+        }
+        TypeAdapter<HttpResponse> delegate = gson.getDelegateAdapter(this, TypeToken.get(HttpResponse.class));
+        TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+
+        return (TypeAdapter<T>) new TypeAdapter<HttpResponse>() {
+            @Override
+            public void write(JsonWriter out, HttpResponse response) throws IOException {
+                JsonElement tree = response == null ? null : delegate.toJsonTree(response);
+                if (!(tree instanceof JsonObject responseObject) || !isUnparsedBody(responseObject, response)) {
+                    delegate.write(out, response);
+                    return;
+                }
+                out.beginObject();
+                for (Map.Entry<String, JsonElement> field : responseObject.entrySet()) {
+                    out.name(field.getKey());
+                    if (JSON_BODY.equals(field.getKey())) {
+                        writeBody(out, response);
+                    } else {
+                        elementAdapter.write(out, field.getValue());
+                    }
+                }
+                out.endObject();
+            }
+
+            @Override
+            public HttpResponse read(JsonReader in) throws IOException {
+                return delegate.read(in);
+            }
+        };
+    }
+
+    private static boolean isUnparsedBody(JsonObject responseObject, HttpResponse response) {
+        JsonElement jsonBody = responseObject.get(JSON_BODY);
+        return jsonBody != null && jsonBody.isJsonNull() && response.getBody() != null;
+    }
+
+    private static void writeBody(JsonWriter out, HttpResponse response) throws IOException {
+        String body = response.getBody();
+        if (!response.isBodyTruncated() && isJsonObjectOrArray(body)) {
+            copy(reader(body), out);
+        } else {
+            JsonUtils.GSON.getAdapter(JsonElement.class).write(out, JsonUtils.getAsNotAJson(body));
+        }
+    }
+
+    /**
+     * Checks the body the same way {@link JsonUtils#parseResponseAsJsonElement(String)} does, walking the tokens
+     * without building the tree.
+     */
+    private static boolean isJsonObjectOrArray(String body) {
+        try {
+            JsonReader reader = reader(body);
+            JsonToken first = reader.peek();
+            if (first != JsonToken.BEGIN_OBJECT && first != JsonToken.BEGIN_ARRAY) {
+                return false;
+            }
+            reader.skipValue();
+            return reader.peek() == JsonToken.END_DOCUMENT;
+        } catch (IOException | RuntimeException _) {
+            return false;
+        }
+    }
+
+    private static JsonReader reader(String body) {
+        JsonReader reader = new JsonReader(new StringReader(body));
+        reader.setStrictness(Strictness.STRICT);
+        return reader;
+    }
+
+    private static void copy(JsonReader in, JsonWriter out) throws IOException {
+        int depth = 0;
+        do {
+            switch (in.peek()) {
+                case BEGIN_OBJECT -> {
+                    in.beginObject();
+                    out.beginObject();
+                    depth++;
+                }
+                case END_OBJECT -> {
+                    in.endObject();
+                    out.endObject();
+                    depth--;
+                }
+                case BEGIN_ARRAY -> {
+                    in.beginArray();
+                    out.beginArray();
+                    depth++;
+                }
+                case END_ARRAY -> {
+                    in.endArray();
+                    out.endArray();
+                    depth--;
+                }
+                case NAME -> out.name(in.nextName());
+                case STRING -> out.value(in.nextString());
+                case NUMBER -> out.jsonValue(in.nextString());
+                case BOOLEAN -> out.value(in.nextBoolean());
+                case NULL -> {
+                    in.nextNull();
+                    out.nullValue();
+                }
+                default -> throw new IllegalStateException("Unexpected token in response body");
+            }
+        } while (depth > 0);
+    }
+}
@@ -549,6 +549,51 @@ public abstract class JsonUtils {
         return "{\"notAJson\": \"" + JSONValue.escape(rawResponse.substring(0, Math.min(500, rawResponse.length()))) + "\"}";
     }
 
+    /**
+     * Parses the provided raw response to a JSON element with a single strict parse.
+     * Responses which are not JSON objects or arrays are not parsed at all and are represented
+     * as a JSON object including the first 500 characters of the raw response, same as {@link #getAsJsonString(String)}.
+     *
+     * @param rawResponse The raw response string to be parsed.
+     * @return The JSON element representing the response.
+     */
+    public static JsonElement parseResponseAsJsonElement(String rawResponse) {
+        if (startsAsJsonObjectOrArray(rawResponse)) {
+            try {
+                JsonElement jsonElement = JSON_STRICT_PARSER.fromJson(rawResponse, JsonElement.class);
+                if (jsonElement != null) {
+                    return jsonElement;
+                }
+            } catch (Exception _) {
+                LOGGER.debug("Response is not a valid JSON");
+            }
+        }
+        return getAsNotAJson(rawResponse);
+    }
+
+    /**
+     * Represents the provided raw response as a JSON object including its first 500 characters,
+     * without checking if it's a valid JSON.
+     *
+     * @param rawResponse The raw response string.
+     * @return A JSON object with the first 500 characters of the response in the {@code notAJson} field.
+     */
+    public static JsonObject getAsNotAJson(String rawResponse) {
+        JsonObject notAJson = new JsonObject();
+        notAJson.addProperty("notAJson", rawResponse.substring(0, Math.min(500, rawResponse.length())));
+        return notAJson;
+    }
+
+    private static boolean startsAsJsonObjectOrArray(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            if (!Character.isWhitespace(current)) {
+                return current == '{' || current == '[';
+            }
+        }
+        return false;
+    }
+
 
     /**
      * Extracts all fields from a JSON string with their fully qualified names.
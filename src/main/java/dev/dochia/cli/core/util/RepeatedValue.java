@@ -0,0 +1,236 @@
+package dev.dochia.cli.core.util;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import net.minidev.json.JSONValue;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A very large request value made of a segment repeated many times, such as the strings and arrays sent by the
+ * very large values playbooks.
+ * <p>
+ * Values larger than {@link #STREAMING_THRESHOLD} characters are never built in memory. They are set in payloads as
+ * a small placeholder which includes the size and SHA-256 hash of the value, and which is expanded only when the
+ * request body is written to the socket. This way the payload stays small while being processed, reported and replayed.
+ * </p>
+ *
+ * @param prefix      written once, before the repeated segments
+ * @param segment     the repeated segment
+ * @param separator   written between two segments
+ * @param repetitions how many times the segment is repeated
+ * @param suffix      written once, after the repeated segments
+ * @param rawJson     whether the value is written as is, like arrays, or as a JSON string
+ */
+public record RepeatedValue(String prefix, String segment, String separator, int repetitions, String suffix, boolean rawJson) {
+    /**
+     * Values up to this number of characters are built as regular strings.
+     */
+    public static final int STREAMING_THRESHOLD = 1 << 20;
+    private static final String PLACEHOLDER_PREFIX = "dochia-repeated-value.";
+    private static final Pattern PLACEHOLDER = Pattern.compile(Pattern.quote(PLACEHOLDER_PREFIX) + "(\\d+)\\.([0-9a-f]{64})\\.([A-Za-z0-9_-]+)");
+    private static final Pattern QUOTED_PLACEHOLDER = Pattern.compile("\"(" + PLACEHOLDER.pattern() + ")\"");
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int PREVIEW_LENGTH = 30;
+
+    /**
+     * Returns {@code prefix + segment * repetitions + suffix}, or a placeholder for it if the value is too large.
+     *
+     * @param prefix      the prefix of the value
+     * @param segment     the repeated segment
+     * @param repetitions how many times the segment is repeated
+     * @param suffix      the suffix of the value
+     * @return the value, or a placeholder for it
+     */
+    public static String string(String prefix, String segment, int repetitions, String suffix) {
+        if ((long) segment.length() * repetitions <= STREAMING_THRESHOLD) {
+            return prefix + StringUtils.repeat(segment, repetitions) + suffix;
+        }
+        return new RepeatedValue(prefix, segment, "", repetitions, suffix, false).toPlaceholder();
+    }
+
+    /**
+     * Returns a JSON array with the given element repeated, or a placeholder for it if the array is too large.
+     *
+     * @param element     the JSON element of the array
+     * @param repetitions the size of the array
+     * @return the JSON array, or a placeholder for it
+     */
+    public static String jsonArray(String element, int repetitions) {
+        if ((long) (StringUtils.length(element) + 1) * repetitions <= STREAMING_THRESHOLD) {
+            return "[" + StringUtils.repeat(element, ",", repetitions) + "]";
+        }
+        return new RepeatedValue("[", element, ",", repetitions, "]", true).toPlaceholder();
+    }
+
+    /**
+     * Checks if the given JSON payload contains repeated value placeholders.
+     *
+     * @param payload the JSON payload
+     * @return true if the payload contains at least one placeholder, false otherwise
+     */
+    public static boolean isContainedIn(String payload) {
+        return payload != null && payload.contains(PLACEHOLDER_PREFIX);
+    }
+
+    /**
+     * Returns a matcher for the placeholders set as JSON strings in a payload. The placeholder, without quotes,
+     * is in the first group of each match, to be parsed using {@link #fromPlaceholder(String)}.
+     *
+     * @param payload the JSON payload
+     * @return a matcher for the quoted placeholders
+     */
+    public static Matcher quotedPlaceholders(String payload) {
+        return QUOTED_PLACEHOLDER.matcher(payload);
+    }
+
+    /**
+     * Returns the given JSON payload with its placeholders replaced by the values they stand for. The values are
+     * built in memory, so this is only meant for payloads which cannot be streamed, such as query parameters and
+     * form bodies.
+     *
+     * @param payload the JSON payload
+     * @return the payload with all its placeholders expanded
+     */
+    public static String expand(String payload) {
+        if (!isContainedIn(payload)) {
+            return payload;
+        }
+        return quotedPlaceholders(payload)
+                .replaceAll(placeholder -> Matcher.quoteReplacement(fromPlaceholder(placeholder.group(1)).orElseThrow().asJson()));
+    }
+
+    /**
+     * Returns the value behind the given placeholder, built in memory, or the given value if it is not a placeholder.
+     * This is meant for single values taken out of a payload, such as path parameters.
+     *
+     * @param value a value taken out of a JSON payload
+     * @return the value the placeholder stands for, or the given value
+     */
+    public static String expandValue(String value) {
+        return fromPlaceholder(value)
+                .map(repeatedValue -> repeatedValue.prefix + StringUtils.repeat(repeatedValue.segment, repeatedValue.separator, repeatedValue.repetitions) + repeatedValue.suffix)
+                .orElse(value);
+    }
+
+    /**
+     * Parses the repeated value behind the given placeholder.
+     *
+     * @param placeholder the placeholder
+     * @return the repeated value, or empty if the given value is not a placeholder
+     */
+    public static Optional<RepeatedValue> fromPlaceholder(String placeholder) {
+        Matcher matcher = PLACEHOLDER.matcher(String.valueOf(placeholder));
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String json = new String(Base64.getUrlDecoder().decode(matcher.group(3)), StandardCharsets.UTF_8);
+        return Optional.of(JsonUtils.JSON_STRICT_PARSER.fromJson(json, RepeatedValue.class));
+    }
+
+    /**
+     * Returns a short description of the value behind the given placeholder, with its beginning, size and hash.
+     *
+     * @param placeholder the placeholder
+     * @return the description, or empty if the given value is not a placeholder
+     */
+    public static Optional<String> describe(String placeholder) {
+        Matcher matcher = PLACEHOLDER.matcher(String.valueOf(placeholder));
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return fromPlaceholder(placeholder)
+                .map(value -> "%s... (%s bytes, sha256 %s)".formatted(value.preview(), matcher.group(1), matcher.group(2).substring(0, 12)));
+    }
+
+    /**
+     * Returns the number of bytes written in a request body for this value.
+     *
+     * @return the number of bytes written
+     */
+    public long size() {
+        RepeatedValue written = this.asWritten();
+        return utf8Length(written.prefix) + (long) repetitions * utf8Length(written.segment)
+                + (long) Math.max(0, repetitions - 1) * utf8Length(written.separator) + utf8Length(written.suffix);
+    }
+
+    /**
+     * Writes the value as it appears in a JSON request body: either as is, or as a quoted and escaped JSON string.
+     *
+     * @param out where to write the value
+     * @throws IOException if the value cannot be written
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        RepeatedValue written = this.asWritten();
+        out.write(written.prefix.getBytes(StandardCharsets.UTF_8));
+        if (repetitions > 0) {
+            byte[] segmentBytes = written.segment.getBytes(StandardCharsets.UTF_8);
+            byte[] unit = (written.separator + written.segment).getBytes(StandardCharsets.UTF_8);
+            int unitsPerChunk = Math.max(1, CHUNK_SIZE / Math.max(1, unit.length));
+            byte[] chunk = new byte[unitsPerChunk * unit.length];
+            for (int i = 0; i < unitsPerChunk; i++) {
+                System.arraycopy(unit, 0, chunk, i * unit.length, unit.length);
+            }
+
+            out.write(segmentBytes);
+            long remainingUnits = repetitions - 1L;
+            for (; remainingUnits >= unitsPerChunk; remainingUnits -= unitsPerChunk) {
+                out.write(chunk);
+            }
+            out.write(chunk, 0, (int) remainingUnits * unit.length);
+        }
+        out.write(written.suffix.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String asJson() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            this.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private String toPlaceholder() {
+        Hasher hasher = Hashing.sha256().newHasher();
+        try (OutputStream hashingStream = Funnels.asOutputStream(hasher)) {
+            this.writeTo(hashingStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String encodedValue = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(JsonUtils.JSON_STRICT_PARSER.toJson(this).getBytes(StandardCharsets.UTF_8));
+        return PLACEHOLDER_PREFIX + this.size() + "." + hasher.hash() + "." + encodedValue;
+    }
+
+    private String preview() {
+        StringBuilder preview = new StringBuilder(prefix);
+        for (int i = 0; i < repetitions && preview.length() < PREVIEW_LENGTH; i++) {
+            preview.append(i > 0 ? separator : "").append(segment);
+        }
+        return StringUtils.left(preview.toString(), PREVIEW_LENGTH);
+    }
+
+    private RepeatedValue asWritten() {
+        if (rawJson) {
+            return this;
+        }
+        return new RepeatedValue("\"" + JSONValue.escape(prefix), JSONValue.escape(segment), JSONValue.escape(separator),
+                repetitions, JSONValue.escape(suffix) + "\"", true);
+    }
+
+    private static long utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
@@ -0,0 +1,56 @@
+package dev.dochia.cli.core.aop;
+
+import dev.dochia.cli.core.args.FilterArguments;
+import dev.dochia.cli.core.http.HttpMethod;
+import dev.dochia.cli.core.model.PlaybookData;
+import dev.dochia.cli.core.playbook.api.TestCasePlaybook;
+import dev.dochia.cli.core.report.TestCaseListener;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@QuarkusTest
+class DryRunAspectTest {
+    @Inject
+    TestCaseListener testCaseListener;
+    @Inject
+    FilterArguments filterArguments;
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(filterArguments, "estimate", false);
+        ReflectionTestUtils.setField(filterArguments, "dryRun", false);
+        ((AtomicInteger) ReflectionTestUtils.getField(TestCaseListener.class, "TEST")).set(0);
+    }
+
+    @Test
+    void shouldCountTestsWithoutExecutingThemWhenEstimating() {
+        ReflectionTestUtils.setField(filterArguments, "estimate", true);
+        AtomicInteger executions = new AtomicInteger();
+        PlaybookData data = PlaybookData.builder().path("/estimated").method(HttpMethod.POST).build();
+
+        testCaseListener.createAndExecuteTest(Mockito.mock(PrettyLogger.class), Mockito.mock(TestCasePlaybook.class), executions::incrementAndGet, data);
+        testCaseListener.createAndExecuteTest(Mockito.mock(PrettyLogger.class), Mockito.mock(TestCasePlaybook.class), executions::incrementAndGet, data);
+
+        Assertions.assertThat(filterArguments.isDryRun()).isTrue();
+        Assertions.assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    void shouldExecuteTestsWhenDryRunWithoutEstimating() {
+        ReflectionTestUtils.setField(filterArguments, "dryRun", true);
+        AtomicInteger executions = new AtomicInteger();
+        PlaybookData data = PlaybookData.builder().path("/dry-run").method(HttpMethod.GET).build();
+
+        testCaseListener.createAndExecuteTest(Mockito.mock(PrettyLogger.class), Mockito.mock(TestCasePlaybook.class), executions::incrementAndGet, data);
+
+        Assertions.assertThat(executions).hasValue(1);
+    }
+}
@@ -49,6 +49,10 @@ class FilterArgumentsTest {
         ReflectionTestUtils.setField(filterArguments, "playbooksToBeRunComputed", false);
         ReflectionTestUtils.setField(filterArguments, "skipPlaybooksForExtension", null);
         ReflectionTestUtils.setField(filterArguments, "skipPlaybooksForExtensionMap", new java.util.HashMap<>());
+        ReflectionTestUtils.setField(filterArguments, "shard", null);
+        ReflectionTestUtils.setField(filterArguments, "shardIndex", 1);
+        ReflectionTestUtils.setField(filterArguments, "shardCount", 1);
+        ReflectionTestUtils.setField(filterArguments, "timeBudgetInSec", 0L);
 
         picocli.CommandLine commandLine = new picocli.CommandLine(filterArguments);
         spec = commandLine.getCommandSpec();
@@ -676,4 +680,40 @@ class FilterArgumentsTest {
                 .containsExactly("HappyPath")
                 .hasSize(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldNotEnableShardingByDefault() {
+        filterArguments.validateShard(spec);
+
+        Assertions.assertThat(filterArguments.isShardingEnabled()).isFalse();
+    }
+
+    @Test
+    void shouldParseShard() {
+        ReflectionTestUtils.setField(filterArguments, "shard", "3/8");
+
+        filterArguments.validateShard(spec);
+
+        Assertions.assertThat(filterArguments.isShardingEnabled()).isTrue();
+        Assertions.assertThat(filterArguments.getShardIndex()).isEqualTo(3);
+        Assertions.assertThat(filterArguments.getShardCount()).isEqualTo(8);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"0/8", "9/8", "3", "a/8", "3/b", "3/8/1", "1/0"})
+    void shouldRejectInvalidShard(String shard) {
+        ReflectionTestUtils.setField(filterArguments, "shard", shard);
+
+        Assertions.assertThatThrownBy(() -> filterArguments.validateShard(spec))
+                .isInstanceOf(picocli.CommandLine.ParameterException.class)
+                .hasMessageContaining("--shard");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0,false", "-5,false", "900,true"})
+    void shouldEnableTimeBudgetOnlyForPositiveValues(long timeBudget, boolean expected) {
+        ReflectionTestUtils.setField(filterArguments, "timeBudgetInSec", timeBudget);
+
+        Assertions.assertThat(filterArguments.isTimeBudgetEnabled()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,56 @@
+package dev.dochia.cli.core.command;
+
+import dev.dochia.cli.core.http.HttpMethod;
+import dev.dochia.cli.core.report.ExecutionTimings;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@QuarkusTest
+class BudgetPlannerTest {
+
+    @Test
+    void shouldComputePlaybookErrorRateFromPreviousRuns() {
+        List<ExecutionTimings.UnitTiming> previousTimings = List.of(
+                new ExecutionTimings.UnitTiming("/pets", HttpMethod.POST, "HappyPath", 100, 10, 5),
+                new ExecutionTimings.UnitTiming("/users", HttpMethod.POST, "HappyPath", 100, 10, 5),
+                new ExecutionTimings.UnitTiming("/pets", HttpMethod.POST, "RemoveFields", 100, 80, 0));
+
+        Map<String, Double> errorRates = BudgetPlanner.errorRatePerPlaybook(previousTimings);
+
+        Assertions.assertThat(errorRates.get("HappyPath")).isCloseTo(11.0 / 40, Offset.offset(0.0001));
+        Assertions.assertThat(errorRates.get("RemoveFields")).isCloseTo(1.0 / 100, Offset.offset(0.0001));
+    }
+
+    @Test
+    void shouldRefinePlaybookErrorRateWithUnitResults() {
+        ExecutionTimings.UnitTiming unitTiming = new ExecutionTimings.UnitTiming("/pets", HttpMethod.POST, "HappyPath", 100, 20, 10);
+
+        Assertions.assertThat(BudgetPlanner.errorRate(Optional.of(unitTiming), 0.1)).isCloseTo(12.0 / 40, Offset.offset(0.0001));
+        Assertions.assertThat(BudgetPlanner.errorRate(Optional.empty(), 0.1)).isEqualTo(0.1);
+    }
+
+    @Test
+    void shouldRankUnitsByExpectedErrorsPerSecond() {
+        Map<String, Double> errorRates = Map.of("a", 0.1, "b", 0.5, "c", 0.5);
+        Map<String, Long> durations = Map.of("a", 10L, "b", 100L, "c", 10L);
+
+        List<String> ranked = BudgetPlanner.rankByYield(List.of("a", "b", "c"), _ -> 10, durations::get, errorRates::get, unit -> unit);
+
+        Assertions.assertThat(ranked).containsExactly("c", "a", "b");
+    }
+
+    @Test
+    void shouldSpreadEquallyValuableUnitsAcrossGroups() {
+        List<String> units = List.of("a1", "a2", "a3", "b1", "b2", "c1");
+
+        List<String> ranked = BudgetPlanner.rankByYield(units, _ -> 5, _ -> 5, _ -> BudgetPlanner.PRIOR_ERROR_RATE, unit -> unit.charAt(0));
+
+        Assertions.assertThat(ranked).containsExactly("a1", "b1", "c1", "a2", "b2", "a3");
+    }
+}
@@ -0,0 +1,99 @@
+package dev.dochia.cli.core.command;
+
+import dev.dochia.cli.core.model.TestCase;
+import dev.dochia.cli.core.report.TestCaseExporter;
+import dev.dochia.cli.core.report.TestCaseListener;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+@QuarkusTest
+class MergeCommandTest {
+    private TestCaseListener testCaseListener;
+    private MergeCommand mergeCommand;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setup() throws IOException {
+        if (tempDir == null) {
+            tempDir = Files.createTempDirectory("merge-test-temp");
+        }
+        testCaseListener = Mockito.mock(TestCaseListener.class);
+        mergeCommand = new MergeCommand(testCaseListener);
+        mergeCommand.spec = new CommandLine(mergeCommand).getCommandSpec();
+        mergeCommand.outputReportFolder = tempDir.resolve("merged").toString();
+    }
+
+    @Test
+    void shouldMergeTestCasesFromAllReportFolders() throws IOException {
+        Path firstShard = this.createReportFolder("shard-1", "Test 12", "Test 13");
+        Path secondShard = this.createReportFolder("shard-2", "Test 12");
+        mergeCommand.reportFolders = new String[]{firstShard.toString(), secondShard.toString()};
+
+        mergeCommand.run();
+
+        ArgumentCaptor<TestCase> testCases = ArgumentCaptor.forClass(TestCase.class);
+        Mockito.verify(testCaseListener).initReportingPath(mergeCommand.outputReportFolder);
+        Mockito.verify(testCaseListener, Mockito.times(3)).recordTestCase(testCases.capture());
+        Mockito.verify(testCaseListener).endSession();
+        Assertions.assertThat(testCases.getAllValues()).extracting(TestCase::getPath).containsOnly("/accessors");
+        Assertions.assertThat(mergeCommand.getExitCode()).isZero();
+    }
+
+    @Test
+    void shouldSkipMissingTestCaseFiles() throws IOException {
+        Path shard = this.createReportFolder("shard-1", "Test 12");
+        Files.writeString(shard.resolve(TestCaseExporter.REPORT_JS), "{\"totalTests\": 2, \"testCases\": [{\"id\": \"Test 12\"}, {\"id\": \"Test 99\"}]}");
+        mergeCommand.reportFolders = new String[]{shard.toString()};
+
+        mergeCommand.run();
+
+        Mockito.verify(testCaseListener, Mockito.times(1)).recordTestCase(Mockito.any());
+        Assertions.assertThat(mergeCommand.getExitCode()).isZero();
+    }
+
+    @Test
+    void shouldFailWhenSummaryReportMissing() {
+        mergeCommand.reportFolders = new String[]{tempDir.resolve("missing").toString()};
+
+        mergeCommand.run();
+
+        Mockito.verify(testCaseListener, Mockito.never()).recordTestCase(Mockito.any());
+        Mockito.verify(testCaseListener).endSession();
+        Assertions.assertThat(mergeCommand.getExitCode()).isEqualTo(CommandLine.ExitCode.SOFTWARE);
+    }
+
+    @Test
+    void shouldRejectOutputFolderBeingMerged() {
+        mergeCommand.reportFolders = new String[]{mergeCommand.outputReportFolder};
+
+        Assertions.assertThatThrownBy(() -> mergeCommand.run()).isInstanceOf(CommandLine.ParameterException.class);
+        Mockito.verifyNoInteractions(testCaseListener);
+    }
+
+    private Path createReportFolder(String name, String... testIds) throws IOException {
+        Path folder = Files.createDirectories(tempDir.resolve(name));
+        String testCaseContent = Files.readString(Path.of("src/test/resources/Test12.json"));
+        List<String> summaries = Arrays.stream(testIds).map(testId -> "{\"id\": \"" + testId + "\", \"result\": \"error\"}").toList();
+
+        for (String testId : testIds) {
+            Files.writeString(folder.resolve(testId.replace(" ", "") + ".json"), testCaseContent);
+        }
+        Files.writeString(folder.resolve(TestCaseExporter.REPORT_JS),
+                "{\"errors\": 1, \"testCases\": [" + String.join(",", summaries) + "], \"dochiaVersion\": \"1.0.0\"}");
+        return folder;
+    }
+}
@@ -0,0 +1,75 @@
+package dev.dochia.cli.core.command;
+
+import dev.dochia.cli.core.model.DochiaHeader;
+import dev.dochia.cli.core.model.PlaybookData;
+import dev.dochia.cli.core.playbook.api.TestCasePlaybook;
+import dev.dochia.cli.core.playbook.field.NullValuesInFieldsPlaybook;
+import dev.dochia.cli.core.playbook.header.AbugidasInHeadersPlaybook;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+
+@QuarkusTest
+class ShardPlannerTest {
+
+    @Test
+    void shouldBalancePartitionsByWeight() {
+        Map<String, Long> weights = Map.of("a", 10L, "b", 1L, "c", 1L, "d", 8L, "e", 2L);
+        List<String> units = List.of("a", "b", "c", "d", "e");
+
+        List<List<String>> partitions = ShardPlanner.partition(units, weights::get, 2);
+
+        Assertions.assertThat(partitions).containsExactly(List.of("a", "b"), List.of("c", "d", "e"));
+    }
+
+    @Test
+    void shouldKeepOriginalOrderAndCoverAllUnits() {
+        List<Integer> units = List.of(1, 2, 3, 4, 5, 6, 7);
+
+        List<List<Integer>> partitions = ShardPlanner.partition(units, _ -> 1L, 3);
+
+        Assertions.assertThat(partitions).containsExactly(List.of(1, 4, 7), List.of(2, 5), List.of(3, 6));
+    }
+
+    @Test
+    void shouldReturnEmptyPartitionsWhenNotEnoughUnits() {
+        List<List<String>> partitions = ShardPlanner.partition(List.of("a"), _ -> 5L, 3);
+
+        Assertions.assertThat(partitions).containsExactly(List.of("a"), List.of(), List.of());
+    }
+
+    @Test
+    void shouldWeighUnitsByPreviousDurations() {
+        Map<String, Long> testCounts = Map.of("a", 2L, "b", 5L, "c", 4L);
+        Map<String, Long> durations = Map.of("a", 100L, "b", 400L);
+
+        Map<String, Long> weights = ShardPlanner.weighByDuration(List.of("a", "b", "c"), testCounts::get,
+                unit -> durations.containsKey(unit) ? OptionalLong.of(durations.get(unit)) : OptionalLong.empty());
+
+        Assertions.assertThat(weights).containsEntry("a", 100L).containsEntry("b", 400L).containsEntry("c", 286L);
+    }
+
+    @Test
+    void shouldWeighUnitsByTestCountWithoutPreviousDurations() {
+        Map<String, Long> weights = ShardPlanner.weighByDuration(List.of("a", "b"), unit -> unit.equals("a") ? 3L : 7L, _ -> OptionalLong.empty());
+
+        Assertions.assertThat(weights).containsEntry("a", 3L).containsEntry("b", 7L);
+    }
+
+    @Test
+    void shouldEstimateTestCountBasedOnPlaybookType() {
+        PlaybookData data = Mockito.mock(PlaybookData.class);
+        Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Set.of("id", "name", "tag"));
+        Mockito.when(data.getHeaders()).thenReturn(Set.of(DochiaHeader.from("X-Request-Id", "1", true, null), DochiaHeader.from("Accept", "*/*", false, null)));
+
+        Assertions.assertThat(ShardPlanner.estimateTestCount(Mockito.mock(NullValuesInFieldsPlaybook.class), data)).isEqualTo(3);
+        Assertions.assertThat(ShardPlanner.estimateTestCount(Mockito.mock(AbugidasInHeadersPlaybook.class), data)).isEqualTo(2);
+        Assertions.assertThat(ShardPlanner.estimateTestCount(Mockito.mock(TestCasePlaybook.class), data)).isEqualTo(1);
+    }
+}
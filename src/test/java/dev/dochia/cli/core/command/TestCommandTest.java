@@ -10,21 +10,32 @@ import dev.dochia.cli.core.playbook.body.HappyPathPlaybook;
 import dev.dochia.cli.core.playbook.executor.SimpleExecutor;
 import dev.dochia.cli.core.playbook.stateful.DeletedResourcesNotAvailablePlaybook;
 import dev.dochia.cli.core.report.ExecutionStatisticsListener;
+import dev.dochia.cli.core.report.ExecutionTimings;
+import dev.dochia.cli.core.report.ProgressJournal;
 import dev.dochia.cli.core.report.TestCaseListener;
 import dev.dochia.cli.core.report.TestReportsGenerator;
+import dev.dochia.cli.core.util.DochiaRandom;
 import dev.dochia.cli.core.util.VersionChecker;
+import com.google.common.collect.Sets;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
 import jakarta.inject.Inject;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 import picocli.CommandLine;
 
 import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @QuarkusTest
 class TestCommandTest {
@@ -49,11 +60,18 @@ class TestCommandTest {
     private TestCaseListener testCaseListener;
     private FilterArguments filterArguments;
     SimpleExecutor simpleExecutor;
+    ExecutionTimings executionTimings;
+    ProgressJournal progressJournal;
 
     @BeforeEach
     void setup() {
         filterArguments = Mockito.mock(FilterArguments.class);
         ReflectionTestUtils.setField(testCommand, "filterArguments", filterArguments);
+        executionTimings = Mockito.mock(ExecutionTimings.class);
+        ReflectionTestUtils.setField(testCommand, "executionTimings", executionTimings);
+        progressJournal = Mockito.mock(ProgressJournal.class);
+        ReflectionTestUtils.setField(testCommand, "progressJournal", progressJournal);
+        ReflectionTestUtils.setField(testCaseListener, "progressJournal", progressJournal);
         Mockito.when(filterArguments.getHttpMethods()).thenReturn(HttpMethod.restMethods());
         ReflectionTestUtils.setField(reportingArguments, "verbosity", new boolean[]{true, true});
         ReflectionTestUtils.setField(testCommand, "spec", Mockito.mock(CommandLine.Model.CommandSpec.class));
@@ -107,7 +125,7 @@ class TestCommandTest {
         Mockito.verify(spyMain).startFuzzing(Mockito.any());
         Mockito.verify(testCaseListener, Mockito.times(1)).startSession();
         Mockito.verify(testCaseListener, Mockito.times(1)).endSession();
-        Mockito.verify(testCaseListener, Mockito.times(0)).afterFuzz(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(0)).afterFuzz(Mockito.any(), Mockito.any(), Mockito.any());
         ReflectionTestUtils.setField(apiArguments, "contract", "empty");
         ReflectionTestUtils.setField(apiArguments, "server", "empty");
     }
@@ -120,7 +138,7 @@ class TestCommandTest {
         testCommand.run();
         Mockito.verify(testCaseListener, Mockito.times(1)).startSession();
         Mockito.verify(testCaseListener, Mockito.times(1)).endSession();
-        Mockito.verify(testCaseListener, Mockito.times(0)).afterFuzz(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(0)).afterFuzz(Mockito.any(), Mockito.any(), Mockito.any());
     }
 
     @Test
@@ -144,13 +162,198 @@ class TestCommandTest {
         Mockito.verify(spyMain).startFuzzing(Mockito.any());
         Mockito.verify(testCaseListener, Mockito.times(1)).startSession();
         Mockito.verify(testCaseListener, Mockito.times(1)).endSession();
-        Mockito.verify(testCaseListener, Mockito.times(20)).afterFuzz(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(20)).afterFuzz(Mockito.any(), Mockito.any(), Mockito.any());
         Mockito.verify(testCaseListener, Mockito.times(10)).beforeFuzz(Mockito.eq(HappyPathPlaybook.class), Mockito.any(), Mockito.any());
 
         ReflectionTestUtils.setField(apiArguments, "contract", "empty");
         ReflectionTestUtils.setField(apiArguments, "server", "empty");
     }
 
+    @Test
+    void shouldRunAllPathsWhenParallelPathsEnabled() throws Exception {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/petstore.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(processingArguments, "useExamples", false);
+        processingArguments.setParallelPaths(3);
+
+        Mockito.when(filterArguments.getFirstPhasePlaybooksForPath()).thenReturn(List.of("HappyPathPlaybook"));
+        Mockito.when(filterArguments.getSuppliedPlaybooks()).thenReturn(List.of("HappyPathPlaybook"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutPlaybooksNotMatchingHttpMethodsAndPath(Mockito.any(), Mockito.anyString())).thenReturn(List.of(new HappyPathPlaybook(simpleExecutor)));
+        Mockito.when(filterArguments.getSecondPhasePlaybooks()).thenReturn(List.of(Mockito.mock(DeletedResourcesNotAvailablePlaybook.class)));
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(List.of("/pet-types", "/pet-types-rec", "/pets", "/pets-batch", "/pets/{id}"));
+
+        TestCommand spyMain = Mockito.spy(testCommand);
+        spyMain.run();
+        processingArguments.setParallelPaths(1);
+
+        Mockito.verify(testCaseListener).startParallelProgress(Mockito.argThat(paths -> paths.size() == 5));
+        Mockito.verify(testCaseListener, Mockito.times(5)).notifyPathCompleted(Mockito.anyString());
+        Mockito.verify(testCaseListener, Mockito.times(20)).afterFuzz(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(executionTimings, Mockito.times(20)).record(Mockito.anyString(), Mockito.any(), Mockito.anyString(), Mockito.anyLong(), Mockito.anyLong(), Mockito.anyLong());
+        Mockito.verify(executionTimings).load("dochia-report");
+        Mockito.verify(executionTimings).write("dochia-report");
+        Mockito.verify(testCaseListener, Mockito.times(10)).beforeFuzz(Mockito.eq(HappyPathPlaybook.class), Mockito.any(), Mockito.any());
+
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
+    @Test
+    void shouldRunOnlyTestsFromSuppliedShard() throws Exception {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/petstore.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(processingArguments, "useExamples", false);
+
+        Mockito.when(filterArguments.isShardingEnabled()).thenReturn(true);
+        Mockito.when(filterArguments.getShardIndex()).thenReturn(1);
+        Mockito.when(filterArguments.getShardCount()).thenReturn(2);
+        Mockito.when(filterArguments.getFirstPhasePlaybooksForPath()).thenReturn(List.of("HappyPathPlaybook"));
+        Mockito.when(filterArguments.getSuppliedPlaybooks()).thenReturn(List.of("HappyPathPlaybook"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutPlaybooksNotMatchingHttpMethodsAndPath(Mockito.any(), Mockito.anyString())).thenReturn(List.of(new HappyPathPlaybook(simpleExecutor)));
+        Mockito.when(filterArguments.getSecondPhasePlaybooks()).thenReturn(List.of(Mockito.mock(DeletedResourcesNotAvailablePlaybook.class)));
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(List.of("/pet-types", "/pet-types-rec", "/pets", "/pets-batch", "/pets/{id}"));
+
+        TestCommand spyMain = Mockito.spy(testCommand);
+        spyMain.run();
+
+        Mockito.verify(testCaseListener, Mockito.times(5)).notifyPathCompleted(Mockito.anyString());
+        Mockito.verify(testCaseListener, Mockito.times(10)).afterFuzz(Mockito.any(), Mockito.any(), Mockito.any());
+
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
+    @Test
+    void shouldSelectSameShardsRegardlessOfPreviousTimings() throws Exception {
+        Set<String> allUnits = this.runShard(1, 1);
+
+        Mockito.when(executionTimings.getPreviousDuration(Mockito.eq("/pets"), Mockito.any(), Mockito.anyString())).thenReturn(OptionalLong.of(1_000_000));
+        Set<String> firstShard = this.runShard(1, 2);
+
+        Mockito.reset(executionTimings);
+        Set<String> secondShard = this.runShard(2, 2);
+
+        Assertions.assertThat(firstShard).isNotEmpty().doesNotContainAnyElementsOf(secondShard);
+        Assertions.assertThat(secondShard).isNotEmpty();
+        Assertions.assertThat(Sets.union(firstShard, secondShard)).isEqualTo(allUnits);
+    }
+
+    private Set<String> runShard(int shardIndex, int shardCount) throws Exception {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/petstore.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(processingArguments, "useExamples", false);
+
+        Mockito.when(filterArguments.isShardingEnabled()).thenReturn(shardCount > 1);
+        Mockito.when(filterArguments.getShardIndex()).thenReturn(shardIndex);
+        Mockito.when(filterArguments.getShardCount()).thenReturn(shardCount);
+        Mockito.when(filterArguments.getFirstPhasePlaybooksForPath()).thenReturn(List.of("HappyPathPlaybook"));
+        Mockito.when(filterArguments.getSuppliedPlaybooks()).thenReturn(List.of("HappyPathPlaybook"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutPlaybooksNotMatchingHttpMethodsAndPath(Mockito.any(), Mockito.anyString())).thenReturn(List.of(new HappyPathPlaybook(simpleExecutor)));
+        Mockito.when(filterArguments.getSecondPhasePlaybooks()).thenReturn(List.of(Mockito.mock(DeletedResourcesNotAvailablePlaybook.class)));
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(List.of("/pet-types", "/pet-types-rec", "/pets", "/pets-batch", "/pets/{id}"));
+        Mockito.clearInvocations(testCaseListener);
+
+        Mockito.spy(testCommand).run();
+
+        ArgumentCaptor<Class<?>> playbooks = ArgumentCaptor.forClass(Class.class);
+        ArgumentCaptor<String> paths = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> methods = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(testCaseListener, Mockito.atLeastOnce()).afterFuzz(playbooks.capture(), paths.capture(), methods.capture());
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+
+        return IntStream.range(0, paths.getAllValues().size())
+                .mapToObj(i -> playbooks.getAllValues().get(i).getSimpleName() + " " + methods.getAllValues().get(i) + " " + paths.getAllValues().get(i))
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    void shouldRunSecondPhasePlaybooksLastWhenTimeBudgetSupplied() throws Exception {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/petstore.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(processingArguments, "useExamples", false);
+
+        Mockito.when(filterArguments.isTimeBudgetEnabled()).thenReturn(true);
+        Mockito.when(filterArguments.getTimeBudgetInSec()).thenReturn(3600L);
+        Mockito.when(filterArguments.getFirstPhasePlaybooksForPath()).thenReturn(List.of("HappyPathPlaybook"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutPlaybooksNotMatchingHttpMethodsAndPath(Mockito.any(), Mockito.anyString())).thenReturn(List.of(new HappyPathPlaybook(simpleExecutor)));
+        Mockito.when(filterArguments.getSecondPhasePlaybooks()).thenReturn(List.of(Mockito.mock(DeletedResourcesNotAvailablePlaybook.class)));
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(List.of("/pet-types", "/pet-types-rec", "/pets", "/pets-batch", "/pets/{id}"));
+
+        TestCommand spyMain = Mockito.spy(testCommand);
+        spyMain.run();
+
+        ArgumentCaptor<Class<?>> playbooks = ArgumentCaptor.forClass(Class.class);
+        Mockito.verify(testCaseListener, Mockito.times(20)).beforeFuzz(playbooks.capture(), Mockito.any(), Mockito.any());
+        Assertions.assertThat(playbooks.getAllValues().subList(0, 10)).containsOnly(HappyPathPlaybook.class);
+        Assertions.assertThat(playbooks.getAllValues().subList(10, 20)).doesNotContain(HappyPathPlaybook.class);
+        Mockito.verify(testCaseListener, Mockito.times(5)).notifyPathCompleted(Mockito.anyString());
+
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
+    @Test
+    void shouldNotStartPlaybooksOnceTimeBudgetIsSpent() throws Exception {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/petstore.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(processingArguments, "useExamples", false);
+
+        Mockito.when(filterArguments.isTimeBudgetEnabled()).thenReturn(true);
+        Mockito.when(filterArguments.getTimeBudgetInSec()).thenReturn(0L);
+        Mockito.when(filterArguments.getFirstPhasePlaybooksForPath()).thenReturn(List.of("HappyPathPlaybook"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutPlaybooksNotMatchingHttpMethodsAndPath(Mockito.any(), Mockito.anyString())).thenReturn(List.of(new HappyPathPlaybook(simpleExecutor)));
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(List.of("/pets", "/pets/{id}"));
+
+        TestCommand spyMain = Mockito.spy(testCommand);
+        spyMain.run();
+
+        Mockito.verify(testCaseListener, Mockito.never()).beforeFuzz(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(2)).notifyPathCompleted(Mockito.anyString());
+
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
+    @Test
+    void shouldResumeAndSkipUnitsCompletedByPreviousRun() throws Exception {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/petstore.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(processingArguments, "useExamples", false);
+        ReflectionTestUtils.setField(reportingArguments, "resume", true);
+
+        Mockito.when(progressJournal.start(Mockito.anyString(), Mockito.eq(true), Mockito.anyLong())).thenReturn(42L);
+        Mockito.when(progressJournal.isCompleted(Mockito.eq("/pets"), Mockito.eq("POST"), Mockito.eq("HappyPath"))).thenReturn(true);
+        Mockito.when(filterArguments.getFirstPhasePlaybooksForPath()).thenReturn(List.of("HappyPathPlaybook"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutPlaybooksNotMatchingHttpMethodsAndPath(Mockito.any(), Mockito.anyString())).thenReturn(List.of(new HappyPathPlaybook(simpleExecutor)));
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(List.of("/pets"));
+
+        TestCommand spyMain = Mockito.spy(testCommand);
+        spyMain.run();
+
+        Mockito.verify(testCaseListener).restoreCompletedTestCases();
+        Mockito.verify(testCaseListener, Mockito.times(1)).afterFuzz(Mockito.any(), Mockito.eq("/pets"), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.never()).beforeFuzz(HappyPathPlaybook.class, "/pets", "POST");
+        Mockito.verify(progressJournal).close();
+        Assertions.assertThat(DochiaRandom.getStoredSeed()).isEqualTo(42L);
+
+        ReflectionTestUtils.setField(reportingArguments, "resume", false);
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"/pets,/pets", "/pets/{id},/pets", "/pets/{id}/owners,/pets", "/,/", "/{tenant}/pets,/{tenant}"})
+    void shouldGroupPathsByFirstSegment(String path, String expectedGroup) {
+        Assertions.assertThat(TestCommand.getPathGroup(path)).isEqualTo(expectedGroup);
+    }
+
     @Test
     void givenAnOpenApiContract_whenStartingDochia_thenTheContractIsCorrectlyParsed() throws Exception {
         ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/openapi.yml");
@@ -173,7 +376,7 @@ class TestCommandTest {
         Mockito.verify(spyMain).startFuzzing(Mockito.any());
         Mockito.verify(playbookDataFactory).fromPathItem(Mockito.eq("/pet"), Mockito.any(), Mockito.any());
         Mockito.verify(playbookDataFactory, Mockito.times(0)).fromPathItem(Mockito.eq("/petss"), Mockito.any(), Mockito.any());
-        Mockito.verify(testCaseListener, Mockito.times(13)).afterFuzz(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(13)).afterFuzz(Mockito.any(), Mockito.any(), Mockito.any());
         Mockito.verify(testCaseListener, Mockito.times(9)).beforeFuzz(Mockito.eq(HappyPathPlaybook.class), Mockito.anyString(), Mockito.any());
         Mockito.verify(testCaseListener, Mockito.times(4)).beforeFuzz(Mockito.eq(DeletedResourcesNotAvailablePlaybook.class), Mockito.any(), Mockito.any());
 
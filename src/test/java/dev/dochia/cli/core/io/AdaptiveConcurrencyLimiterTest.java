@@ -0,0 +1,210 @@
+package dev.dochia.cli.core.io;
+
+import dev.dochia.cli.core.model.HttpResponse;
+import dev.dochia.cli.core.model.NetworkTimings;
+import dev.dochia.cli.core.util.KeyValuePair;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.InterruptedIOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@QuarkusTest
+class AdaptiveConcurrencyLimiterTest {
+    private static final String URL = "http://localhost:8080/pets";
+
+    @Test
+    void shouldIncreaseLimitUpToMaxOnSuccessfulResponses() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(URL).complete(HttpResponse.from(200, "{}", "GET", 10));
+        }
+
+        Assertions.assertThat(limiter.getLimit(URL)).isEqualTo(8);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"429", "503"})
+    void shouldHalveLimitOnThrottlingResponses(int responseCode) throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(URL).complete(HttpResponse.from(200, "{}", "GET", 10));
+        }
+        limiter.acquire(URL).complete(HttpResponse.from(responseCode, "{}", "GET", 10));
+
+        Assertions.assertThat(limiter.getLimit(URL)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldSlightlyDecreaseLimitOnTimeouts() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(URL).complete(HttpResponse.from(200, "{}", "GET", 10));
+        }
+        limiter.acquire(URL).fail(new SocketTimeoutException("timeout"));
+
+        Assertions.assertThat(limiter.getLimit(URL)).isEqualTo(7);
+    }
+
+    @Test
+    void shouldKeepLimitOnConnectionResets() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(URL).complete(HttpResponse.from(200, "{}", "GET", 10));
+        }
+        limiter.acquire(URL).fail(new SocketException("Connection reset"));
+
+        Assertions.assertThat(limiter.getLimit(URL)).isEqualTo(8);
+    }
+
+    @Test
+    void shouldNotDecreaseLimitWhenBaselineIsBelowOneMillisecond() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8);
+        limiter.acquire(URL).complete(responseWithTimeToFirstByte(TimeUnit.MICROSECONDS.toNanos(200)));
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire(URL).complete(responseWithTimeToFirstByte(TimeUnit.MICROSECONDS.toNanos(900 + i * 100L)));
+        }
+
+        Assertions.assertThat(limiter.getLimit(URL)).isEqualTo(8);
+    }
+
+    @Test
+    void shouldNotCollapseLimitWhenResponseTimeIsZeroMilliseconds() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8);
+        limiter.acquire(URL).complete(HttpResponse.from(200, "{}", "GET", 0));
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire(URL).complete(HttpResponse.from(200, "{}", "GET", 1 + i % 3));
+        }
+
+        Assertions.assertThat(limiter.getLimit(URL)).isEqualTo(8);
+    }
+
+    @Test
+    void shouldDecreaseLimitWhenTimeToFirstByteGoesWellAboveFloor() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(URL).complete(responseWithTimeToFirstByte(TimeUnit.MICROSECONDS.toNanos(300)));
+        }
+        limiter.acquire(URL).complete(responseWithTimeToFirstByte(TimeUnit.MILLISECONDS.toNanos(50)));
+
+        Assertions.assertThat(limiter.getLimit(URL)).isEqualTo(7);
+    }
+
+    private static HttpResponse responseWithTimeToFirstByte(long timeToFirstByteNanos) {
+        return HttpResponse.builder().responseCode(200).body("{}").httpMethod("GET")
+                .networkTimings(new NetworkTimings(0, 0, 0, 0, timeToFirstByteNanos, 0)).build();
+    }
+
+    @Test
+    void shouldDecreaseLimitWhenResponseTimeIncreases() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(URL).complete(HttpResponse.from(200, "{}", "GET", 10));
+        }
+        limiter.acquire(URL).complete(HttpResponse.from(200, "{}", "GET", 100));
+
+        Assertions.assertThat(limiter.getLimit(URL)).isEqualTo(7);
+    }
+
+    @Test
+    void shouldKeepLimitsPerHost() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(URL).complete(HttpResponse.from(200, "{}", "GET", 10));
+        }
+
+        Assertions.assertThat(limiter.getLimit("http://localhost:9090/pets")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWaitForFreeSlot() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire(URL);
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> waiting = CompletableFuture.supplyAsync(() -> acquire(limiter));
+
+        Thread.sleep(100);
+        Assertions.assertThat(waiting).isNotDone();
+        permit.complete(HttpResponse.from(200, "{}", "GET", 10));
+
+        Assertions.assertThat(waiting.get(1, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void shouldNotTakeSlotWhenInterruptedWhileWaiting() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire(URL);
+        CompletableFuture<Boolean> interruptFlag = new CompletableFuture<>();
+        CompletableFuture<Exception> waitingError = new CompletableFuture<>();
+        Thread waiting = Thread.ofVirtual().start(() -> {
+            try {
+                limiter.acquire(URL);
+                waitingError.complete(null);
+            } catch (InterruptedIOException e) {
+                waitingError.complete(e);
+            }
+            interruptFlag.complete(Thread.currentThread().isInterrupted());
+        });
+
+        Thread.sleep(100);
+        waiting.interrupt();
+
+        Assertions.assertThat(waitingError.get(1, TimeUnit.SECONDS)).isInstanceOf(InterruptedIOException.class);
+        Assertions.assertThat(interruptFlag.get(1, TimeUnit.SECONDS)).isTrue();
+        permit.complete(HttpResponse.from(200, "{}", "GET", 10));
+        Assertions.assertThat(CompletableFuture.supplyAsync(() -> acquire(limiter)).get(1, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void shouldPauseHostWhenRetryAfterReceived() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8);
+        HttpResponse throttled = HttpResponse.builder().responseCode(429).responseTimeInMs(10)
+                .headers(List.of(new KeyValuePair<>("Retry-After", "1"))).build();
+        limiter.acquire(URL).complete(throttled);
+
+        long start = System.currentTimeMillis();
+        limiter.acquire(URL);
+
+        Assertions.assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(900);
+    }
+
+    @Test
+    void shouldPauseHostOnlyForGivenHost() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8);
+        limiter.pause(URL, Duration.ofSeconds(1));
+
+        long start = System.currentTimeMillis();
+        limiter.acquire("http://localhost:9090/other");
+        Assertions.assertThat(System.currentTimeMillis() - start).isLessThan(500);
+
+        limiter.acquire(URL);
+        Assertions.assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(900);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"120;120", "-5;0", "invalid;0", "'';0", "Wed, 21 Oct 2015 07:28:00 GMT;0"}, delimiter = ';')
+    void shouldParseRetryAfter(String retryAfter, long expectedSeconds) {
+        Assertions.assertThat(AdaptiveConcurrencyLimiter.parseRetryAfter(retryAfter)).isEqualTo(Duration.ofSeconds(expectedSeconds));
+    }
+
+    @Test
+    void shouldExtractHostAndPort() throws Exception {
+        Assertions.assertThat(AdaptiveConcurrencyLimiter.getHost("https://example.com/pets?id=1")).isEqualTo("example.com:443");
+        Assertions.assertThat(AdaptiveConcurrencyLimiter.getHost("not a url")).isEqualTo("not a url");
+    }
+
+    private static AdaptiveConcurrencyLimiter.Permit acquire(AdaptiveConcurrencyLimiter limiter) {
+        try {
+            return limiter.acquire(URL);
+        } catch (InterruptedIOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package dev.dochia.cli.core.io;
+
+import io.quarkus.test.junit.QuarkusTest;
+import okhttp3.Dns;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+
+@QuarkusTest
+class CachingDnsTest {
+
+    @Test
+    void shouldResolveHostOnlyOnceWhileCached() throws Exception {
+        Dns delegate = Mockito.mock(Dns.class);
+        Mockito.when(delegate.lookup("dochia.dev")).thenReturn(List.of(InetAddress.getLoopbackAddress()));
+        CachingDns cachingDns = new CachingDns(delegate, Duration.ofMinutes(1));
+
+        Assertions.assertThat(cachingDns.lookup("dochia.dev")).containsExactly(InetAddress.getLoopbackAddress());
+        Assertions.assertThat(cachingDns.lookup("dochia.dev")).containsExactly(InetAddress.getLoopbackAddress());
+
+        Mockito.verify(delegate, Mockito.times(1)).lookup("dochia.dev");
+    }
+
+    @Test
+    void shouldNotCacheUnknownHosts() throws Exception {
+        Dns delegate = Mockito.mock(Dns.class);
+        Mockito.when(delegate.lookup("unknown.dochia.dev")).thenThrow(new UnknownHostException("unknown.dochia.dev"));
+        CachingDns cachingDns = new CachingDns(delegate, Duration.ofMinutes(1));
+
+        Assertions.assertThatThrownBy(() -> cachingDns.lookup("unknown.dochia.dev")).isInstanceOf(UnknownHostException.class);
+        Assertions.assertThatThrownBy(() -> cachingDns.lookup("unknown.dochia.dev")).isInstanceOf(UnknownHostException.class);
+
+        Mockito.verify(delegate, Mockito.times(2)).lookup("unknown.dochia.dev");
+    }
+}
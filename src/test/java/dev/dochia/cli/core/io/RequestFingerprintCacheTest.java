@@ -0,0 +1,92 @@
+package dev.dochia.cli.core.io;
+
+import com.google.common.hash.HashCode;
+import dev.dochia.cli.core.model.HttpRequest;
+import dev.dochia.cli.core.model.HttpResponse;
+import dev.dochia.cli.core.util.KeyValuePair;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+@QuarkusTest
+class RequestFingerprintCacheTest {
+    private static final String TRACE_HEADER = "X-Dochia-Trace-Id";
+
+    @Test
+    void shouldIgnoreHeadersDifferentForEachTest() {
+        HashCode first = fingerprint(request("POST", "{}", "trace-1"));
+        HashCode second = fingerprint(request("POST", "{}", "trace-2"));
+
+        Assertions.assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void shouldHaveDifferentFingerprintsForDifferentRequests() {
+        HashCode request = fingerprint(request("POST", "{}", "trace"));
+
+        Assertions.assertThat(fingerprint(request("POST", "{\"a\":1}", "trace"))).isNotEqualTo(request);
+        Assertions.assertThat(fingerprint(request("PUT", "{}", "trace"))).isNotEqualTo(request);
+        Assertions.assertThat(fingerprint(HttpRequest.builder().httpMethod("POST").url("http://localhost/pets").payload("{}")
+                .headers(List.of(new KeyValuePair<>("Accept", "text/plain"))).build())).isNotEqualTo(request);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"GET,200,true", "GET,404,true", "POST,400,true", "POST,201,false", "DELETE,204,false", "GET,429,false", "POST,503,false", "POST,500,false"})
+    void shouldKeepOnlyResponsesNotChangingState(String httpMethod, int responseCode, boolean kept) {
+        RequestFingerprintCache cache = new RequestFingerprintCache(10_000);
+        HashCode fingerprint = fingerprint(request(httpMethod, "{}", "trace"));
+
+        cache.put(fingerprint, HttpResponse.builder().httpMethod(httpMethod).responseCode(responseCode).build(), cache.stateVersion());
+
+        Assertions.assertThat(cache.get(fingerprint).isPresent()).isEqualTo(kept);
+    }
+
+    @Test
+    void shouldDiscardKeptResponsesWhenStateChanges() {
+        RequestFingerprintCache cache = new RequestFingerprintCache(10_000);
+        HashCode get = fingerprint(request("GET", "{}", "trace"));
+        cache.put(get, HttpResponse.builder().httpMethod("GET").responseCode(200).build(), cache.stateVersion());
+
+        cache.put(fingerprint(request("POST", "{}", "trace")), HttpResponse.builder().httpMethod("POST").responseCode(201).build(), cache.stateVersion());
+
+        Assertions.assertThat(cache.get(get)).isEmpty();
+    }
+
+    @Test
+    void shouldNotKeepResponsesForRequestsSentBeforeStateChanged() {
+        RequestFingerprintCache cache = new RequestFingerprintCache(10_000);
+        HashCode get = fingerprint(request("GET", "{}", "trace"));
+        long stateVersionWhenSent = cache.stateVersion();
+
+        cache.put(fingerprint(request("POST", "{}", "trace")), HttpResponse.builder().httpMethod("POST").responseCode(201).build(), cache.stateVersion());
+        cache.put(get, HttpResponse.builder().httpMethod("GET").responseCode(200).build(), stateVersionWhenSent);
+
+        Assertions.assertThat(cache.get(get)).isEmpty();
+    }
+
+    @Test
+    void shouldDiscardResponsesWhenBodiesExceedMaxSize() {
+        RequestFingerprintCache cache = new RequestFingerprintCache(50_000);
+        HashCode small = fingerprint(request("GET", "{}", "trace"));
+        HashCode large = fingerprint(request("POST", "{}", "trace"));
+
+        cache.put(small, HttpResponse.builder().httpMethod("GET").responseCode(200).body("{}").build(), cache.stateVersion());
+        cache.put(large, HttpResponse.builder().httpMethod("POST").responseCode(400).body("a".repeat(30_000)).build(), cache.stateVersion());
+
+        Assertions.assertThat(cache.get(small)).isPresent();
+        Assertions.assertThat(cache.get(large)).isEmpty();
+    }
+
+    private static HashCode fingerprint(HttpRequest request) {
+        return RequestFingerprintCache.fingerprint(request, header -> TRACE_HEADER.equals(header.getKey()));
+    }
+
+    private static HttpRequest request(String httpMethod, String payload, String traceId) {
+        return HttpRequest.builder().httpMethod(httpMethod).url("http://localhost/pets").payload(payload)
+                .headers(List.of(new KeyValuePair<>("Accept", "application/json"), new KeyValuePair<>(TRACE_HEADER, traceId))).build();
+    }
+}
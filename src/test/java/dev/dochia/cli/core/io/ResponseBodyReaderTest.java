@@ -0,0 +1,55 @@
+package dev.dochia.cli.core.io;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.StringTokenizer;
+
+@QuarkusTest
+class ResponseBodyReaderTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "\n", "\r\n\r\n", "|", "a", "a b", "  a  b  ", "{\"id\": 1,\n \"name\": \"dochia\"}\n",
+            "line1\r\nline2\n\nline3\n\n", "a|b|c", "\n\nfirst", "tab\tand\fform feed", "ünïcödé wörds\nand lines"})
+    void shouldCountLikeSplittingTheWholeBody(String body) throws Exception {
+        ResponseBodyReader.CapturedBody capturedBody = read(body, 1024);
+
+        Assertions.assertThat(capturedBody.body()).isEqualTo(body);
+        Assertions.assertThat(capturedBody.contentLengthInBytes()).isEqualTo(body.getBytes(StandardCharsets.UTF_8).length);
+        Assertions.assertThat(capturedBody.numberOfWords()).isEqualTo(new StringTokenizer(body).countTokens());
+        Assertions.assertThat(capturedBody.numberOfLines()).isEqualTo(body.split("[\r|\n]").length);
+        Assertions.assertThat(capturedBody.truncated()).isFalse();
+    }
+
+    @Test
+    void shouldKeepOnlyFirstBytesButCountTheWholeBody() throws Exception {
+        String body = "word\n".repeat(10_000);
+
+        ResponseBodyReader.CapturedBody capturedBody = read(body, 12);
+
+        Assertions.assertThat(capturedBody.body()).isEqualTo("word\nword\nwo");
+        Assertions.assertThat(capturedBody.contentLengthInBytes()).isEqualTo(50_000);
+        Assertions.assertThat(capturedBody.numberOfWords()).isEqualTo(10_000);
+        Assertions.assertThat(capturedBody.numberOfLines()).isEqualTo(10_000);
+        Assertions.assertThat(capturedBody.truncated()).isTrue();
+    }
+
+    @Test
+    void shouldSkipUtf8ByteOrderMark() throws Exception {
+        byte[] body = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '{', '}'};
+
+        ResponseBodyReader.CapturedBody capturedBody = new ResponseBodyReader(1024).read(new ByteArrayInputStream(body), StandardCharsets.UTF_8);
+
+        Assertions.assertThat(capturedBody.body()).isEqualTo("{}");
+        Assertions.assertThat(capturedBody.contentLengthInBytes()).isEqualTo(5);
+    }
+
+    private static ResponseBodyReader.CapturedBody read(String body, long maxCapturedBytes) throws Exception {
+        return new ResponseBodyReader(maxCapturedBytes).read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+    }
+}
@@ -4,6 +4,7 @@ import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import dev.dochia.cli.core.args.ApiArguments;
 import dev.dochia.cli.core.args.AuthArguments;
 import dev.dochia.cli.core.args.FilesArguments;
@@ -12,8 +13,10 @@ import dev.dochia.cli.core.context.GlobalContext;
 import dev.dochia.cli.core.http.HttpMethod;
 import dev.dochia.cli.core.model.DochiaHeader;
 import dev.dochia.cli.core.model.HttpResponse;
+import dev.dochia.cli.core.report.ExecutionStatisticsListener;
 import dev.dochia.cli.core.report.TestCaseListener;
 import dev.dochia.cli.core.util.KeyValuePair;
+import dev.dochia.cli.core.util.RepeatedValue;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import org.assertj.core.api.Assertions;
@@ -23,6 +26,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -35,6 +39,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 @QuarkusTest
@@ -50,6 +55,7 @@ class ServiceCallerTest {
     @Inject
     GlobalContext globalContext;
     FilesArguments filesArguments;
+    ExecutionStatisticsListener executionStatisticsListener;
     private ServiceCaller serviceCaller;
 
     @BeforeAll
@@ -82,7 +88,8 @@ class ServiceCallerTest {
     void setupEach() throws Exception {
         filesArguments = new FilesArguments();
         TestCaseListener testCaseListener = Mockito.mock(TestCaseListener.class);
-        serviceCaller = new ServiceCaller(globalContext, testCaseListener, filesArguments, authArguments, apiArguments, processingArguments);
+        executionStatisticsListener = Mockito.mock(ExecutionStatisticsListener.class);
+        serviceCaller = new ServiceCaller(globalContext, testCaseListener, filesArguments, authArguments, apiArguments, processingArguments, executionStatisticsListener);
         ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:" + wireMockServer.port());
         ReflectionTestUtils.setField(authArguments, "basicAuth", "user:password");
         ReflectionTestUtils.setField(filesArguments, "refDataFile", new File("src/test/resources/refFields.yml"));
@@ -92,6 +99,8 @@ class ServiceCallerTest {
         ReflectionTestUtils.setField(authArguments, "sslKeystore", null);
         ReflectionTestUtils.setField(authArguments, "proxyHost", null);
         ReflectionTestUtils.setField(authArguments, "proxyPort", 0);
+        ReflectionTestUtils.setField(apiArguments, "maxThrottlingRetries", 3);
+        ReflectionTestUtils.setField(processingArguments, "reuseResponses", false);
 
         filesArguments.loadHeaders();
         filesArguments.loadRefData();
@@ -186,6 +195,172 @@ class ServiceCallerTest {
         Assertions.assertThat(httpResponse.getJsonBody().toString()).contains("notAJson");
     }
 
+    @Test
+    void shouldReplayThrottledRequestAfterRetryAfter() {
+        stubThrottling("/throttled", 429, "Retry-After", "1");
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        long t0 = System.currentTimeMillis();
+        HttpResponse httpResponse = serviceCaller.call(ServiceData.builder().relativePath("/throttled").httpMethod(HttpMethod.GET).headers(Collections.emptySet()).contentType("application/json").build());
+
+        Assertions.assertThat(httpResponse.responseCodeAsString()).isEqualTo("200");
+        Assertions.assertThat(System.currentTimeMillis() - t0).isGreaterThanOrEqualTo(1000);
+        Assertions.assertThat(httpResponse.getThrottlingReplays()).isEqualTo(1);
+        wireMockServer.verify(2, WireMock.getRequestedFor(WireMock.urlEqualTo("/throttled")));
+        Mockito.verify(executionStatisticsListener).increaseThrottled(Mockito.eq(1), Mockito.longThat(timeLost -> timeLost >= 900));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"/pets/fault/reset,958,connection reset", "/pets/fault/empty,952,empty reply from server"})
+    void shouldHandleIOExceptionsWhenCallingAsync(String path, String responseCode, String expectedBody) {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        HttpResponse httpResponse = serviceCaller.callAsync(ServiceData.builder().relativePath(path).httpMethod(HttpMethod.GET)
+                .headers(Collections.singleton(DochiaHeader.builder().name("header").value("header").build())).contentType("application/json").build()).join();
+
+        Assertions.assertThat(httpResponse.responseCodeAsString()).isEqualTo(responseCode);
+        Assertions.assertThat(httpResponse.getBody()).contains(expectedBody);
+    }
+
+    @Test
+    void shouldCallAsyncAndRecordResponse() {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        TestCaseListener testCaseListener = (TestCaseListener) ReflectionTestUtils.getField(serviceCaller, "testCaseListener");
+
+        HttpResponse httpResponse = serviceCaller.callAsync(ServiceData.builder().relativePath("/pets").payload("{'id':'1'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.singleton(DochiaHeader.builder().name("header").value("header").build())).contentType("application/json").build()).join();
+
+        Assertions.assertThat(httpResponse.responseCodeAsString()).isEqualTo("200");
+        Assertions.assertThat(httpResponse.getBody()).contains("OK");
+        Mockito.verify(testCaseListener).addResponse(Mockito.any(), Mockito.eq(httpResponse));
+    }
+
+    @Test
+    void shouldReplayThrottledRequestWhenCallingAsync() {
+        stubThrottling("/throttled-async", 429, "X-Other", "1");
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        HttpResponse httpResponse = serviceCaller.callAsync(ServiceData.builder().relativePath("/throttled-async").httpMethod(HttpMethod.GET).headers(Collections.emptySet()).contentType("application/json").build()).join();
+
+        Assertions.assertThat(httpResponse.responseCodeAsString()).isEqualTo("200");
+        Assertions.assertThat(httpResponse.getThrottlingReplays()).isEqualTo(1);
+        wireMockServer.verify(2, WireMock.getRequestedFor(WireMock.urlEqualTo("/throttled-async")));
+        Mockito.verify(executionStatisticsListener).increaseThrottled(Mockito.eq(1), Mockito.anyLong());
+    }
+
+    @Test
+    void shouldStopAsyncCallThreadsWhenClosed() {
+        serviceCaller.initHttpClient();
+        ExecutorService dispatcherExecutor = serviceCaller.okHttpClient.dispatcher().executorService();
+
+        serviceCaller.initHttpClient();
+        Assertions.assertThat(dispatcherExecutor.isShutdown()).isTrue();
+        Assertions.assertThat(serviceCaller.okHttpClient.dispatcher().executorService().isShutdown()).isFalse();
+
+        serviceCaller.closeHttpClient();
+        Assertions.assertThat(serviceCaller.okHttpClient.dispatcher().executorService().isShutdown()).isTrue();
+    }
+
+    @Test
+    void shouldNotSendRequestWhenInterruptedWhileWaitingForHost() {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        ServiceData data = ServiceData.builder().relativePath("/interrupted").httpMethod(HttpMethod.GET).headers(Collections.emptySet()).contentType("application/json").build();
+
+        Thread.currentThread().interrupt();
+        HttpResponse httpResponse = serviceCaller.call(data);
+        boolean interruptedAfterCall = Thread.interrupted();
+        Thread.currentThread().interrupt();
+        HttpResponse asyncResponse = serviceCaller.callAsync(data).join();
+        boolean interruptedAfterAsyncCall = Thread.interrupted();
+
+        Assertions.assertThat(interruptedAfterCall).isTrue();
+        Assertions.assertThat(interruptedAfterAsyncCall).isTrue();
+        Assertions.assertThat(httpResponse.getResponseCode()).isEqualTo(asyncResponse.getResponseCode()).isNotEqualTo(200);
+        wireMockServer.verify(0, WireMock.getRequestedFor(WireMock.urlEqualTo("/interrupted")));
+    }
+
+    @Test
+    void shouldNotReplayThrottledRequestWhenRetriesDisabled() {
+        stubThrottling("/throttled-no-retry", 429, "Retry-After", "1");
+        ReflectionTestUtils.setField(apiArguments, "maxThrottlingRetries", 0);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        HttpResponse httpResponse = serviceCaller.call(ServiceData.builder().relativePath("/throttled-no-retry").httpMethod(HttpMethod.GET).headers(Collections.emptySet()).contentType("application/json").build());
+
+        Assertions.assertThat(httpResponse.responseCodeAsString()).isEqualTo("429");
+        Assertions.assertThat(httpResponse.getThrottlingReplays()).isZero();
+        wireMockServer.verify(1, WireMock.getRequestedFor(WireMock.urlEqualTo("/throttled-no-retry")));
+        Mockito.verify(executionStatisticsListener).increaseThrottled(1, 0);
+    }
+
+    @Test
+    void shouldReplayServiceUnavailableOnlyWithRetryAfter() {
+        stubThrottling("/unavailable", 503, "X-Other", "1");
+        stubThrottling("/unavailable-retry-after", 503, "Retry-After", "1");
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        HttpResponse unavailable = serviceCaller.call(ServiceData.builder().relativePath("/unavailable").httpMethod(HttpMethod.GET).headers(Collections.emptySet()).contentType("application/json").build());
+        HttpResponse replayed = serviceCaller.call(ServiceData.builder().relativePath("/unavailable-retry-after").httpMethod(HttpMethod.GET).headers(Collections.emptySet()).contentType("application/json").build());
+
+        Assertions.assertThat(unavailable.getResponseCode()).isEqualTo(503);
+        Assertions.assertThat(unavailable.getThrottlingReplays()).isZero();
+        Assertions.assertThat(replayed.getResponseCode()).isEqualTo(200);
+        Assertions.assertThat(replayed.getThrottlingReplays()).isEqualTo(1);
+        wireMockServer.verify(1, WireMock.getRequestedFor(WireMock.urlEqualTo("/unavailable")));
+        wireMockServer.verify(2, WireMock.getRequestedFor(WireMock.urlEqualTo("/unavailable-retry-after")));
+        Mockito.verify(executionStatisticsListener).increaseThrottled(Mockito.eq(1), Mockito.anyLong());
+    }
+
+    @Test
+    void shouldReuseResponseForIdenticalRequest() {
+        wireMockServer.stubFor(WireMock.post("/reused").willReturn(WireMock.badRequest().withBody("{'error':'invalid'}")));
+        ReflectionTestUtils.setField(processingArguments, "reuseResponses", true);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        HttpResponse first = serviceCaller.call(ServiceData.builder().relativePath("/reused").payload("{'id':' 1'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.emptySet()).testedField("id").contentType("application/json").build());
+        HttpResponse second = serviceCaller.call(ServiceData.builder().relativePath("/reused").payload("{'id':' 1'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.emptySet()).testedField("name").contentType("application/json").build());
+
+        Assertions.assertThat(second.getResponseCode()).isEqualTo(first.getResponseCode()).isEqualTo(400);
+        Assertions.assertThat(second.getBody()).isEqualTo(first.getBody());
+        Assertions.assertThat(second.getTestedField()).isEqualTo("name");
+        Assertions.assertThat(second.getJsonBody()).isEqualTo(first.getJsonBody()).isNotSameAs(first.getJsonBody());
+        wireMockServer.verify(1, WireMock.postRequestedFor(WireMock.urlEqualTo("/reused")));
+        Mockito.verify(executionStatisticsListener).increaseReusedResponses();
+    }
+
+    @Test
+    void shouldSendIdenticalRequestAgainAfterStateChanged() {
+        wireMockServer.stubFor(WireMock.get("/reused-state").willReturn(WireMock.ok("{'pet':'pet'}")));
+        wireMockServer.stubFor(WireMock.delete("/reused-state").willReturn(WireMock.noContent()));
+        ReflectionTestUtils.setField(processingArguments, "reuseResponses", true);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        serviceCaller.call(ServiceData.builder().relativePath("/reused-state").httpMethod(HttpMethod.GET).headers(Collections.emptySet()).contentType("application/json").build());
+        serviceCaller.call(ServiceData.builder().relativePath("/reused-state").httpMethod(HttpMethod.DELETE).headers(Collections.emptySet()).contentType("application/json").build());
+        serviceCaller.call(ServiceData.builder().relativePath("/reused-state").httpMethod(HttpMethod.GET).headers(Collections.emptySet()).contentType("application/json").build());
+
+        wireMockServer.verify(2, WireMock.getRequestedFor(WireMock.urlEqualTo("/reused-state")));
+        Mockito.verify(executionStatisticsListener, Mockito.never()).increaseReusedResponses();
+    }
+
+    private static void stubThrottling(String path, int responseCode, String header, String value) {
+        wireMockServer.stubFor(WireMock.get(path).inScenario(path).whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(WireMock.aResponse().withStatus(responseCode).withHeader(header, value)).willSetStateTo("accepted"));
+        wireMockServer.stubFor(WireMock.get(path).inScenario(path).whenScenarioStateIs("accepted")
+                .willReturn(WireMock.ok("{'result':'OK'}")));
+    }
+
     @Test
     void shouldNotConvertToUrlFormEncodedWhenError() {
         serviceCaller.initHttpClient();
@@ -288,6 +463,87 @@ class ServiceCallerTest {
         Assertions.assertThat(httpResponse.getBody()).isEqualTo("{'pet':'pet'}");
     }
 
+    @Test
+    void shouldExpandRepeatedValuesInQueryParams() {
+        int repetitions = RepeatedValue.STREAMING_THRESHOLD + 1;
+        String payload = "{\"id\":\"1\",\"limit\":\"" + RepeatedValue.string("", "a", repetitions, "") + "\"}";
+        ServiceData data = ServiceData.builder().relativePath("/pets/{id}").contractPath("/pets/{id}").payload(payload).httpMethod(HttpMethod.GET)
+                .headers(Collections.emptySet()).queryParams(Set.of("limit")).contentType("application/json").build();
+
+        String url = serviceCaller.constructUrl(data, payload);
+
+        Assertions.assertThat(url).endsWith("/pets/1?limit=" + "a".repeat(repetitions)).doesNotContain("dochia-repeated-value");
+    }
+
+    @Test
+    void shouldStreamRepeatedValuesInJsonBodiesWithoutExpandingThem() {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        int repetitions = RepeatedValue.STREAMING_THRESHOLD + 1;
+        String payload = "{\"id\":\"1\",\"description\":\"" + RepeatedValue.string("", "a", repetitions, "") + "\"}";
+
+        try (MockedStatic<RepeatedValue> repeatedValue = Mockito.mockStatic(RepeatedValue.class, Mockito.CALLS_REAL_METHODS)) {
+            HttpResponse httpResponse = serviceCaller.call(ServiceData.builder().relativePath("/pets").contractPath("/pets").payload(payload).httpMethod(HttpMethod.POST)
+                    .headers(Collections.emptySet()).contentType("application/json").build());
+
+            Assertions.assertThat(httpResponse.responseCodeAsString()).isEqualTo("200");
+            repeatedValue.verify(() -> RepeatedValue.expand(Mockito.anyString()), Mockito.never());
+        }
+        wireMockServer.verify(WireMock.postRequestedFor(WireMock.urlEqualTo("/pets"))
+                .withRequestBody(WireMock.equalTo("{\"id\":\"1\",\"description\":\"" + "a".repeat(repetitions) + "\"}")));
+    }
+
+    @Test
+    void shouldExpandRepeatedValuesInPathParams() {
+        int repetitions = RepeatedValue.STREAMING_THRESHOLD + 1;
+        String payload = "{\"id\":\"" + RepeatedValue.string("", "a", repetitions, "") + "\"}";
+        ServiceData data = ServiceData.builder().relativePath("/pets/{id}").contractPath("/pets/{id}").payload(payload).httpMethod(HttpMethod.PUT)
+                .headers(Collections.emptySet()).contentType("application/json").replaceUrlParams(false).build();
+
+        Assertions.assertThat(serviceCaller.constructUrl(data, payload)).endsWith("/pets/" + "a".repeat(repetitions));
+    }
+
+    @Test
+    void shouldExpandRepeatedValuesInUrlFormEncodedPayloads() {
+        int repetitions = RepeatedValue.STREAMING_THRESHOLD + 1;
+        String payload = "{\"name\":\"" + RepeatedValue.string("", "a", repetitions, "") + "\"}";
+        ServiceData data = ServiceData.builder().relativePath("/pets").payload(payload).httpMethod(HttpMethod.POST)
+                .headers(Collections.emptySet()).contentType("application/x-www-form-urlencoded").build();
+
+        Assertions.assertThat(serviceCaller.convertPayloadInSpecificContentType(payload, data)).isEqualTo("name=" + "a".repeat(repetitions));
+    }
+
+    @Test
+    void shouldRecordNetworkTimings() {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        HttpResponse httpResponse = serviceCaller.call(ServiceData.builder().relativePath("/pets/{id}").payload("{'id':'1'}").httpMethod(HttpMethod.GET)
+                .headers(Collections.singleton(DochiaHeader.builder().name("header").value("header").build())).contentType("application/json").build());
+
+        Assertions.assertThat(httpResponse.getNetworkTimings()).isNotNull();
+        Assertions.assertThat(httpResponse.getNetworkTimings().connectNanos()).isPositive();
+        Assertions.assertThat(httpResponse.getNetworkTimings().requestWriteNanos()).isPositive();
+        Assertions.assertThat(httpResponse.getNetworkTimings().timeToFirstByteNanos()).isPositive();
+        Assertions.assertThat(httpResponse.getNetworkTimings().tlsNanos()).isZero();
+        Assertions.assertThat(httpResponse.getServerTimeInMs()).isLessThanOrEqualTo(httpResponse.getResponseTimeInMs());
+    }
+
+    @Test
+    void shouldPrewarmConnectionsAndReuseThem() {
+        ReflectionTestUtils.setField(apiArguments, "prewarmConnections", 2);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        serviceCaller.prewarmConnections();
+        serviceCaller.call(ServiceData.builder().relativePath("/pets/{id}").payload("{'id':'1'}").httpMethod(HttpMethod.GET)
+                .headers(Collections.singleton(DochiaHeader.builder().name("header").value("header").build())).contentType("application/json").build());
+        ReflectionTestUtils.setField(apiArguments, "prewarmConnections", 0);
+
+        wireMockServer.verify(2, WireMock.headRequestedFor(WireMock.urlEqualTo("/")));
+        Mockito.verify(executionStatisticsListener).increaseConnections(true);
+    }
+
     @Test
     void shouldRemoveRefDataFieldsWhichAreMarkedForRemoval() {
         serviceCaller.initHttpClient();
@@ -375,6 +631,23 @@ class ServiceCallerTest {
         Assertions.assertThat(finalUrl).contains("jwt", "small", "large", "param");
     }
 
+    @Test
+    void shouldCompileRequestTemplateOncePerOperation() {
+        FilesArguments spyFilesArguments = Mockito.spy(filesArguments);
+        serviceCaller = new ServiceCaller(globalContext, Mockito.mock(TestCaseListener.class), spyFilesArguments, authArguments, apiArguments, processingArguments, executionStatisticsListener);
+        ServiceData data = ServiceData.builder().relativePath("/pets/{id}").contractPath("/pets/{id}").payload("{'id':'1'}").httpMethod(HttpMethod.GET)
+                .headers(Set.of(DochiaHeader.builder().name("simpleHeader").value("simpleValue").build())).build();
+
+        String firstUrl = serviceCaller.constructUrl(data, data.getPayload());
+        serviceCaller.buildHeaders(data);
+        String secondUrl = serviceCaller.constructUrl(data, data.getPayload());
+        serviceCaller.buildHeaders(data);
+
+        Assertions.assertThat(firstUrl).isEqualTo(secondUrl).endsWith("/pets/1");
+        Mockito.verify(spyFilesArguments, Mockito.times(1)).getHeaders("/pets/{id}");
+        Mockito.verify(spyFilesArguments, Mockito.times(1)).getAdditionalQueryParamsForPath("/pets/{id}");
+    }
+
     @Test
     void shouldMergeFuzzingForSuppliedHeaders() {
         ServiceData data = ServiceData.builder().headers(Set.of(DochiaHeader.builder().name("dochiaFuzzedHeader").value("  anotherValue").build()))
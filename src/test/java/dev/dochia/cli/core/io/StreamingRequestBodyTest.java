@@ -0,0 +1,42 @@
+package dev.dochia.cli.core.io;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import dev.dochia.cli.core.util.RepeatedValue;
+import io.quarkus.test.junit.QuarkusTest;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+class StreamingRequestBodyTest {
+
+    @Test
+    void shouldExpandPlaceholdersWhenWriting() throws Exception {
+        int repetitions = RepeatedValue.STREAMING_THRESHOLD / 4 + 1;
+        String payload = "{\"name\":\"" + RepeatedValue.string("do", "fuzz", repetitions, "chia") + "\",\"items\":"
+                + "\"" + RepeatedValue.jsonArray("1", RepeatedValue.STREAMING_THRESHOLD) + "\",\"id\":1}";
+
+        RequestBody requestBody = StreamingRequestBody.create(payload);
+        Buffer firstWrite = new Buffer();
+        requestBody.writeTo(firstWrite);
+        Buffer secondWrite = new Buffer();
+        requestBody.writeTo(secondWrite);
+
+        Assertions.assertThat(requestBody.contentLength()).isEqualTo(firstWrite.size()).isEqualTo(secondWrite.size());
+        JsonObject sent = JsonParser.parseString(firstWrite.readUtf8()).getAsJsonObject();
+        Assertions.assertThat(sent.get("name").getAsString()).hasSize(repetitions * 4 + 6).startsWith("dofuzz").endsWith("fuzzchia");
+        Assertions.assertThat(sent.get("items").getAsJsonArray()).hasSize(RepeatedValue.STREAMING_THRESHOLD);
+        Assertions.assertThat(sent.get("id").getAsInt()).isOne();
+    }
+
+    @Test
+    void shouldSendPayloadsWithoutPlaceholdersAsIs() throws Exception {
+        RequestBody requestBody = StreamingRequestBody.create("{\"name\":\"fuzz\"}");
+        Buffer written = new Buffer();
+        requestBody.writeTo(written);
+
+        Assertions.assertThat(written.readUtf8()).isEqualTo("{\"name\":\"fuzz\"}");
+    }
+}
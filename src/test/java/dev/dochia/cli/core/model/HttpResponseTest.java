@@ -1,5 +1,6 @@
 package dev.dochia.cli.core.model;
 
+import com.google.gson.JsonElement;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,30 @@ class HttpResponseTest {
         Assertions.assertThat(httpResponse.getJsonBody()).isNotNull();
     }
 
+    @Test
+    void shouldParseJsonBodyOnFirstUseAndCacheIt() {
+        HttpResponse httpResponse = HttpResponse.builder().responseCode(200).body("{\"id\": 1}").build();
+
+        JsonElement jsonBody = httpResponse.getJsonBody();
+
+        Assertions.assertThat(jsonBody.getAsJsonObject().get("id").getAsInt()).isOne();
+        Assertions.assertThat(httpResponse.getJsonBody()).isSameAs(jsonBody);
+    }
+
+    @Test
+    void shouldNotParseTruncatedBody() {
+        HttpResponse httpResponse = HttpResponse.builder().responseCode(200).body("{\"id\": 1}").bodyTruncated(true).build();
+
+        Assertions.assertThat(httpResponse.getJsonBody().getAsJsonObject().get("notAJson").getAsString()).isEqualTo("{\"id\": 1}");
+    }
+
+    @Test
+    void shouldReturnNullJsonBodyWhenNoBody() {
+        HttpResponse httpResponse = HttpResponse.builder().responseCode(200).build();
+
+        Assertions.assertThat(httpResponse.getJsonBody()).isNull();
+    }
+
     @ParameterizedTest
     @CsvSource({"100,0,false", "100,1000,false", "100,100,false", "1000,100,true"})
     void shouldTestResponseTimeExceeding(int responseTime, int maxResponseTime, boolean expected) {
@@ -29,6 +54,16 @@ class HttpResponseTest {
         Assertions.assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    void shouldCheckOnlyServerTimeWhenNetworkTimingsRecorded() {
+        NetworkTimings networkTimings = new NetworkTimings(50_000_000, 100_000_000, 300_000_000, 1_000_000, 80_000_000, 2_000_000);
+        HttpResponse response = HttpResponse.builder().responseTimeInMs(533).networkTimings(networkTimings).build();
+
+        Assertions.assertThat(response.getServerTimeInMs()).isEqualTo(80);
+        Assertions.assertThat(response.exceedsExpectedResponseTime(100)).isFalse();
+        Assertions.assertThat(response.exceedsExpectedResponseTime(50)).isTrue();
+    }
+
     @ParameterizedTest
     @CsvSource({"201,true", "999,false", "200,true"})
     void shouldCheckValidErrorCode(int code, boolean expected) {
@@ -2,11 +2,14 @@ package dev.dochia.cli.core.playbook.executor;
 
 import dev.dochia.cli.core.args.FilesArguments;
 import dev.dochia.cli.core.args.MatchArguments;
+import dev.dochia.cli.core.args.ProcessingArguments;
+import dev.dochia.cli.core.args.ProcessingArguments;
 import dev.dochia.cli.core.playbook.api.TestCasePlaybook;
 import dev.dochia.cli.core.http.ResponseCodeFamilyPredefined;
 import dev.dochia.cli.core.io.ServiceCaller;
 import dev.dochia.cli.core.model.HttpResponse;
 import dev.dochia.cli.core.model.PlaybookData;
+import dev.dochia.cli.core.report.TestCaseContext;
 import dev.dochia.cli.core.report.TestCaseListener;
 import dev.dochia.cli.core.report.TestReportsGenerator;
 import dev.dochia.cli.core.strategy.FuzzingStrategy;
@@ -15,10 +18,12 @@ import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -27,6 +32,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @QuarkusTest
 class FieldsIteratorExecutorTest {
@@ -38,15 +46,17 @@ class FieldsIteratorExecutorTest {
     private MatchArguments matchArguments;
 
     private FilesArguments filesArguments;
+    private ProcessingArguments processingArguments;
 
     @BeforeEach
     void setup() {
         serviceCaller = Mockito.mock(ServiceCaller.class);
         matchArguments = Mockito.mock(MatchArguments.class);
         filesArguments = Mockito.mock(FilesArguments.class);
+        processingArguments = Mockito.mock(ProcessingArguments.class);
         ReflectionTestUtils.setField(testCaseListener, "testReportsGenerator", Mockito.mock(TestReportsGenerator.class));
 
-        fieldsIteratorExecutor = new FieldsIteratorExecutor(serviceCaller, testCaseListener, matchArguments, filesArguments);
+        fieldsIteratorExecutor = new FieldsIteratorExecutor(serviceCaller, testCaseListener, matchArguments, filesArguments, processingArguments);
     }
 
     @Test
@@ -90,6 +100,35 @@ class FieldsIteratorExecutorTest {
         Mockito.verify(testCaseListener, Mockito.times(4)).skipTest(Mockito.any(), Mockito.anyString());
     }
 
+    @Test
+    void shouldEndTestCasesInOrderWhenExecutedConcurrently() {
+        Mockito.when(processingArguments.isConcurrentTestsEnabled()).thenReturn(true);
+        Mockito.when(processingArguments.getMaxInFlightTests()).thenReturn(3);
+        FieldsIteratorExecutorContext context = setupContextBuilder().expectedResponseCode(ResponseCodeFamilyPredefined.FOURXX).build();
+        AtomicInteger calls = new AtomicInteger();
+        Mockito.when(serviceCaller.callAsync(Mockito.any())).thenAnswer(_ -> CompletableFuture.supplyAsync(() -> HttpResponse.from(200, "{}", "POST", 20),
+                CompletableFuture.delayedExecutor(calls.getAndIncrement() == 0 ? 200 : 10, TimeUnit.MILLISECONDS)));
+        fieldsIteratorExecutor.execute(context);
+
+        ArgumentCaptor<TestCaseContext> endedTestCases = ArgumentCaptor.forClass(TestCaseContext.class);
+        Mockito.verify(serviceCaller, Mockito.never()).call(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(4)).reportResult(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq(ResponseCodeFamilyPredefined.FOURXX));
+        Mockito.verify(testCaseListener, Mockito.times(4)).endTestCase(endedTestCases.capture());
+        Assertions.assertThat(endedTestCases.getAllValues()).extracting(TestCaseContext::getTestNumber).isSorted();
+    }
+
+    @Test
+    void shouldReportPayloadGenerationErrorsWhenExecutedConcurrently() {
+        Mockito.when(processingArguments.isConcurrentTestsEnabled()).thenReturn(true);
+        Mockito.when(processingArguments.getMaxInFlightTests()).thenReturn(2);
+        FieldsIteratorExecutorContext context = setupContextBuilder().expectedResponseCode(ResponseCodeFamilyPredefined.FOURXX).build();
+        Mockito.when(context.getPlaybookData().getPayload()).thenReturn("{}");
+        fieldsIteratorExecutor.execute(context);
+
+        Mockito.verify(testCaseListener, Mockito.times(4)).endTestCase(Mockito.any());
+        Mockito.verifyNoInteractions(serviceCaller);
+    }
+
     private FieldsIteratorExecutorContext.FieldsIteratorExecutorContextBuilder setupContextBuilder() {
         PlaybookData data = Mockito.mock(PlaybookData.class);
         Map<String, Schema> schemaMap = new HashMap<>();
@@ -106,6 +145,9 @@ class FieldsIteratorExecutorTest {
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(HttpResponse.from(
                 200, "{}", "POST", 20
         ));
+        Mockito.when(serviceCaller.callAsync(Mockito.any())).thenReturn(CompletableFuture.completedFuture(HttpResponse.from(
+                200, "{}", "POST", 20
+        )));
 
         return FieldsIteratorExecutorContext.builder()
                 .logger(Mockito.mock(PrettyLogger.class))
@@ -34,7 +34,7 @@ class AdditionalPropertiesMassAssignmentFieldsPlaybookTest
 
     @BeforeEach
     void setup() {
-        executor = new FieldsIteratorExecutor(Mockito.mock(ServiceCaller.class), testCaseListener, Mockito.mock(MatchArguments.class), Mockito.mock(FilesArguments.class));
+        executor = new FieldsIteratorExecutor(Mockito.mock(ServiceCaller.class), testCaseListener, Mockito.mock(MatchArguments.class), Mockito.mock(FilesArguments.class), Mockito.mock(ProcessingArguments.class));
         ReflectionTestUtils.setField(testCaseListener, "testReportsGenerator", Mockito.mock(TestReportsGenerator.class));
         additionalPropertiesMassAssignmentFieldsPlaybook = new AdditionalPropertiesMassAssignmentFieldsPlaybook(executor, Mockito.mock(ProcessingArguments.class));
     }
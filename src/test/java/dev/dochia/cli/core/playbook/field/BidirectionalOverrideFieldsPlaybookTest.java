@@ -32,7 +32,7 @@ class BidirectionalOverrideFieldsPlaybookTest
 
     @BeforeEach
     void setup() {
-        executor = new FieldsIteratorExecutor(Mockito.mock(ServiceCaller.class), testCaseListener, Mockito.mock(MatchArguments.class), Mockito.mock(FilesArguments.class));
+        executor = new FieldsIteratorExecutor(Mockito.mock(ServiceCaller.class), testCaseListener, Mockito.mock(MatchArguments.class), Mockito.mock(FilesArguments.class), Mockito.mock(ProcessingArguments.class));
         ReflectionTestUtils.setField(testCaseListener, "testReportsGenerator", Mockito.mock(TestReportsGenerator.class));
         bidirectionalOverrideFieldsPlaybook = new BidirectionalOverrideFieldsPlaybook(executor, Mockito.mock(ProcessingArguments.class));
     }
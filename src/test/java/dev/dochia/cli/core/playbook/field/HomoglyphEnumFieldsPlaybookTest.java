@@ -2,6 +2,7 @@ package dev.dochia.cli.core.playbook.field;
 
 import dev.dochia.cli.core.args.FilesArguments;
 import dev.dochia.cli.core.args.MatchArguments;
+import dev.dochia.cli.core.args.ProcessingArguments;
 import dev.dochia.cli.core.playbook.executor.FieldsIteratorExecutor;
 import dev.dochia.cli.core.http.HttpMethod;
 import dev.dochia.cli.core.io.ServiceCaller;
@@ -31,7 +32,7 @@ class HomoglyphEnumFieldsPlaybookTest
 
     @BeforeEach
     void setup() {
-        executor = new FieldsIteratorExecutor(Mockito.mock(ServiceCaller.class), testCaseListener, Mockito.mock(MatchArguments.class), Mockito.mock(FilesArguments.class));
+        executor = new FieldsIteratorExecutor(Mockito.mock(ServiceCaller.class), testCaseListener, Mockito.mock(MatchArguments.class), Mockito.mock(FilesArguments.class), Mockito.mock(ProcessingArguments.class));
         ReflectionTestUtils.setField(testCaseListener, "testReportsGenerator", Mockito.mock(TestReportsGenerator.class));
         homoglyphEnumFieldsPlaybook = new HomoglyphEnumFieldsPlaybook(executor);
     }
@@ -2,6 +2,7 @@ package dev.dochia.cli.core.playbook.field;
 
 import dev.dochia.cli.core.args.FilesArguments;
 import dev.dochia.cli.core.args.MatchArguments;
+import dev.dochia.cli.core.args.ProcessingArguments;
 import dev.dochia.cli.core.playbook.executor.FieldsIteratorExecutor;
 import dev.dochia.cli.core.http.ResponseCodeFamilyDynamic;
 import dev.dochia.cli.core.http.ResponseCodeFamilyPredefined;
@@ -38,7 +39,7 @@ class LowercaseExpandingBytesInStringFieldsPlaybookTest
     void setup() {
         serviceCaller = Mockito.mock(ServiceCaller.class);
         ReflectionTestUtils.setField(testCaseListener, "testReportsGenerator", Mockito.mock(TestReportsGenerator.class));
-        executor = new FieldsIteratorExecutor(serviceCaller, testCaseListener, Mockito.mock(MatchArguments.class), Mockito.mock(FilesArguments.class));
+        executor = new FieldsIteratorExecutor(serviceCaller, testCaseListener, Mockito.mock(MatchArguments.class), Mockito.mock(FilesArguments.class), Mockito.mock(ProcessingArguments.class));
         lowercaseExpandingBytesInStringFieldsPlaybook = new LowercaseExpandingBytesInStringFieldsPlaybook(testCaseListener, executor);
     }
 
@@ -81,4 +81,25 @@ class ExecutionStatisticsListenerTest {
 
         Assertions.assertThat(listener.areManyIoErrors()).isEqualTo(expected);
     }
+
+    @Test
+    void shouldCountCorrectlyWhenUpdatedFromMultipleThreads() {
+        ExecutionStatisticsListener listener = new ExecutionStatisticsListener();
+        IntStream.range(0, 1000).parallel().forEach(i -> {
+            listener.increaseErrors("path" + (i % 3));
+            listener.increaseSuccess("path" + (i % 3));
+            listener.increaseIoErrors();
+            listener.increaseThrottled(1, 2);
+            listener.increaseConnections(i % 4 != 0);
+        });
+
+        Assertions.assertThat(listener.getErrors()).isEqualTo(1000);
+        Assertions.assertThat(listener.getSuccess()).isEqualTo(1000);
+        Assertions.assertThat(listener.getIoErrors()).isEqualTo(1000);
+        Assertions.assertThat(listener.getThrottled()).isEqualTo(1000);
+        Assertions.assertThat(listener.getThrottlingTimeInMs()).isEqualTo(2000);
+        Assertions.assertThat(listener.getReusedConnections()).isEqualTo(750);
+        Assertions.assertThat(listener.getNewConnections()).isEqualTo(250);
+        Assertions.assertThat(listener.getExecutionsPerPath("path0")).isEqualTo(668);
+    }
 }
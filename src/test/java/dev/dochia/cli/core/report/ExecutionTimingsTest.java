@@ -0,0 +1,71 @@
+package dev.dochia.cli.core.report;
+
+import dev.dochia.cli.core.http.HttpMethod;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+
+@QuarkusTest
+class ExecutionTimingsTest {
+    private Path reportFolder;
+
+    @BeforeEach
+    void setup() throws IOException {
+        reportFolder = Files.createTempDirectory("timings-test-temp");
+    }
+
+    @Test
+    void shouldLoadTimingsWrittenByPreviousRun() {
+        ExecutionTimings previousRun = new ExecutionTimings();
+        previousRun.record("/pets", HttpMethod.POST, "HappyPath", 100, 1, 0);
+        previousRun.record("/pets", HttpMethod.POST, "HappyPath", 50, 3, 1);
+        previousRun.record("/pets", HttpMethod.GET, "HappyPath", 20, 1, 0);
+        previousRun.record("/users", HttpMethod.GET, "HappyPath", 30, 1, 0);
+        previousRun.write(reportFolder.toString());
+
+        ExecutionTimings currentRun = new ExecutionTimings();
+        currentRun.load(reportFolder.toString());
+
+        Assertions.assertThat(currentRun.getPreviousDuration("/pets", HttpMethod.POST, "HappyPath")).hasValue(150);
+        Assertions.assertThat(currentRun.getPreviousDuration("/pets", HttpMethod.PUT, "HappyPath")).isEmpty();
+        Assertions.assertThat(currentRun.getPreviousPathDuration("/pets")).hasValue(170);
+        Assertions.assertThat(currentRun.getPreviousPathDuration("/pets/{id}")).isEmpty();
+        Assertions.assertThat(currentRun.getPreviousTiming("/pets", HttpMethod.POST, "HappyPath"))
+                .hasValueSatisfying(timing -> Assertions.assertThat(timing).extracting(ExecutionTimings.UnitTiming::tests, ExecutionTimings.UnitTiming::errors).containsExactly(4L, 1L));
+        Assertions.assertThat(currentRun.getPreviousTimings()).hasSize(3);
+    }
+
+    @Test
+    void shouldKeepPreviousTimingsNotRecordedInCurrentRun() {
+        ExecutionTimings previousRun = new ExecutionTimings();
+        previousRun.record("/pets", HttpMethod.POST, "HappyPath", 100, 1, 0);
+        previousRun.record("/users", HttpMethod.GET, "HappyPath", 30, 1, 0);
+        previousRun.write(reportFolder.toString());
+
+        ExecutionTimings currentRun = new ExecutionTimings();
+        currentRun.load(reportFolder.toString());
+        currentRun.record("/pets", HttpMethod.POST, "HappyPath", 10, 1, 0);
+        currentRun.write(reportFolder.toString());
+
+        ExecutionTimings nextRun = new ExecutionTimings();
+        nextRun.load(reportFolder.toString());
+        Assertions.assertThat(nextRun.getPreviousDuration("/pets", HttpMethod.POST, "HappyPath")).hasValue(10);
+        Assertions.assertThat(nextRun.getPreviousDuration("/users", HttpMethod.GET, "HappyPath")).hasValue(30);
+    }
+
+    @Test
+    void shouldIgnoreInvalidTimingsFile() throws IOException {
+        Files.writeString(reportFolder.resolve(ExecutionTimings.TIMINGS_FILE), "not json");
+        ExecutionTimings executionTimings = new ExecutionTimings();
+
+        executionTimings.load(reportFolder.toString());
+
+        Assertions.assertThat(executionTimings.getPreviousPathDuration("/pets")).isEqualTo(OptionalLong.empty());
+    }
+}
@@ -0,0 +1,75 @@
+package dev.dochia.cli.core.report;
+
+import dev.dochia.cli.core.model.TestCase;
+import io.quarkus.test.junit.QuarkusTest;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+@QuarkusTest
+class FlightRecordingTest {
+    private FlightRecording flightRecording;
+    private Path reportFolder;
+
+    @BeforeEach
+    void setup() throws Exception {
+        flightRecording = new FlightRecording();
+        reportFolder = Files.createTempDirectory("dochia-jfr");
+    }
+
+    @Test
+    void shouldRecordTestCasePhasesTaggedWithTestCase() throws Exception {
+        TestCase testCase = new TestCase();
+        testCase.setTestId("Test 7");
+        testCase.setContractPath("/pets");
+        TestCaseContext testCaseContext = new TestCaseContext(7, "HappyPathPlaybook", "POST", testCase);
+
+        flightRecording.start(reportFolder.toString());
+        TestCasePhaseEvent network = TestCasePhaseEvent.start(TestCasePhaseEvent.Phase.NETWORK, testCaseContext);
+        network.commit();
+        network.next(TestCasePhaseEvent.Phase.RESPONSE_PARSING).commit();
+        flightRecording.stop();
+
+        Path recordingPath = reportFolder.resolve(FlightRecording.RECORDING_FILE);
+        Assertions.assertThat(recordingPath).exists();
+        List<RecordedEvent> phaseEvents = RecordingFile.readAllEvents(recordingPath).stream()
+                .filter(event -> event.getEventType().getName().equals("dev.dochia.TestCasePhase"))
+                .toList();
+        Assertions.assertThat(phaseEvents).extracting(event -> event.getString("phase")).containsExactly("NETWORK", "RESPONSE_PARSING");
+        Assertions.assertThat(phaseEvents).allSatisfy(event -> {
+            Assertions.assertThat(event.getString("playbook")).isEqualTo("HappyPathPlaybook");
+            Assertions.assertThat(event.getString("path")).isEqualTo("/pets");
+            Assertions.assertThat(event.getString("testId")).isEqualTo("Test 7");
+        });
+    }
+
+    @Test
+    void shouldRecordPayloadMutationOnlyOnce() throws Exception {
+        TestCaseContext testCaseContext = new TestCaseContext(1, "HappyPathPlaybook", "POST", new TestCase());
+
+        flightRecording.start(reportFolder.toString());
+        testCaseContext.beginPayloadMutation();
+        testCaseContext.endPayloadMutation();
+        testCaseContext.endPayloadMutation();
+        flightRecording.stop();
+
+        long payloadMutations = RecordingFile.readAllEvents(reportFolder.resolve(FlightRecording.RECORDING_FILE)).stream()
+                .filter(event -> event.getEventType().getName().equals("dev.dochia.TestCasePhase"))
+                .filter(event -> "PAYLOAD_MUTATION".equals(event.getString("phase")))
+                .count();
+        Assertions.assertThat(payloadMutations).isOne();
+    }
+
+    @Test
+    void shouldNotWriteRecordingWhenNotStarted() {
+        flightRecording.stop();
+
+        Assertions.assertThat(reportFolder.resolve(FlightRecording.RECORDING_FILE)).doesNotExist();
+    }
+}
@@ -0,0 +1,61 @@
+package dev.dochia.cli.core.report;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+@QuarkusTest
+class LatencyHistogramTest {
+
+    @Test
+    void shouldReturnZeroWhenNothingRecorded() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        Assertions.assertThat(histogram.getValueAtQuantile(0.99)).isZero();
+        Assertions.assertThat(histogram.getCount()).isZero();
+    }
+
+    @Test
+    void shouldCountSmallValuesExactly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        LongStream.rangeClosed(1, 10).forEach(histogram::record);
+
+        Assertions.assertThat(histogram.getValueAtQuantile(0.5)).isEqualTo(5);
+        Assertions.assertThat(histogram.getValueAtQuantile(1)).isEqualTo(10);
+        Assertions.assertThat(histogram.getCount()).isEqualTo(10);
+        Assertions.assertThat(histogram.getSum()).isEqualTo(55);
+    }
+
+    @Test
+    void shouldKeepPercentilesOfLargeValuesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        LongStream.rangeClosed(1, 100_000).forEach(histogram::record);
+
+        Assertions.assertThat(histogram.getValueAtQuantile(0.5)).isCloseTo(50_000, Percentage.withPercentage(6.25));
+        Assertions.assertThat(histogram.getValueAtQuantile(0.99)).isCloseTo(99_000, Percentage.withPercentage(6.25));
+        Assertions.assertThat(histogram.getValueAtQuantile(1)).isEqualTo(100_000);
+        Assertions.assertThat(histogram.getMax()).isEqualTo(100_000);
+    }
+
+    @Test
+    void shouldRecordConcurrentlyWithoutLosingValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.range(0, 10_000).parallel().forEach(histogram::record);
+
+        Assertions.assertThat(histogram.getCount()).isEqualTo(10_000);
+        Assertions.assertThat(histogram.getValueAtQuantile(1)).isEqualTo(9_999);
+    }
+
+    @Test
+    void shouldRecordNegativeValuesAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        Assertions.assertThat(histogram.getValueAtQuantile(0.5)).isZero();
+        Assertions.assertThat(histogram.getSum()).isZero();
+    }
+}
@@ -0,0 +1,80 @@
+package dev.dochia.cli.core.report;
+
+import dev.dochia.cli.core.model.HttpResponse;
+import dev.dochia.cli.core.model.TestCase;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@QuarkusTest
+class MetricsRegistryTest {
+    private MetricsRegistry metricsRegistry;
+    private Path reportFolder;
+
+    @BeforeEach
+    void setup() throws Exception {
+        metricsRegistry = new MetricsRegistry();
+        reportFolder = Files.createTempDirectory("dochia-metrics");
+    }
+
+    @AfterEach
+    void tearDown() {
+        metricsRegistry.stopExport();
+    }
+
+    @Test
+    void shouldNotRecordWhenNotExporting() {
+        metricsRegistry.recordTestCase(testCase("HappyPath", "error", 500, 10));
+
+        Assertions.assertThat(metricsRegistry.toPrometheusText()).doesNotContain("HappyPath");
+    }
+
+    @Test
+    void shouldExportCountersAndResponseTimesInPrometheusFormat() throws Exception {
+        metricsRegistry.startExport(reportFolder.toString(), Duration.ofMinutes(1));
+        metricsRegistry.recordTestCase(testCase("HappyPath", "success", 200, 10));
+        metricsRegistry.recordTestCase(testCase("HappyPath", "success", 200, 30));
+        metricsRegistry.recordTestCase(testCase("Remove\"Fields", "error", 500, 20));
+        metricsRegistry.stopExport();
+
+        String metrics = Files.readString(reportFolder.resolve(MetricsRegistry.METRICS_FILE));
+        Assertions.assertThat(metrics)
+                .contains("# TYPE dochia_test_cases_total counter")
+                .contains("dochia_test_cases_total{playbook=\"HappyPath\",result=\"success\"} 2")
+                .contains("dochia_test_cases_total{playbook=\"Remove\\\"Fields\",result=\"error\"} 1")
+                .contains("# TYPE dochia_response_time_milliseconds summary")
+                .contains("dochia_response_time_milliseconds{path=\"/pets\",method=\"post\",playbook=\"HappyPath\",code=\"200\",quantile=\"0.99\"} 30")
+                .contains("dochia_response_time_milliseconds_sum{path=\"/pets\",method=\"post\",playbook=\"HappyPath\",code=\"200\"} 40")
+                .contains("dochia_response_time_milliseconds_count{path=\"/pets\",method=\"post\",playbook=\"HappyPath\",code=\"200\"} 2");
+        Assertions.assertThat(reportFolder.resolve(MetricsRegistry.METRICS_FILE + ".tmp")).doesNotExist();
+    }
+
+    @Test
+    void shouldWriteMetricsPeriodicallyWhileRunning() throws Exception {
+        metricsRegistry.startExport(reportFolder.toString(), Duration.ofMillis(50));
+        metricsRegistry.recordTestCase(testCase("HappyPath", "success", 200, 10));
+
+        Path metricsPath = reportFolder.resolve(MetricsRegistry.METRICS_FILE);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!Files.readString(metricsPath).contains("HappyPath") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Assertions.assertThat(Files.readString(metricsPath)).contains("dochia_test_cases_total{playbook=\"HappyPath\",result=\"success\"} 1");
+    }
+
+    private static TestCase testCase(String playbook, String result, int responseCode, long responseTime) {
+        TestCase testCase = new TestCase();
+        testCase.setPlaybook(playbook);
+        testCase.setResult(result);
+        testCase.setContractPath("/pets");
+        testCase.getRequest().setHttpMethod("POST");
+        testCase.setResponse(HttpResponse.builder().responseCode(responseCode).responseTimeInMs(responseTime).build());
+        return testCase;
+    }
+}
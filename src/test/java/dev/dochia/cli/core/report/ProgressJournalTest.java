@@ -0,0 +1,94 @@
+package dev.dochia.cli.core.report;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@QuarkusTest
+class ProgressJournalTest {
+    private Path reportFolder;
+
+    @BeforeEach
+    void setup() throws IOException {
+        reportFolder = Files.createTempDirectory("progress-test-temp");
+    }
+
+    @Test
+    void shouldResumeFromCompletedUnits() throws IOException {
+        ProgressJournal previousRun = new ProgressJournal();
+        Assertions.assertThat(previousRun.start(reportFolder.toString(), false, 42)).isEqualTo(42);
+        previousRun.testCompleted("/pets", "POST", "HappyPath", 1);
+        previousRun.testCompleted("/pets", "POST", "HappyPath", 2);
+        previousRun.unitCompleted("/pets", "POST", "HappyPath");
+        previousRun.testCompleted("/pets", "GET", "HappyPath", 3);
+        previousRun.close();
+        Files.writeString(reportFolder.resolve("Test3.json"), "{}");
+        Files.writeString(reportFolder.resolve("Test3.html"), "");
+        Files.writeString(reportFolder.resolve("Test2.json"), "{}");
+        Files.writeString(reportFolder.resolve("Test4.json"), "{}");
+        Files.writeString(reportFolder.resolve("PendingTest1.json"), "{}");
+
+        ProgressJournal currentRun = new ProgressJournal();
+        long seed = currentRun.start(reportFolder.toString(), true, 100);
+
+        Assertions.assertThat(seed).isEqualTo(42);
+        Assertions.assertThat(currentRun.isCompleted("/pets", "POST", "HappyPath")).isTrue();
+        Assertions.assertThat(currentRun.isCompleted("/pets", "GET", "HappyPath")).isFalse();
+        Assertions.assertThat(currentRun.getCompletedTestNumbers()).containsExactly(1, 2);
+        Assertions.assertThat(currentRun.getLastTestNumber()).isEqualTo(3);
+        Assertions.assertThat(reportFolder.resolve("Test3.json")).doesNotExist();
+        Assertions.assertThat(reportFolder.resolve("Test3.html")).doesNotExist();
+        Assertions.assertThat(reportFolder.resolve("Test4.json")).doesNotExist();
+        Assertions.assertThat(reportFolder.resolve("PendingTest1.json")).doesNotExist();
+        Assertions.assertThat(reportFolder.resolve("Test2.json")).exists();
+        Assertions.assertThat(currentRun.getReusableTestNumbers()).containsExactly(3);
+    }
+
+    @Test
+    void shouldFlushTestsOnlyWithCompletedUnits() throws IOException {
+        ProgressJournal journal = new ProgressJournal();
+        journal.start(reportFolder.toString(), false, 42);
+        Path journalFile = reportFolder.resolve(ProgressJournal.JOURNAL_FILE);
+
+        journal.testCompleted("/pets", "POST", "HappyPath", 1);
+        Assertions.assertThat(Files.readAllLines(journalFile)).hasSize(1);
+
+        journal.unitCompleted("/pets", "POST", "HappyPath");
+        Assertions.assertThat(Files.readAllLines(journalFile)).hasSize(3);
+        journal.close();
+    }
+
+    @Test
+    void shouldIgnoreIncompleteLastEntry() throws IOException {
+        ProgressJournal previousRun = new ProgressJournal();
+        previousRun.start(reportFolder.toString(), false, 7);
+        previousRun.unitCompleted("/pets", "POST", "HappyPath");
+        previousRun.close();
+        Files.writeString(reportFolder.resolve(ProgressJournal.JOURNAL_FILE), "{\"type\":\"unit\",\"pa", StandardOpenOption.APPEND);
+
+        ProgressJournal currentRun = new ProgressJournal();
+
+        Assertions.assertThat(currentRun.start(reportFolder.toString(), true, 100)).isEqualTo(7);
+        Assertions.assertThat(currentRun.isCompleted("/pets", "POST", "HappyPath")).isTrue();
+    }
+
+    @Test
+    void shouldStartNewJournalWhenNotResuming() throws IOException {
+        ProgressJournal previousRun = new ProgressJournal();
+        previousRun.start(reportFolder.toString(), false, 7);
+        previousRun.unitCompleted("/pets", "POST", "HappyPath");
+        previousRun.close();
+
+        ProgressJournal currentRun = new ProgressJournal();
+
+        Assertions.assertThat(currentRun.start(reportFolder.toString(), false, 100)).isEqualTo(100);
+        Assertions.assertThat(currentRun.isCompleted("/pets", "POST", "HappyPath")).isFalse();
+        Assertions.assertThat(Files.readAllLines(reportFolder.resolve(ProgressJournal.JOURNAL_FILE))).containsExactly("{\"type\":\"run\",\"seed\":100}");
+    }
+}
@@ -0,0 +1,71 @@
+package dev.dochia.cli.core.report;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+class ProgressRendererTest {
+    private ProgressRenderer progressRenderer;
+
+    @BeforeEach
+    void setup() {
+        progressRenderer = new ProgressRenderer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        progressRenderer.stop();
+    }
+
+    @Test
+    void shouldNotEstimateTotalBeforeAnyPathCompletes() {
+        progressRenderer.start(4);
+        progressRenderer.stop();
+        progressRenderer.testCompleted(10);
+
+        Assertions.assertThat(progressRenderer.throughput(System.currentTimeMillis() + 1000))
+                .endsWith("1/?")
+                .contains("p50 10ms p99 10ms");
+    }
+
+    @Test
+    void shouldEstimateTotalAndTimeLeftFromCompletedPaths() {
+        progressRenderer.start(4);
+        progressRenderer.stop();
+        for (int i = 1; i <= 10; i++) {
+            progressRenderer.testCompleted(i * 10L);
+        }
+        progressRenderer.pathCompleted("/a");
+        progressRenderer.pathCompleted("/a");
+
+        String throughput = progressRenderer.throughput(System.currentTimeMillis() + 2000);
+
+        Assertions.assertThat(throughput).matches("\\d+\\.\\d req/s p50 5\\dms p99 100ms 10/~40 ETA \\d+s");
+    }
+
+    @Test
+    void shouldComputeRequestsPerSecondOverRollingWindow() {
+        progressRenderer.start(1);
+        progressRenderer.stop();
+        long now = System.currentTimeMillis();
+        progressRenderer.throughput(now + 10_000);
+        for (int i = 0; i < 20; i++) {
+            progressRenderer.testCompleted(5);
+        }
+
+        Assertions.assertThat(progressRenderer.throughput(now + 12_000)).startsWith("10.0 req/s");
+    }
+
+    @Test
+    void shouldRenderOnlyWhenActivityIsShown() {
+        progressRenderer.render();
+        progressRenderer.showActivity(() -> "/pets HP  E 0, W 0, S 1");
+        progressRenderer.render();
+        progressRenderer.renderDone("/pets  E 0, W 0, S 1");
+
+        Assertions.assertThatNoException().isThrownBy(progressRenderer::render);
+    }
+}
@@ -0,0 +1,60 @@
+package dev.dochia.cli.core.report;
+
+import dev.dochia.cli.core.args.QualityGateArguments;
+import dev.dochia.cli.core.args.ReportingArguments;
+import dev.dochia.cli.core.context.GlobalContext;
+import dev.dochia.cli.core.model.HttpResponse;
+import dev.dochia.cli.core.model.TestCase;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+@QuarkusTest
+class TestCaseExporterTest {
+    private Path reportFolder;
+    private TestCaseExporter testCaseExporter;
+
+    @BeforeEach
+    void setup() throws IOException {
+        reportFolder = Files.createTempDirectory("exporter-test-temp");
+        ReportingArguments reportingArguments = Mockito.mock(ReportingArguments.class);
+        Mockito.when(reportingArguments.getMaskedHeaders()).thenReturn(Set.of());
+        testCaseExporter = new TestCaseExporterHtmlJs(reportingArguments, Mockito.mock(GlobalContext.class),
+                Mockito.mock(QualityGateArguments.class), Mockito.mock(ExecutionStatisticsListener.class));
+        testCaseExporter.initPath(reportFolder.toString());
+    }
+
+    @Test
+    void shouldRenumberTestCaseWrittenUnderProvisionalId() throws IOException {
+        TestCase testCase = new TestCase();
+        testCase.setTestId("Test 7");
+        testCase.setContractPath("/pets");
+        testCase.setPath("/pets");
+        testCase.setScenario("Send a happy flow request");
+        testCase.setResult("success");
+        testCase.setResultDetails("Everything went well");
+        testCase.setResponse(HttpResponse.builder().responseCode(200).httpMethod("POST").body("{\"id\": 1.50, \"tags\": [\"a\"]}")
+                .headers(List.of()).responseTimeInMs(12).build());
+        testCaseExporter.writeTestCase(testCase);
+        String expectedJson = Files.readString(reportFolder.resolve("Test7.json"));
+        Files.delete(reportFolder.resolve("Test7.json"));
+        Files.delete(reportFolder.resolve("Test7.html"));
+
+        testCase.setTestId("Pending Test 3");
+        testCaseExporter.writeTestCase(testCase);
+        testCaseExporter.renumberTestCase("Pending Test 3", "Test 7");
+
+        Assertions.assertThat(reportFolder.resolve("PendingTest3.json")).doesNotExist();
+        Assertions.assertThat(reportFolder.resolve("PendingTest3.html")).doesNotExist();
+        Assertions.assertThat(reportFolder.resolve("Test7.html")).content().contains("Test 7").doesNotContain("Pending");
+        Assertions.assertThat(reportFolder.resolve("Test7.json")).content().isEqualTo(expectedJson);
+    }
+}
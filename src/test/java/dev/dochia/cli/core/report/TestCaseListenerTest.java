@@ -24,18 +24,22 @@ import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.v3.oas.models.media.Discriminator;
 import io.swagger.v3.oas.models.media.StringSchema;
 import jakarta.inject.Inject;
+import jdk.jfr.consumer.RecordingFile;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
-import org.slf4j.MDC;
 import org.slf4j.event.Level;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -44,6 +48,11 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 @QuarkusTest
 class TestCaseListenerTest {
@@ -62,6 +71,7 @@ class TestCaseListenerTest {
     private PrettyLogger logger;
     private TestCasePlaybook testCasePlaybook;
     private TestReportsGenerator testReportsGenerator;
+    private ProgressJournal progressJournal;
 
 
     @BeforeEach
@@ -74,7 +84,8 @@ class TestCaseListenerTest {
         executionStatisticsListener = Mockito.mock(ExecutionStatisticsListener.class);
         ignoreArguments = Mockito.mock(IgnoreArguments.class);
         filterArguments = Mockito.mock(FilterArguments.class);
-        testCaseListener = new TestCaseListener(globalContext, executionStatisticsListener, testReportsGenerator, ignoreArguments, reportingArguments, filterArguments);
+        progressJournal = Mockito.mock(ProgressJournal.class);
+        testCaseListener = new TestCaseListener(globalContext, executionStatisticsListener, testReportsGenerator, ignoreArguments, reportingArguments, filterArguments, progressJournal, new MetricsRegistry(), new ProgressRenderer());
         globalContext.getDiscriminators().clear();
         globalContext.getPlaybooksConfiguration().clear();
         globalContext.getPostSuccessfulResponses().clear();
@@ -185,7 +196,6 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseErrors(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSuccess(Mockito.any());
-        MDC.remove(TestCaseListener.ID);
     }
 
     @Test
@@ -201,7 +211,6 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseErrors(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseWarns(Mockito.any());
-        MDC.remove(TestCaseListener.ID);
     }
 
     @Test
@@ -220,7 +229,6 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseWarns(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseErrors(Mockito.any());
-        MDC.remove(TestCaseListener.ID);
     }
 
     @Test
@@ -233,7 +241,6 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
 
-        MDC.remove(TestCaseListener.ID);
     }
 
     @Test
@@ -245,7 +252,6 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
 
-        MDC.remove(TestCaseListener.ID);
     }
 
     @Test
@@ -257,7 +263,6 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseWarns(Mockito.any());
 
-        MDC.remove(TestCaseListener.ID);
     }
 
     @Test
@@ -268,22 +273,20 @@ class TestCaseListenerTest {
         Mockito.when(data.getResponses()).thenReturn(Map.of("300", Collections.emptyList()));
         Mockito.when(data.getMethod()).thenReturn(HttpMethod.POST);
         Mockito.when(data.getPath()).thenReturn("/test");
-        MDC.put(TestCaseListener.ID, "1");
-        testCaseListener.testCaseMap.put("1", new TestCase());
-        testCaseListener.addRequest(HttpRequest.builder().httpMethod("method").build());
-
-        testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX);
-        Assertions.assertThat(globalContext.getPostSuccessfulResponses()).hasSize(1).containsKey("/test");
-        Assertions.assertThat(globalContext.getPostSuccessfulResponses().get("/test")).isNotEmpty();
+        TestCaseContext testCaseContext = testCaseListener.startTestCase(testCasePlaybook, data);
+        testCaseListener.executeTestCase(testCaseContext, logger, testCasePlaybook, _ -> {
+            testCaseListener.addRequest(HttpRequest.builder().httpMethod("method").build());
 
-        Mockito.when(data.getMethod()).thenReturn(HttpMethod.DELETE);
-        Mockito.when(data.getPath()).thenReturn("/test/{testId}");
-        testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX);
-        Assertions.assertThat(globalContext.getPostSuccessfulResponses()).hasSize(1).containsKey("/test");
-        Assertions.assertThat(globalContext.getPostSuccessfulResponses().get("/test")).isEmpty();
+            testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX);
+            Assertions.assertThat(globalContext.getPostSuccessfulResponses()).hasSize(1).containsKey("/test");
+            Assertions.assertThat(globalContext.getPostSuccessfulResponses().get("/test")).isNotEmpty();
 
-        MDC.remove(TestCaseListener.ID);
-        testCaseListener.testCaseMap.clear();
+            Mockito.when(data.getMethod()).thenReturn(HttpMethod.DELETE);
+            Mockito.when(data.getPath()).thenReturn("/test/{testId}");
+            testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX);
+            Assertions.assertThat(globalContext.getPostSuccessfulResponses()).hasSize(1).containsKey("/test");
+            Assertions.assertThat(globalContext.getPostSuccessfulResponses().get("/test")).isEmpty();
+        }, data);
     }
 
     @Test
@@ -294,7 +297,6 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseErrors(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSuccess(Mockito.any());
-        MDC.remove(TestCaseListener.ID);
     }
 
     @Test
@@ -308,7 +310,6 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseErrors(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
-        MDC.remove(TestCaseListener.ID);
     }
 
     @Test
@@ -322,7 +323,6 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseErrors(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
-        MDC.remove(TestCaseListener.ID);
     }
 
 
@@ -853,11 +853,47 @@ class TestCaseListenerTest {
         prepareTestCaseListenerSimpleSetup(HttpResponse.builder().build(), () -> Assertions.assertThat(testCaseListener.getTestIdentifier()).isNotNull());
     }
 
+    @Test
+    void shouldRecordResultsInTheSuppliedContext() {
+        PlaybookData data = PlaybookData.builder().contractPath("/test").method(HttpMethod.POST).build();
+        TestCaseContext first = testCaseListener.startTestCase(testCasePlaybook, data);
+        TestCaseContext second = testCaseListener.startTestCase(testCasePlaybook, data);
+
+        testCaseListener.executeTestCase(second, logger, testCasePlaybook, testCaseContext -> {
+            testCaseListener.addScenario(logger, "second scenario");
+            Assertions.assertThat(testCaseListener.getCurrentTestCaseNumber()).isEqualTo(2);
+        }, data);
+        testCaseListener.executeTestCase(first, logger, testCasePlaybook, testCaseContext -> testCaseListener.addScenario(testCaseContext, logger, "first scenario"), data);
+        testCaseListener.endTestCase(first);
+        testCaseListener.endTestCase(second);
+
+        Assertions.assertThat(first.getTestCase().getScenario()).isEqualTo("first scenario");
+        Assertions.assertThat(second.getTestCase().getScenario()).isEqualTo("second scenario");
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).hasSize(2);
+    }
+
+    @Test
+    void shouldExecuteTestCaseOnDifferentThread() throws Exception {
+        PlaybookData data = PlaybookData.builder().contractPath("/test").method(HttpMethod.POST).build();
+        TestCaseContext testCaseContext = testCaseListener.startTestCase(testCasePlaybook, data);
+
+        Thread thread = Thread.ofVirtual().start(() -> testCaseListener.executeTestCase(testCaseContext, logger, testCasePlaybook,
+                _ -> testCaseListener.addServer("http://localhost"), data));
+        thread.join();
+        testCaseListener.endTestCase(testCaseContext);
+
+        Assertions.assertThat(testCaseContext.getTestCase().getServer()).isEqualTo("http://localhost");
+    }
+
     @Test
     void shouldReturnCurrentPlaybook() {
-        testCaseListener.beforeFuzz(RandomResourcesPlaybook.class, "test", "post");
-        String currentPlaybook = testCaseListener.getCurrentPlaybook();
-        Assertions.assertThat(currentPlaybook).isEqualTo("RandomResources");
+        TestCasePlaybook randomResourcesPlaybook = new RandomResourcesPlaybook(null, null, null);
+        PlaybookData data = PlaybookData.builder().contractPath("/test").method(HttpMethod.POST).build();
+        TestCaseContext testCaseContext = testCaseListener.startTestCase(randomResourcesPlaybook, data);
+
+        testCaseListener.executeTestCase(testCaseContext, logger, randomResourcesPlaybook,
+                _ -> Assertions.assertThat(testCaseListener.getCurrentPlaybook()).isEqualTo("RandomResources"), data);
+        Assertions.assertThat(testCaseListener.getCurrentPlaybook()).isEqualTo("*******");
     }
 
     @Test
@@ -871,6 +907,113 @@ class TestCaseListenerTest {
         Mockito.verify(testCaseListenerSpy).notifySummaryObservers("/test");
     }
 
+    @Test
+    void shouldRenderPreviousPathAsDoneOnlyWhenNewPathStarts() {
+        Mockito.when(reportingArguments.isSummaryInConsole()).thenReturn(true);
+        Mockito.when(executionStatisticsListener.resultAsStringPerPath(Mockito.anyString())).thenReturn("E 0, W 0, S 1");
+
+        testCaseListener.notifySummaryObservers("/a");
+        testCaseListener.notifySummaryObservers("/a");
+        Mockito.verify(executionStatisticsListener, Mockito.never()).resultAsStringPerPath(Mockito.anyString());
+
+        testCaseListener.notifySummaryObservers("/b");
+        testCaseListener.notifySummaryObservers("/a");
+        Mockito.verify(executionStatisticsListener).resultAsStringPerPath("/a");
+        Mockito.verify(executionStatisticsListener, Mockito.never()).resultAsStringPerPath("/b");
+    }
+
+    @Test
+    void shouldRenderParallelPathsAsDoneInRunningOrder() {
+        Mockito.when(reportingArguments.isSummaryInConsole()).thenReturn(true);
+        Mockito.when(executionStatisticsListener.resultAsStringPerPath(Mockito.anyString())).thenReturn("E 0, W 0, S 1");
+        testCaseListener.startParallelProgress(List.of("/a", "/b", "/c"));
+
+        testCaseListener.notifyPathCompleted("/b");
+        testCaseListener.notifyPathCompleted("/c");
+        Mockito.verify(executionStatisticsListener, Mockito.never()).resultAsStringPerPath(Mockito.anyString());
+
+        testCaseListener.notifyPathCompleted("/a");
+        InOrder inOrder = Mockito.inOrder(executionStatisticsListener);
+        inOrder.verify(executionStatisticsListener).resultAsStringPerPath("/a");
+        inOrder.verify(executionStatisticsListener).resultAsStringPerPath("/b");
+        inOrder.verify(executionStatisticsListener).resultAsStringPerPath("/c");
+    }
+
+    @Test
+    void shouldNumberTestCasesInPathOrderWhenPathGroupsRunInParallel() throws Exception {
+        testCaseListener.startParallelProgress(List.of("/a", "/b"));
+        CountDownLatch secondGroupCompleted = new CountDownLatch(1);
+
+        try (ExecutorService workers = Executors.newFixedThreadPool(2)) {
+            Future<?> firstGroup = workers.submit(() -> {
+                this.runTestCase("/a");
+                Assertions.assertThat(secondGroupCompleted.await(10, TimeUnit.SECONDS)).isTrue();
+                Assertions.assertThat(testCaseListener.testCaseSummaryDetails).isEmpty();
+                this.runTestCase("/a");
+                testCaseListener.notifyPathCompleted("/a");
+                return null;
+            });
+            Future<?> secondGroup = workers.submit(() -> {
+                this.runTestCase("/b");
+                testCaseListener.notifyPathCompleted("/b");
+                secondGroupCompleted.countDown();
+            });
+            secondGroup.get();
+            firstGroup.get();
+        }
+
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).extracting(TestCaseSummary::getId, TestCaseSummary::getPath)
+                .containsExactly(Assertions.tuple("Test 1", "/a"), Assertions.tuple("Test 2", "/a"), Assertions.tuple("Test 3", "/b"));
+        Assertions.assertThat(TestCaseListener.TEST.get()).isEqualTo(3);
+        ArgumentCaptor<TestCase> written = ArgumentCaptor.forClass(TestCase.class);
+        ArgumentCaptor<String> finalIds = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(testReportsGenerator, Mockito.times(3)).writeTestCase(written.capture());
+        Mockito.verify(testReportsGenerator, Mockito.times(3)).renumberTestCase(Mockito.startsWith("Pending Test "), finalIds.capture());
+        Assertions.assertThat(written.getAllValues()).extracting(TestCase::getTestId).allMatch(testId -> testId.startsWith("Pending Test "));
+        Assertions.assertThat(finalIds.getAllValues()).containsExactly("Test 1", "Test 2", "Test 3");
+    }
+
+    @Test
+    void shouldWriteTestCasesOfPathsReportedLaterRightAway() {
+        testCaseListener.startParallelProgress(List.of("/a", "/b"));
+
+        this.runTestCase("/b");
+        testCaseListener.notifyPathCompleted("/b");
+
+        Mockito.verify(testReportsGenerator).writeTestCase(Mockito.argThat(testCase -> "Pending Test 1".equals(testCase.getTestId())));
+        Mockito.verify(testReportsGenerator, Mockito.never()).renumberTestCase(Mockito.anyString(), Mockito.anyString());
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).isEmpty();
+
+        testCaseListener.notifyPathCompleted("/a");
+
+        Mockito.verify(testReportsGenerator).renumberTestCase("Pending Test 1", "Test 1");
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).extracting(TestCaseSummary::getId).containsExactly("Test 1");
+    }
+
+    private void runTestCase(String path) {
+        testCaseListener.createAndExecuteTest(logger, testCasePlaybook, () -> {
+        }, PlaybookData.builder().path(path).contractPath(path).method(HttpMethod.GET).build());
+    }
+
+    @Test
+    void shouldRecordTestCasePhasesWhenEvaluationFails() throws Exception {
+        Path reportFolder = Files.createTempDirectory("dochia-jfr");
+        FlightRecording flightRecording = new FlightRecording();
+        PlaybookData brokenData = Mockito.mock(PlaybookData.class);
+        Mockito.when(brokenData.getPath()).thenThrow(new IllegalStateException("broken data"));
+
+        flightRecording.start(reportFolder.toString());
+        testCaseListener.createAndExecuteTest(logger, testCasePlaybook,
+                () -> testCaseListener.reportResult(logger, brokenData, HttpResponse.builder().responseCode(200).build(), ResponseCodeFamilyPredefined.TWOXX),
+                PlaybookData.builder().path("/pets").contractPath("/pets").method(HttpMethod.GET).build());
+        flightRecording.stop();
+
+        Assertions.assertThat(RecordingFile.readAllEvents(reportFolder.resolve(FlightRecording.RECORDING_FILE)))
+                .filteredOn(event -> event.getEventType().getName().equals("dev.dochia.TestCasePhase"))
+                .extracting(event -> event.getString("phase"))
+                .contains("PAYLOAD_MUTATION", "RESULT_EVALUATION");
+    }
+
     @Test
     void shouldContinueExecutionWhenNoFilteringEnabled() {
         Mockito.when(filterArguments.isOnly4xxPlaybooks()).thenReturn(false);
@@ -973,4 +1116,76 @@ class TestCaseListenerTest {
             runnable.run();
         }, PlaybookData.builder().build());
     }
+
+    @ParameterizedTest
+    @CsvSource({"error,1,0,0", "warning,0,1,0", "success,0,0,1"})
+    void shouldRecordPreviouslyExecutedTestCase(String result, int errors, int warnings, int successes) {
+        TestCase testCase = new TestCase();
+        testCase.setTestId("Test 23");
+        testCase.setResult(result);
+        testCase.setContractPath("/pets");
+        testCase.setPlaybook("HappyPath");
+        testCase.getRequest().setHttpMethod("POST");
+
+        testCaseListener.recordTestCase(testCase);
+
+        Assertions.assertThat(testCase.getTestId()).isEqualTo("Test 1");
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).hasSize(1);
+        Mockito.verify(testReportsGenerator).writeTestCase(testCase);
+        Mockito.verify(executionStatisticsListener, Mockito.times(errors)).increaseErrors("/pets");
+        Mockito.verify(executionStatisticsListener, Mockito.times(warnings)).increaseWarns("/pets");
+        Mockito.verify(executionStatisticsListener, Mockito.times(successes)).increaseSuccess("/pets");
+    }
+
+    @Test
+    void shouldRestoreTestCasesCompletedByPreviousRun() throws IOException {
+        Path reportFolder = Files.createTempDirectory("resume-test");
+        Files.copy(Path.of("src/test/resources/Test12.json"), reportFolder.resolve("Test12.json"));
+        Mockito.when(reportingArguments.getOutputReportFolder()).thenReturn(reportFolder.toString());
+        Mockito.when(progressJournal.getCompletedTestNumbers()).thenReturn(List.of(12, 13));
+        Mockito.when(progressJournal.getLastTestNumber()).thenReturn(15);
+
+        testCaseListener.restoreCompletedTestCases();
+
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).extracting(TestCaseSummary::getId).containsExactly("Test 12");
+        Mockito.verify(executionStatisticsListener).increaseSuccess(Mockito.any());
+        Mockito.verify(testReportsGenerator, Mockito.never()).writeTestCase(Mockito.any());
+        Assertions.assertThat(testCaseListener.getCurrentTestCaseNumber()).isEqualTo(15);
+    }
+
+    @Test
+    void shouldReuseNumbersOfTestsDiscardedFromPreviousRun() {
+        Mockito.when(reportingArguments.getOutputReportFolder()).thenReturn("not-existing");
+        Mockito.when(progressJournal.getLastTestNumber()).thenReturn(4);
+        Mockito.when(progressJournal.getReusableTestNumbers()).thenReturn(List.of(2, 4));
+        testCaseListener.restoreCompletedTestCases();
+
+        for (int i = 0; i < 3; i++) {
+            this.runTestCase("/pets");
+        }
+
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).extracting(TestCaseSummary::getId)
+                .containsExactly("Test 2", "Test 4", "Test 5");
+    }
+
+    @Test
+    void shouldJournalCompletedTestsAndUnits() {
+        PlaybookData data = PlaybookData.builder().path("/pets").contractPath("/pets").method(HttpMethod.POST).build();
+        TestCasePlaybook randomResourcesPlaybook = new RandomResourcesPlaybook(null, null, null);
+
+        testCaseListener.createAndExecuteTest(logger, randomResourcesPlaybook, () -> {
+        }, data);
+        testCaseListener.afterFuzz(RandomResourcesPlaybook.class, "/pets", "POST");
+
+        Mockito.verify(progressJournal).testCompleted("/pets", "POST", "RandomResources", 1);
+        Mockito.verify(progressJournal).unitCompleted("/pets", "POST", "RandomResources");
+    }
+
+    @Test
+    void shouldCheckUnitsCompletedByPreviousRun() {
+        Mockito.when(progressJournal.isCompleted("/pets", "POST", "RandomResources")).thenReturn(true);
+
+        Assertions.assertThat(testCaseListener.isCompletedInPreviousRun(RandomResourcesPlaybook.class, "/pets", "POST")).isTrue();
+        Assertions.assertThat(testCaseListener.isCompletedInPreviousRun(RandomResourcesPlaybook.class, "/pets", "GET")).isFalse();
+    }
 }
@@ -63,6 +63,64 @@ class DochiaRandomTest {
         }
     }
 
+    @Nested
+    @DisplayName("Unit Random Stream Tests")
+    class UnitRandomStreamTests {
+
+        @Test
+        @DisplayName("Should derive the same seed for the same keys regardless of previous usage")
+        void shouldDeriveSameSeedForSameKeys() {
+            DochiaRandom.initRandom(42L);
+            long first = DochiaRandom.deriveSeed("/pets", "POST");
+
+            DochiaRandom.instance().nextInt();
+            long other = DochiaRandom.deriveSeed("/pets", "GET");
+
+            assertThat(DochiaRandom.deriveSeed("/pets", "POST")).isEqualTo(first).isNotEqualTo(other);
+            assertThat(DochiaRandom.deriveSeed("/pets", "POST", "")).isNotEqualTo(first);
+        }
+
+        @Test
+        @DisplayName("Should use the unit random stream while running the unit")
+        void shouldUseUnitRandomStreamWhileRunning() {
+            Random global = DochiaRandom.instance();
+            long seed = DochiaRandom.deriveSeed("/pets", "POST");
+            int[] values = new int[2];
+
+            DochiaRandom.runWithSeed(seed, () -> values[0] = DochiaRandom.instance().nextInt());
+            global.nextInt();
+            DochiaRandom.runWithSeed(seed, () -> {
+                assertThat(DochiaRandom.instance()).isNotSameAs(global);
+                values[1] = DochiaRandom.instance().nextInt();
+            });
+
+            assertThat(values[1]).isEqualTo(values[0]);
+            assertThat(DochiaRandom.instance()).isSameAs(global);
+        }
+
+        @Test
+        @DisplayName("Should return the result of the unit")
+        void shouldReturnResultOfUnit() {
+            long seed = DochiaRandom.deriveSeed("/pets");
+
+            String first = DochiaRandom.callWithSeed(seed, () -> DochiaRandom.alphanumeric(10));
+            String second = DochiaRandom.callWithSeed(seed, () -> DochiaRandom.alphanumeric(10));
+
+            assertThat(first).hasSize(10).isEqualTo(second);
+        }
+
+        @Test
+        @DisplayName("Should derive nested seeds from the unit random stream")
+        void shouldDeriveNestedSeedsFromUnitStream() {
+            long outerSeed = DochiaRandom.deriveSeed("/pets");
+            long nestedSeed = DochiaRandom.callWithSeed(outerSeed, () -> DochiaRandom.deriveSeed("name"));
+            long otherNestedSeed = DochiaRandom.callWithSeed(DochiaRandom.deriveSeed("/users"), () -> DochiaRandom.deriveSeed("name"));
+
+            assertThat(nestedSeed).isNotEqualTo(DochiaRandom.deriveSeed("name")).isNotEqualTo(otherNestedSeed);
+            assertThat(DochiaRandom.callWithSeed(outerSeed, () -> DochiaRandom.deriveSeed("name"))).isEqualTo(nestedSeed);
+        }
+    }
+
     @Nested
     @DisplayName("Alphanumeric Generation Tests")
     class AlphanumericTests {
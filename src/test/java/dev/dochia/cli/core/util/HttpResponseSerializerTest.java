@@ -0,0 +1,71 @@
+package dev.dochia.cli.core.util;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import dev.dochia.cli.core.model.HttpResponse;
+import dev.dochia.cli.core.model.ann.ExcludeTestCaseStrategy;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+@QuarkusTest
+class HttpResponseSerializerTest {
+    private final Gson gson = new GsonBuilder()
+            .setPrettyPrinting()
+            .disableHtmlEscaping()
+            .setExclusionStrategies(new ExcludeTestCaseStrategy())
+            .registerTypeAdapterFactory(new HttpResponseSerializer())
+            .serializeNulls()
+            .create();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"id\": 1.50, \"name\": \"<b>dochia</b>\", \"tags\": [true, null, {\"a\": -2e3}]}",
+            "[1, 2, 3]", "{}", "  {\"nested\": {\"deep\": [[]]}}  ", "not a json", "{\"broken\": ", "{\"a\": 1} trailing", "12", "\"text\""})
+    void shouldSerializeUnparsedBodyAsParsedBody(String body) {
+        HttpResponse unparsed = response(body, false);
+        HttpResponse parsed = response(body, false);
+        parsed.getJsonBody();
+
+        String unparsedJson = gson.toJson(unparsed);
+
+        Assertions.assertThat(unparsedJson).isEqualTo(gson.toJson(parsed));
+        Assertions.assertThat(ReflectionTestUtils.getField(unparsed, "jsonBody")).isNull();
+    }
+
+    @Test
+    void shouldSerializeTruncatedBodyAsNotAJson() {
+        HttpResponse unparsed = response("{\"id\": 1, \"na", true);
+
+        String json = gson.toJson(unparsed);
+
+        Assertions.assertThat(json).contains("\"notAJson\": \"{\\\"id\\\": 1, \\\"na\"");
+        Assertions.assertThat(ReflectionTestUtils.getField(unparsed, "jsonBody")).isNull();
+    }
+
+    @Test
+    void shouldSerializeResponseWithoutBody() {
+        String json = gson.toJson(HttpResponse.builder().responseCode(204).headers(List.of()).build());
+
+        Assertions.assertThat(json).contains("\"responseCode\": 204", "\"jsonBody\": null");
+    }
+
+    @Test
+    void shouldReadSerializedResponse() {
+        HttpResponse unparsed = response("{\"id\": 1}", false);
+
+        HttpResponse read = gson.fromJson(gson.toJson(unparsed), HttpResponse.class);
+
+        Assertions.assertThat(read.getResponseCode()).isEqualTo(200);
+        Assertions.assertThat(read.getJsonBody()).hasToString("{\"id\":1}");
+    }
+
+    private static HttpResponse response(String body, boolean truncated) {
+        return HttpResponse.builder().responseCode(200).body(body).bodyTruncated(truncated)
+                .headers(List.of(new KeyValuePair<>("Content-Type", "application/json"))).build();
+    }
+}
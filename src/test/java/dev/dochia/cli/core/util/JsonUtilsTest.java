@@ -1,6 +1,8 @@
 package dev.dochia.cli.core.util;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -204,6 +206,32 @@ class JsonUtilsTest {
         Assertions.assertThat(result).isEqualTo(json);
     }
 
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {"{\"key\": \"value\"}", "  [1, 2, {\"key\": null}]", "{}", "\n[]"})
+    void shouldParseResponseSameAsValidatingAndParsing(String response) {
+        JsonElement result = JsonUtils.parseResponseAsJsonElement(response);
+
+        Assertions.assertThat(result).isEqualTo(JsonParser.parseString(JsonUtils.getAsJsonString(response)));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {"<html>error</html>", "{\"key\": ", "{key: value}", "{} trailing", "plain text", "42", "''"})
+    void shouldWrapResponseWhenNotJson(String response) {
+        JsonElement result = JsonUtils.parseResponseAsJsonElement(response);
+
+        Assertions.assertThat(result).isEqualTo(JsonParser.parseString(JsonUtils.getAsJsonString(response)));
+        Assertions.assertThat(result.getAsJsonObject().get("notAJson").getAsString()).isEqualTo(response);
+    }
+
+    @Test
+    void shouldKeepFirst500CharactersWhenNotJson() {
+        String response = "x".repeat(600);
+
+        JsonObject result = JsonUtils.getAsNotAJson(response);
+
+        Assertions.assertThat(result.get("notAJson").getAsString()).hasSize(500);
+    }
+
     @ParameterizedTest
     @CsvSource({"$.sort[name][lastName],$.['sort[name][lastName]']", "$.sort[*],$.sort[*]", "$.sort[10],$.sort[10]", "additionalData.riskdata.[customFieldName],additionalData.riskdata.['[customFieldName]']",
             "$.sort[*].sort[name],$.sort[*].['sort[name]']", "platform_kubernetes_attributes[api_url],['platform_kubernetes_attributes[api_url]']",
@@ -0,0 +1,85 @@
+package dev.dochia.cli.core.util;
+
+import com.google.common.hash.Hashing;
+import io.quarkus.test.junit.QuarkusTest;
+import org.apache.commons.lang3.StringUtils;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+@QuarkusTest
+class RepeatedValueTest {
+
+    @Test
+    void shouldBuildSmallValuesAsStrings() {
+        Assertions.assertThat(RepeatedValue.string("do", "ab", 3, "chia")).isEqualTo("doabababchia");
+        Assertions.assertThat(RepeatedValue.jsonArray("{\"a\":1}", 2)).isEqualTo("[{\"a\":1},{\"a\":1}]");
+    }
+
+    @Test
+    void shouldUsePlaceholderWithSizeAndHashForLargeValues() {
+        int repetitions = RepeatedValue.STREAMING_THRESHOLD / 4 + 1;
+
+        String placeholder = RepeatedValue.string("do", "fuz\"", repetitions, "chia");
+
+        String expectedJson = "\"do" + StringUtils.repeat("fuz\\\"", repetitions) + "chia\"";
+        byte[] expectedBytes = expectedJson.getBytes(StandardCharsets.UTF_8);
+        Assertions.assertThat(placeholder).hasSizeLessThan(400)
+                .contains("." + expectedBytes.length + ".")
+                .contains(Hashing.sha256().hashBytes(expectedBytes).toString());
+        Assertions.assertThat(RepeatedValue.isContainedIn("{\"field\":\"" + placeholder + "\"}")).isTrue();
+    }
+
+    @Test
+    void shouldWriteStringsEscapedAndQuoted() throws Exception {
+        RepeatedValue repeatedValue = RepeatedValue.fromPlaceholder(RepeatedValue.string("do", "ü\n", 600_000, "chia")).orElseThrow();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        repeatedValue.writeTo(out);
+
+        String expected = "\"do" + StringUtils.repeat("ü\\n", 600_000) + "chia\"";
+        Assertions.assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+        Assertions.assertThat(repeatedValue.size()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void shouldWriteArraysAsIs() throws Exception {
+        RepeatedValue repeatedValue = RepeatedValue.fromPlaceholder(RepeatedValue.jsonArray("{\"a\":1}", 200_000)).orElseThrow();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        repeatedValue.writeTo(out);
+
+        Assertions.assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[" + StringUtils.repeat("{\"a\":1}", ",", 200_000) + "]");
+        Assertions.assertThat(repeatedValue.size()).isEqualTo(out.size());
+    }
+
+    @Test
+    void shouldExpandPlaceholdersInPayload() {
+        String placeholder = RepeatedValue.string("do", "fuz\"", 300_000, "chia");
+
+        String expanded = RepeatedValue.expand("{\"field\":\"" + placeholder + "\",\"other\":1}");
+
+        Assertions.assertThat(expanded).isEqualTo("{\"field\":\"do" + StringUtils.repeat("fuz\\\"", 300_000) + "chia\",\"other\":1}");
+        Assertions.assertThat(RepeatedValue.expand("{\"field\":\"fuzz\"}")).isEqualTo("{\"field\":\"fuzz\"}");
+    }
+
+    @Test
+    void shouldExpandSingleValues() {
+        Assertions.assertThat(RepeatedValue.expandValue(RepeatedValue.string("do", "fuz\"", 300_000, "chia"))).isEqualTo("do" + StringUtils.repeat("fuz\"", 300_000) + "chia");
+        Assertions.assertThat(RepeatedValue.expandValue(RepeatedValue.jsonArray("1", 600_000))).isEqualTo("[" + StringUtils.repeat("1", ",", 600_000) + "]");
+        Assertions.assertThat(RepeatedValue.expandValue("fuzz")).isEqualTo("fuzz");
+    }
+
+    @Test
+    void shouldDescribeLargeValues() {
+        String placeholder = RepeatedValue.string("", "fuzz", RepeatedValue.STREAMING_THRESHOLD, "");
+
+        Assertions.assertThat(RepeatedValue.describe(placeholder)).hasValueSatisfying(description ->
+                Assertions.assertThat(description).startsWith(StringUtils.left(StringUtils.repeat("fuzz", 8), 30) + "... (")
+                        .contains(" bytes, sha256 "));
+        Assertions.assertThat(RepeatedValue.describe("fuzz")).isEmpty();
+        Assertions.assertThat(RepeatedValue.fromPlaceholder("dochia-repeated-value.1.abc.xyz")).isEmpty();
+    }
+}